@@ -15,11 +15,18 @@ public class KvMetadataMigrationCommand extends AbstractCommand {
     @Inject
     private Provider<MetadataMigrationService> metadataMigrationServiceProvider;
 
+    @CommandLine.Option(names = {"--inline-values"}, description = "Also rewrite the existing values small enough to be stored inline in their metadata")
+    private boolean inlineValues = false;
+
     @Override
     public Integer call() throws Exception {
         super.call();
         try {
             metadataMigrationServiceProvider.get().kvMigration();
+            if (inlineValues) {
+                long inlined = metadataMigrationServiceProvider.get().kvInlineMigration();
+                System.out.println("✅ " + inlined + " KV values stored inline.");
+            }
         } catch (Exception e) {
             System.err.println("❌ KV Metadata migration failed: " + e.getMessage());
             e.printStackTrace();
@@ -8,12 +8,14 @@ import io.kestra.core.models.namespaces.files.NamespaceFileMetadata;
 import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.repositories.KvMetadataRepositoryInterface;
 import io.kestra.core.repositories.NamespaceFileMetadataRepositoryInterface;
+import io.kestra.core.services.KVStoreService;
 import io.kestra.core.storages.FileAttributes;
 import io.kestra.core.storages.StorageContext;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.storages.kv.InternalKVStore;
 import io.kestra.core.storages.kv.KVEntry;
 import io.kestra.core.tenant.TenantService;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import java.io.FileNotFoundException;
@@ -38,6 +40,9 @@ public class MetadataMigrationService {
     protected StorageInterface storageInterface;
     protected KestraConfig kestraConfig;
 
+    @Inject
+    protected KVStoreService kvStoreService;
+
     @Singleton
     public MetadataMigrationService(FlowRepositoryInterface flowRepository, 
                                     TenantService tenantService,
@@ -95,6 +100,26 @@ public class MetadataMigrationService {
             }));
     }
 
+    /**
+     * Rewrites the existing KV values small enough to be stored inline in their metadata.
+     *
+     * @return the number of values rewritten inline.
+     */
+    public long kvInlineMigration() throws IOException {
+        return this.namespacesPerTenant().entrySet().stream()
+            .flatMap(namespacesForTenant -> namespacesForTenant.getValue().stream().map(namespace -> Map.entry(namespacesForTenant.getKey(), namespace)))
+            .map(throwFunction(namespaceForTenant -> {
+                InternalKVStore kvStore = kvStoreService.kvStore(namespaceForTenant.getKey(), namespaceForTenant.getValue());
+
+                return kvStore.list().stream()
+                    .map(throwFunction(kvEntry -> kvStore.inline(kvEntry.key())))
+                    .filter(Boolean::booleanValue)
+                    .count();
+            }))
+            .mapToLong(Long::longValue)
+            .sum();
+    }
+
     public void nsFilesMigration(boolean verbose) throws IOException {
         this.namespacesPerTenant().entrySet().stream()
             .flatMap(namespacesForTenant -> namespacesForTenant.getValue().stream().map(namespace -> Map.entry(namespacesForTenant.getKey(), namespace)))
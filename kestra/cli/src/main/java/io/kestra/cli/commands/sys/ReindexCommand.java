@@ -3,7 +3,9 @@ package io.kestra.cli.commands.sys;
 import io.kestra.cli.AbstractCommand;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.GenericFlow;
+import io.kestra.core.repositories.ExecutionRepositoryInterface;
 import io.kestra.core.repositories.FlowRepositoryInterface;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRepository;
 import io.micronaut.context.ApplicationContext;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +24,7 @@ public class ReindexCommand extends AbstractCommand {
     @Inject
     private ApplicationContext applicationContext;
 
-    @CommandLine.Option(names = {"-t", "--type"}, description = "The type of the records to reindex, only 'flow' is supported for now.")
+    @CommandLine.Option(names = {"-t", "--type"}, description = "The type of the records to reindex, 'flow' or 'execution-statistics'. Execution statistics must be reindexed while Kestra is stopped.")
     private String type;
 
     @Override
@@ -40,6 +42,15 @@ public class ReindexCommand extends AbstractCommand {
 
             stdOut("Successfully reindex " + allFlow.size() + " flow(s).");
         }
+        else if ("execution-statistics".equals(type)) {
+            if (!(applicationContext.getBean(ExecutionRepositoryInterface.class) instanceof AbstractJdbcExecutionRepository executionRepository)) {
+                throw new IllegalArgumentException("Reindexing type '" + type + "' is only supported by JDBC repositories");
+            }
+
+            int buckets = executionRepository.rebuildStatistics();
+
+            stdOut("Successfully reindex " + buckets + " execution statistics bucket(s).");
+        }
         else {
             throw new IllegalArgumentException("Reindexing type '" + type + "' is not supported");
         }
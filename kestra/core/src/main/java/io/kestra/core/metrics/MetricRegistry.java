@@ -17,7 +17,11 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 @Singleton
@@ -55,6 +59,14 @@ public class MetricRegistry {
     public static final String METRIC_WORKER_TRIGGER_EXECUTION_COUNT_DESCRIPTION = "The total number of triggers evaluated by the Worker";
     public static final String METRIC_WORKER_KILLED_COUNT = "worker.killed.count";
     public static final String METRIC_WORKER_KILLED_COUNT_DESCRIPTION = "The total number of executions killed events received the Executor";
+    public static final String METRIC_WORKER_VARIABLES_OFFLOADED_BYTES = "worker.variables.offloaded.bytes";
+    public static final String METRIC_WORKER_VARIABLES_OFFLOADED_BYTES_DESCRIPTION = "The total size of the worker task variables offloaded to the internal storage instead of being sent in the worker job";
+    public static final String METRIC_WORKER_CACHE_FILES_DOWNLOADED_BYTES = "worker.cache-files.downloaded.bytes";
+    public static final String METRIC_WORKER_CACHE_FILES_DOWNLOADED_BYTES_DESCRIPTION = "The total size of the cache files downloaded from the internal storage because they were missing or outdated in the Worker local cache";
+    public static final String METRIC_WORKER_JOB_PERMITS_AVAILABLE_COUNT = "worker.job.permits.available";
+    public static final String METRIC_WORKER_JOB_PERMITS_AVAILABLE_COUNT_DESCRIPTION = "The number of jobs that can still be started by the Worker in virtual-thread mode";
+    public static final String METRIC_WORKER_VIRTUAL_THREAD_PINNED_DURATION = "worker.virtual_thread.pinned.duration";
+    public static final String METRIC_WORKER_VIRTUAL_THREAD_PINNED_DURATION_DESCRIPTION = "Duration of the virtual threads pinned to their carrier thread inside the Worker";
 
     public static final String METRIC_EXECUTOR_THREAD_COUNT = "executor.thread.count";
     public static final String METRIC_EXECUTOR_THREAD_COUNT_DESCRIPTION = "The number of executor threads";
@@ -126,11 +138,22 @@ public class MetricRegistry {
     public static final String METRIC_STREAMS_STATE_COUNT = "stream.state.count";
     public static final String METRIC_STREAMS_STATE_COUNT_DESCRIPTION = "Number of Kafka Stream applications by state";
 
+    public static final String METRIC_PURGE_EXECUTIONS_COUNT = "purge.executions.count";
+    public static final String METRIC_PURGE_EXECUTIONS_COUNT_DESCRIPTION = "The total number of executions purged";
+    public static final String METRIC_PURGE_LOGS_COUNT = "purge.logs.count";
+    public static final String METRIC_PURGE_LOGS_COUNT_DESCRIPTION = "The total number of logs purged with their executions";
+    public static final String METRIC_PURGE_METRICS_COUNT = "purge.metrics.count";
+    public static final String METRIC_PURGE_METRICS_COUNT_DESCRIPTION = "The total number of metrics purged with their executions";
+    public static final String METRIC_PURGE_STORAGES_COUNT = "purge.storages.count";
+    public static final String METRIC_PURGE_STORAGES_COUNT_DESCRIPTION = "The total number of internal storage files purged with their executions";
+
     public static final String METRIC_JDBC_QUERY_DURATION = "jdbc.query.duration";
     public static final String METRIC_JDBC_QUERY_DURATION_DESCRIPTION = "Duration of database queries";
 
     public static final String METRIC_QUEUE_BIG_MESSAGE_COUNT = "queue.big_message.count";
     public static final String METRIC_QUEUE_BIG_MESSAGE_COUNT_DESCRIPTION = "Total number of big messages";
+    public static final String METRIC_QUEUE_CLAIM_CHECK_COUNT = "queue.claim_check.count";
+    public static final String METRIC_QUEUE_CLAIM_CHECK_COUNT_DESCRIPTION = "Total number of messages offloaded to the internal storage";
     public static final String METRIC_QUEUE_PRODUCE_COUNT = "queue.produce.count";
     public static final String METRIC_QUEUE_PRODUCE_COUNT_DESCRIPTION = "Total number of produced messages";
     public static final String METRIC_QUEUE_RECEIVE_DURATION = "queue.receive.duration";
@@ -161,14 +184,25 @@ public class MetricRegistry {
      */
     public static final String TAG_LABEL_PLACEHOLDER = "__none__";
 
-    @Inject
-    private MeterRegistry meterRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final MetricConfig metricConfig;
+
+    // meters already registered, so hot paths don't go through the Micrometer builders and registry lookup on each call
+    private final Map<MeterKey, Meter> meters = new ConcurrentHashMap<>();
 
     @Inject
-    private MetricConfig metricConfig;
+    public MetricRegistry(MeterRegistry meterRegistry, MetricConfig metricConfig) {
+        this.meterRegistry = meterRegistry;
+        this.metricConfig = metricConfig;
+
+        this.meterRegistry.config().onMeterRemoved(meter -> this.meters.values().removeIf(m -> m == meter));
+    }
 
     /**
      * Tracks a monotonically increasing value.
+     * <p>
+     * The counter is cached by name and tags, callers on hot paths with constant tags should keep the returned counter.
      *
      * @param name The base metric name
      * @param description The metric description
@@ -176,10 +210,11 @@ public class MetricRegistry {
      * @return A new or existing counter.
      */
     public Counter counter(String name, String description, String... tags) {
-        return Counter.builder(metricName(name))
+        return meter(Counter.class, name, tags, () -> Counter.builder(metricName(name))
             .description(description)
             .tags(tags)
-            .register(this.meterRegistry);
+            .register(this.meterRegistry)
+        );
     }
 
     /**
@@ -203,6 +238,8 @@ public class MetricRegistry {
 
     /**
      * Measures the time taken for short tasks and the count of these tasks.
+     * <p>
+     * The timer is cached by name and tags, callers on hot paths with constant tags should keep the returned timer.
      *
      * @param name The base metric name
      * @param description The metric description
@@ -210,14 +247,17 @@ public class MetricRegistry {
      * @return A new or existing timer.
      */
     public Timer timer(String name, String description, String... tags) {
-        return Timer.builder(metricName(name))
+        return meter(Timer.class, name, tags, () -> Timer.builder(metricName(name))
             .description(description)
             .tags(tags)
-            .register(this.meterRegistry);
+            .register(this.meterRegistry)
+        );
     }
 
     /**
      * Measures the distribution of samples.
+     * <p>
+     * The summary is cached by name and tags, callers on hot paths with constant tags should keep the returned summary.
      *
      * @param name The base metric name
      * @param description The metric description
@@ -225,10 +265,23 @@ public class MetricRegistry {
      * @return A new or existing distribution summary.
      */
     public DistributionSummary summary(String name, String description, String... tags) {
-        return DistributionSummary.builder(metricName(name))
+        return meter(DistributionSummary.class, name, tags, () -> DistributionSummary.builder(metricName(name))
             .description(description)
             .tags(tags)
-            .register(this.meterRegistry);
+            .register(this.meterRegistry)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private <M extends Meter> M meter(Class<M> type, String name, String[] tags, Supplier<M> register) {
+        MeterKey key = new MeterKey(type, name, tags);
+
+        Meter meter = this.meters.get(key);
+        if (meter == null) {
+            meter = this.meters.computeIfAbsent(key, k -> register.get());
+        }
+
+        return (M) meter;
     }
 
     /**
@@ -290,16 +343,14 @@ public class MetricRegistry {
      * @return tags to apply to metrics
      */
     public String[] tags(WorkerTask workerTask, String workerGroup, String... tags) {
-        var baseTags = ArrayUtils.addAll(
-            ArrayUtils.addAll(
-                this.tags(workerTask.getTask()),
-                tags
-            ),
-            TAG_NAMESPACE_ID, workerTask.getTaskRun().getNamespace(),
-            TAG_FLOW_ID, workerTask.getTaskRun().getFlowId()
-        );
-        baseTags = workerGroup == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_WORKER_GROUP, workerGroup);
-        return workerTask.getTaskRun().getTenantId() == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_TENANT_ID, workerTask.getTaskRun().getTenantId());
+        return TagsBuilder.of(tags.length + 10)
+            .add(TAG_TASK_TYPE, workerTask.getTask().getType())
+            .addAll(tags)
+            .add(TAG_NAMESPACE_ID, workerTask.getTaskRun().getNamespace())
+            .add(TAG_FLOW_ID, workerTask.getTaskRun().getFlowId())
+            .addIfNotNull(TAG_WORKER_GROUP, workerGroup)
+            .addIfNotNull(TAG_TENANT_ID, workerTask.getTaskRun().getTenantId())
+            .build();
     }
 
     /**
@@ -311,16 +362,16 @@ public class MetricRegistry {
      * @return tags to apply to metrics
      */
     public String[] tags(WorkerTrigger workerTrigger, String workerGroup, String... tags) {
-        var baseTags = ArrayUtils.addAll(
-            ArrayUtils.addAll(
-                this.tags(workerTrigger.getTrigger()),
-                tags
-            ),
-            TAG_NAMESPACE_ID, workerTrigger.getTriggerContext().getNamespace(),
-            TAG_FLOW_ID, workerTrigger.getTriggerContext().getFlowId()
-        );
-        baseTags = workerGroup == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_WORKER_GROUP, workerGroup);
-        return workerTrigger.getTriggerContext().getTenantId() == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_TENANT_ID, workerTrigger.getTriggerContext().getTenantId());
+        var labelTags = getLabelTags(workerTrigger.getTrigger().getLabels());
+        return TagsBuilder.of(tags.length + 10 + (labelTags == null ? 0 : labelTags.length))
+            .add(TAG_TRIGGER_TYPE, workerTrigger.getTrigger().getType())
+            .addAll(labelTags)
+            .addAll(tags)
+            .add(TAG_NAMESPACE_ID, workerTrigger.getTriggerContext().getNamespace())
+            .add(TAG_FLOW_ID, workerTrigger.getTriggerContext().getFlowId())
+            .addIfNotNull(TAG_WORKER_GROUP, workerGroup)
+            .addIfNotNull(TAG_TENANT_ID, workerTrigger.getTriggerContext().getTenantId())
+            .build();
     }
 
 
@@ -331,13 +382,13 @@ public class MetricRegistry {
      * @return tags to apply to metrics
      */
     public String[] tags(WorkerTaskResult workerTaskResult, String... tags) {
-        var baseTags = ArrayUtils.addAll(
-            tags,
-            TAG_NAMESPACE_ID, workerTaskResult.getTaskRun().getNamespace(),
-            TAG_FLOW_ID, workerTaskResult.getTaskRun().getFlowId(),
-            TAG_STATE, workerTaskResult.getTaskRun().getState().getCurrent().name()
-        );
-        return workerTaskResult.getTaskRun().getTenantId() == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_TENANT_ID, workerTaskResult.getTaskRun().getTenantId());
+        return TagsBuilder.of(tags.length + 8)
+            .addAll(tags)
+            .add(TAG_NAMESPACE_ID, workerTaskResult.getTaskRun().getNamespace())
+            .add(TAG_FLOW_ID, workerTaskResult.getTaskRun().getFlowId())
+            .add(TAG_STATE, workerTaskResult.getTaskRun().getState().getCurrent().name())
+            .addIfNotNull(TAG_TENANT_ID, workerTaskResult.getTaskRun().getTenantId())
+            .build();
     }
 
     /**
@@ -389,14 +440,14 @@ public class MetricRegistry {
      * @return tags to apply to metrics
      */
     public String[] tags(Execution execution) {
-        var baseTags = new String[]{
-            TAG_FLOW_ID, execution.getFlowId(),
-            TAG_NAMESPACE_ID, execution.getNamespace(),
-            TAG_STATE, execution.getState().getCurrent().name(),
-        };
-        var labelTags = getLabelTags(execution.getLabels());
-        var tenantTag = getTenantTag(execution.getTenantId());
-        return ArrayUtils.addAll(ArrayUtils.addAll(baseTags, labelTags), tenantTag);
+        List<String> labelKeys = metricConfig.getLabels();
+        return TagsBuilder.of(8 + (labelKeys == null ? 0 : labelKeys.size() * 2))
+            .add(TAG_FLOW_ID, execution.getFlowId())
+            .add(TAG_NAMESPACE_ID, execution.getNamespace())
+            .add(TAG_STATE, execution.getState().getCurrent().name())
+            .addAll(getLabelTags(execution.getLabels()))
+            .addIfNotNull(TAG_TENANT_ID, execution.getTenantId())
+            .build();
     }
 
     /**
@@ -449,10 +500,6 @@ public class MetricRegistry {
         }
     }
 
-    private String[] getTenantTag(@Nullable String tenantId) {
-        return tenantId == null ? null : new String[]{TAG_TENANT_ID, tenantId};
-    }
-
     /**
      * Speed-optimized version of {@link Label}s to tags conversion.
      * @param labels The labels to evaluate against configured keys
@@ -482,5 +529,73 @@ public class MetricRegistry {
 
         return tags;
     }
+
+    /**
+     * Builds a tag array with a single allocation when the expected size is right.
+     */
+    private static final class TagsBuilder {
+        private String[] tags;
+        private int size;
+
+        private TagsBuilder(int capacity) {
+            this.tags = new String[capacity];
+        }
+
+        static TagsBuilder of(int capacity) {
+            return new TagsBuilder(capacity);
+        }
+
+        TagsBuilder add(String key, String value) {
+            if (size + 2 > tags.length) {
+                tags = Arrays.copyOf(tags, Math.max(tags.length * 2, size + 2));
+            }
+            tags[size++] = key;
+            tags[size++] = value;
+            return this;
+        }
+
+        TagsBuilder addIfNotNull(String key, @Nullable String value) {
+            return value == null ? this : add(key, value);
+        }
+
+        TagsBuilder addAll(String @Nullable [] keyValues) {
+            if (keyValues != null) {
+                for (int i = 0; i + 1 < keyValues.length; i += 2) {
+                    add(keyValues[i], keyValues[i + 1]);
+                }
+            }
+            return this;
+        }
+
+        String[] build() {
+            return size == tags.length ? tags : Arrays.copyOf(tags, size);
+        }
+    }
+
+    private static final class MeterKey {
+        private final Class<? extends Meter> type;
+        private final String name;
+        private final String[] tags;
+        private final int hash;
+
+        MeterKey(Class<? extends Meter> type, String name, String[] tags) {
+            this.type = type;
+            this.name = name;
+            this.tags = tags;
+            this.hash = 31 * (31 * type.hashCode() + name.hashCode()) + Arrays.hashCode(tags);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MeterKey other)) return false;
+            return hash == other.hash && type == other.type && name.equals(other.name) && Arrays.equals(tags, other.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
 
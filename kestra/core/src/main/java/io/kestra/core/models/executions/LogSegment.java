@@ -0,0 +1,62 @@
+package io.kestra.core.models.executions;
+
+import io.kestra.core.models.HasUID;
+import io.kestra.core.models.TenantInterface;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Builder;
+import lombok.Value;
+import org.slf4j.event.Level;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Index entry of a compressed, time-ordered file of log entries of an execution stored in the internal storage.
+ * <p>
+ * It keeps the task runs, tasks, levels and time range of the entries of the segment, so most queries only read
+ * the segments that may contain matching entries.
+ */
+@Value
+@Builder(toBuilder = true)
+public class LogSegment implements TenantInterface, HasUID {
+    @NotNull
+    String id;
+
+    @Hidden
+    @Pattern(regexp = "^[a-z0-9][a-z0-9_-]*")
+    String tenantId;
+
+    @NotNull
+    String namespace;
+
+    @NotNull
+    String flowId;
+
+    @NotNull
+    String executionId;
+
+    @NotNull
+    URI uri;
+
+    @NotNull
+    Instant startDate;
+
+    @NotNull
+    Instant endDate;
+
+    int count;
+
+    Set<String> taskIds;
+
+    Set<String> taskRunIds;
+
+    Set<Level> levels;
+
+    @Override
+    public String uid() {
+        return id;
+    }
+}
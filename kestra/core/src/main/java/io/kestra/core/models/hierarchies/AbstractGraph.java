@@ -12,7 +12,7 @@ import lombok.ToString;
 @Getter
 @Introspected
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, property = "type", visible = true, include = JsonTypeInfo.As.EXISTING_PROPERTY)
-public abstract class AbstractGraph {
+public abstract class AbstractGraph implements Cloneable {
     @Setter
     protected String uid;
     @JsonInclude
@@ -46,6 +46,17 @@ public abstract class AbstractGraph {
         return this;
     }
 
+    /**
+     * Shallow copy of this node, sharing its task, trigger and cluster graph with the original.
+     */
+    public AbstractGraph copy() {
+        try {
+            return (AbstractGraph) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
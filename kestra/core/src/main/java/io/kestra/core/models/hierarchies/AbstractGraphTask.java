@@ -18,7 +18,8 @@ import java.util.Objects;
 public abstract class AbstractGraphTask extends AbstractGraph {
     @Setter
     private TaskInterface task;
-    private final TaskRun taskRun;
+    @Setter
+    private TaskRun taskRun;
     private final List<String> values;
     private final RelationType relationType;
 
@@ -12,7 +12,8 @@ import lombok.ToString;
 public abstract class AbstractGraphTrigger extends AbstractGraph {
     @Setter
     private TriggerInterface triggerDeclaration;
-    private final Trigger trigger;
+    @Setter
+    private Trigger trigger;
 
     public AbstractGraphTrigger(AbstractTrigger triggerDeclaration, Trigger trigger) {
         super();
@@ -53,7 +53,14 @@ public class PersistedKvMetadata implements SoftDeletable<PersistedKvMetadata>,
 
     private boolean deleted;
 
-    public PersistedKvMetadata(String tenantId, String namespace, String name, String description, Integer version, boolean last, @Nullable Instant expirationDate, @Nullable Instant created, @Nullable Instant updated, boolean deleted) {
+    /**
+     * The serialized value when it's small enough to be stored inline instead of in the internal storage.
+     */
+    @Hidden
+    @Nullable
+    private String inlineValue;
+
+    public PersistedKvMetadata(String tenantId, String namespace, String name, String description, Integer version, boolean last, @Nullable Instant expirationDate, @Nullable Instant created, @Nullable Instant updated, boolean deleted, @Nullable String inlineValue) {
         this.tenantId = tenantId;
         this.namespace = namespace;
         this.name = name;
@@ -64,6 +71,7 @@ public class PersistedKvMetadata implements SoftDeletable<PersistedKvMetadata>,
         this.created = Optional.ofNullable(created).orElse(Instant.now());
         this.updated = updated;
         this.deleted = deleted;
+        this.inlineValue = inlineValue;
     }
 
     public static PersistedKvMetadata from(String tenantId, KVEntry kvEntry) {
@@ -0,0 +1,44 @@
+package io.kestra.core.models.triggers.multipleflows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limits how often the expired windows of a tenant are looked up.
+ * <p>
+ * Expired windows are also skipped when evaluated, so they don't need to be purged on each execution.
+ */
+public class MultipleConditionExpiryThrottle {
+    private final Duration interval;
+
+    private final Map<String, Instant> nextLookups = new ConcurrentHashMap<>();
+
+    public MultipleConditionExpiryThrottle(Duration interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * @return the expired windows of the tenant, or an empty list if they have already been looked up during the interval.
+     */
+    public List<MultipleConditionWindow> expired(MultipleConditionStorageInterface multipleConditionStorage, String tenantId) {
+        String key = String.valueOf(tenantId);
+        Instant now = Instant.now();
+        Instant next = nextLookups.get(key);
+        if (next != null && now.isBefore(next)) {
+            return List.of();
+        }
+
+        // only one caller looks up the expired windows when several are due at the same time
+        boolean claimed = next == null ?
+            nextLookups.putIfAbsent(key, now.plus(interval)) == null :
+            nextLookups.replace(key, next, now.plus(interval));
+        if (!claimed) {
+            return List.of();
+        }
+
+        return multipleConditionStorage.expired(tenantId);
+    }
+}
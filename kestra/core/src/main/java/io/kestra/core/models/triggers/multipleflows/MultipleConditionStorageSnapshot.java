@@ -0,0 +1,55 @@
+package io.kestra.core.models.triggers.multipleflows;
+
+import io.kestra.core.models.flows.FlowId;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link MultipleConditionStorageInterface} remembering the windows it has read or written,
+ * so the evaluation of the flow triggers for a single execution reads each window only once.
+ * <p>
+ * Writes go directly to the underlying storage, except for the windows identical to the ones it has read. It must not outlive the evaluation it was created for,
+ * as it doesn't see the changes made by other executors.
+ */
+public class MultipleConditionStorageSnapshot implements MultipleConditionStorageInterface {
+    private final MultipleConditionStorageInterface delegate;
+
+    private final Map<String, Optional<MultipleConditionWindow>> windows = new HashMap<>();
+
+    public MultipleConditionStorageSnapshot(MultipleConditionStorageInterface delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<MultipleConditionWindow> get(FlowId flow, String conditionId) {
+        return windows.computeIfAbsent(MultipleConditionWindow.uid(flow, conditionId), ignored -> delegate.get(flow, conditionId));
+    }
+
+    @Override
+    public List<MultipleConditionWindow> expired(String tenantId) {
+        return delegate.expired(tenantId);
+    }
+
+    @Override
+    public void save(List<MultipleConditionWindow> multipleConditionWindows) {
+        List<MultipleConditionWindow> changed = multipleConditionWindows.stream()
+            .filter(window -> !Optional.of(window).equals(windows.get(window.uid())))
+            .toList();
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        delegate.save(new ArrayList<>(changed));
+        changed.forEach(window -> windows.put(window.uid(), Optional.of(window)));
+    }
+
+    @Override
+    public void delete(MultipleConditionWindow multipleConditionWindow) {
+        delegate.delete(multipleConditionWindow);
+        windows.put(multipleConditionWindow.uid(), Optional.empty());
+    }
+}
@@ -0,0 +1,106 @@
+package io.kestra.core.plugins;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.models.Plugin;
+import io.kestra.core.serializers.JacksonMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A persistent index of the plugins discovered in an {@link ExternalPlugin}, keyed by the checksum of its jar.
+ * <p>
+ * It allows the {@link PluginScanner} to load the plugin classes directly instead of looking them up
+ * with the {@link java.util.ServiceLoader} and walking the guides on each startup when the jar is unchanged.
+ * The index is stored in the {@value #INDEX_DIRECTORY} directory of the plugin path; a missing, stale or
+ * unreadable index only means the plugins are scanned.
+ *
+ * @param checksum the {@link ExternalPlugin#getCrc32()} of the indexed jar.
+ * @param plugins  the class names of the plugins.
+ * @param guides   the guides of the plugins.
+ */
+@Slf4j
+record PluginIndex(Long checksum, List<String> plugins, List<String> guides) {
+    static final String INDEX_DIRECTORY = ".index";
+
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+
+    List<Class<? extends Plugin>> loadClasses(ClassLoader classLoader) throws ClassNotFoundException {
+        List<Class<? extends Plugin>> classes = new ArrayList<>(plugins.size());
+        for (String plugin : plugins) {
+            // don't initialize the class, it will be done on first use
+            classes.add(Class.forName(plugin, false, classLoader).asSubclass(Plugin.class));
+        }
+
+        return classes;
+    }
+
+    static Optional<PluginIndex> read(Path indexDirectory, ExternalPlugin externalPlugin) {
+        Optional<Path> path = path(indexDirectory, externalPlugin);
+        if (path.isEmpty() || !Files.isRegularFile(path.get())) {
+            return Optional.empty();
+        }
+
+        try {
+            PluginIndex index = MAPPER.readValue(path.get().toFile(), PluginIndex.class);
+            if (!externalPlugin.getCrc32().equals(index.checksum()) || index.plugins() == null || index.guides() == null) {
+                return Optional.empty();
+            }
+
+            return Optional.of(index);
+        } catch (IOException e) {
+            log.debug("Unable to read plugin index '{}'", path.get(), e);
+            return Optional.empty();
+        }
+    }
+
+    static void write(Path indexDirectory, ExternalPlugin externalPlugin, List<Class<? extends Plugin>> plugins, List<String> guides) {
+        Optional<Path> path = path(indexDirectory, externalPlugin);
+        if (path.isEmpty()) {
+            return;
+        }
+
+        PluginIndex index = new PluginIndex(
+            externalPlugin.getCrc32(),
+            plugins.stream().map(Class::getName).toList(),
+            guides
+        );
+
+        try {
+            Files.createDirectories(indexDirectory);
+
+            // write then move so a concurrent startup never reads a partial index
+            Path temp = Files.createTempFile(indexDirectory, path.get().getFileName().toString(), ".tmp");
+            try {
+                MAPPER.writeValue(temp.toFile(), index);
+                Files.move(temp, path.get(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            // the plugin path may be read-only
+            log.debug("Unable to write plugin index '{}'", path.get(), e);
+        }
+    }
+
+    private static Optional<Path> path(Path indexDirectory, ExternalPlugin externalPlugin) {
+        // a checksum can only be computed for a jar
+        if (externalPlugin.getCrc32() == -1) {
+            return Optional.empty();
+        }
+
+        try {
+            String fileName = Path.of(externalPlugin.getLocation().toURI()).getFileName().toString();
+            return Optional.of(indexDirectory.resolve(fileName + ".json"));
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -35,6 +35,10 @@ public class PluginResolver {
         return lowerCased.endsWith(".jar") || lowerCased.endsWith(".zip");
     }
 
+    private static boolean isIndexDirectory(final Path path) {
+        return path.getFileName().toString().equals(PluginIndex.INDEX_DIRECTORY);
+    }
+
     private static boolean isClassFile(final Path path) {
         return path.toString().toLowerCase().endsWith(".class");
     }
@@ -44,7 +48,7 @@ public class PluginResolver {
         try (
             final DirectoryStream<Path> paths = Files.newDirectoryStream(
                 pluginPath,
-                entry -> Files.isDirectory(entry) || isArchiveFile(entry)
+                entry -> (Files.isDirectory(entry) && !isIndexDirectory(entry)) || isArchiveFile(entry)
             )
         ) {
             for (Path path : paths) {
@@ -67,7 +67,7 @@ public class PluginScanner {
                     classLoader
                 );
 
-                return scanClassLoader(classLoader, plugin, null);
+                return scanExternalPlugin(classLoader, plugin, pluginPaths.resolve(PluginIndex.INDEX_DIRECTORY));
             })
             .filter(RegisteredPlugin::isValid)
             .toList();
@@ -100,110 +100,46 @@ public class PluginScanner {
 
     }
 
-    @SuppressWarnings("unchecked")
+    private RegisteredPlugin scanExternalPlugin(final ClassLoader classLoader,
+                                                final ExternalPlugin externalPlugin,
+                                                final Path indexDirectory) {
+        Optional<PluginIndex> index = PluginIndex.read(indexDirectory, externalPlugin);
+        if (index.isPresent()) {
+            try {
+                log.debug("Loading plugins from index of '{}'", externalPlugin.getLocation());
+                return registeredPlugin(classLoader, externalPlugin, getManifest(classLoader), index.get().loadClasses(classLoader), index.get().guides());
+            } catch (ClassNotFoundException | LinkageError | ClassCastException e) {
+                log.warn("Invalid plugin index for '{}', plugins will be scanned", externalPlugin.getLocation(), e);
+            }
+        }
+
+        Scan scan = scanPlugins(classLoader, externalPlugin);
+        if (scan.complete()) {
+            PluginIndex.write(indexDirectory, externalPlugin, scan.plugins(), scan.guides());
+        }
+
+        return registeredPlugin(classLoader, externalPlugin, null, scan.plugins(), scan.guides());
+    }
+
     private RegisteredPlugin scanClassLoader(final ClassLoader classLoader,
                                              final ExternalPlugin externalPlugin,
                                              Manifest manifest) {
-        List<Class<? extends Task>> tasks = new ArrayList<>();
-        List<Class<? extends AbstractTrigger>> triggers = new ArrayList<>();
-        List<Class<? extends Condition>> conditions = new ArrayList<>();
-        List<Class<? extends StorageInterface>> storages = new ArrayList<>();
-        List<Class<? extends SecretPluginInterface>> secrets = new ArrayList<>();
-        List<Class<? extends TaskRunner<?>>> taskRunners = new ArrayList<>();
-        List<Class<? extends Asset>> assets = new ArrayList<>();
-        List<Class<? extends AssetExporter<?>>> assetExporters = new ArrayList<>();
-        List<Class<? extends AppPluginInterface>> apps = new ArrayList<>();
-        List<Class<? extends AppBlockInterface>> appBlocks = new ArrayList<>();
-        List<Class<? extends Chart<?>>> charts = new ArrayList<>();
-        List<Class<? extends DataFilter<?, ?>>> dataFilters = new ArrayList<>();
-        List<Class<? extends DataFilterKPI<?, ?>>> dataFiltersKPI = new ArrayList<>();
-        List<Class<? extends LogExporter<?>>> logExporter = new ArrayList<>();
-        List<Class<? extends AdditionalPlugin>> additionalPlugins = new ArrayList<>();
-        List<String> guides = new ArrayList<>();
-        Map<String, Class<?>> aliases = new HashMap<>();
+        Scan scan = scanPlugins(classLoader, externalPlugin);
+        return registeredPlugin(classLoader, externalPlugin, manifest, scan.plugins(), scan.guides());
+    }
 
-        if (manifest == null) {
-            manifest = getManifest(classLoader);
-        }
+    private Scan scanPlugins(final ClassLoader classLoader, final ExternalPlugin externalPlugin) {
+        List<Class<? extends Plugin>> plugins = new ArrayList<>();
+        boolean complete = true;
 
+        // only load the plugin classes, there is no need to instantiate them
         final ServiceLoader<Plugin> sl = ServiceLoader.load(Plugin.class, classLoader);
         try {
-            for (Plugin plugin : sl) {
-                if (plugin.getClass().isAnnotationPresent(Hidden.class)) {
-                    continue;
-                }
-
-                switch (plugin) {
-                    case Task task -> {
-                        log.debug("Loading Task plugin: '{}'", plugin.getClass());
-                        tasks.add(task.getClass());
-                    }
-                    case AbstractTrigger trigger -> {
-                        log.debug("Loading Trigger plugin: '{}'", plugin.getClass());
-                        triggers.add(trigger.getClass());
-                    }
-                    case Condition condition -> {
-                        log.debug("Loading Condition plugin: '{}'", plugin.getClass());
-                        conditions.add(condition.getClass());
-                    }
-                    case StorageInterface storage -> {
-                        log.debug("Loading Storage plugin: '{}'", plugin.getClass());
-                        storages.add(storage.getClass());
-                    }
-                    case SecretPluginInterface storage -> {
-                        log.debug("Loading Secret plugin: '{}'", plugin.getClass());
-                        secrets.add(storage.getClass());
-                    }
-                    case TaskRunner<?> runner -> {
-                        log.debug("Loading TaskRunner plugin: '{}'", plugin.getClass());
-                        //noinspection unchecked
-                        taskRunners.add((Class<? extends TaskRunner<?>>) runner.getClass());
-                    }
-                    case Asset asset -> {
-                        log.debug("Loading Asset plugin: '{}'", plugin.getClass());
-                        assets.add(asset.getClass());
-                    }
-                    case AssetExporter<?> assetExporter -> {
-                        log.debug("Loading AssetExporter plugin: '{}'", plugin.getClass());
-                        //noinspection unchecked
-                        assetExporters.add((Class<? extends AssetExporter<?>>) assetExporter.getClass());
-                    }
-                    case AppPluginInterface app -> {
-                        log.debug("Loading App plugin: '{}'", plugin.getClass());
-                        apps.add(app.getClass());
-                    }
-                    case AppBlockInterface appBlock -> {
-                        log.debug("Loading AppBlock plugin: '{}'", plugin.getClass());
-                        appBlocks.add(appBlock.getClass());
-                    }
-                    case Chart<?> chart -> {
-                        log.debug("Loading Chart plugin: '{}'", plugin.getClass());
-                        //noinspection unchecked
-                        charts.add((Class<? extends Chart<?>>) chart.getClass());
-                    }
-                    case DataFilter<?, ?> dataFilter -> {
-                        log.debug("Loading DataFilter plugin: '{}'", plugin.getClass());
-                        //noinspection unchecked
-                        dataFilters.add((Class<? extends DataFilter<?, ?>>)  dataFilter.getClass());
-                    }
-                    case DataFilterKPI<?, ?> dataFilterKPI -> {
-                        log.debug("Loading DataFilterKPI plugin: '{}'", plugin.getClass());
-                        //noinspection unchecked
-                        dataFiltersKPI.add((Class<? extends DataFilterKPI<?, ?>>)  dataFilterKPI.getClass());
-                    }
-                    case LogExporter<?> shipper -> {
-                        log.debug("Loading LogExporter plugin: '{}'", plugin.getClass());
-                        logExporter.add((Class<? extends LogExporter<?>>)  shipper.getClass());
-                    }
-                    case AdditionalPlugin additionalPlugin -> {
-                        log.debug("Loading additional plugin: '{}'", plugin.getClass());
-                        additionalPlugins.add(additionalPlugin.getClass());
-                    }
-                    default -> {
-                    }
+            for (ServiceLoader.Provider<Plugin> provider : (Iterable<ServiceLoader.Provider<Plugin>>) sl.stream()::iterator) {
+                Class<? extends Plugin> plugin = provider.type();
+                if (!plugin.isAnnotationPresent(Hidden.class)) {
+                    plugins.add(plugin);
                 }
-
-                Plugin.getAliases(plugin.getClass()).forEach(alias -> aliases.put(alias, plugin.getClass()));
             }
         } catch (ServiceConfigurationError | NoClassDefFoundError e) {
             Object location = externalPlugin != null ? externalPlugin.getLocation() : "core";
@@ -213,8 +149,10 @@ public class PluginScanner {
                 e.getMessage(),
                 e
             );
+            complete = false;
         }
 
+        List<String> guides = new ArrayList<>();
         var guidesDirectory = classLoader.getResource("doc/guides");
         if (guidesDirectory != null) {
             try {
@@ -227,6 +165,87 @@ public class PluginScanner {
             }
         }
 
+        return new Scan(plugins, guides, complete);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RegisteredPlugin registeredPlugin(final ClassLoader classLoader,
+                                              final ExternalPlugin externalPlugin,
+                                              Manifest manifest,
+                                              final List<Class<? extends Plugin>> plugins,
+                                              final List<String> guides) {
+        List<Class<? extends Task>> tasks = new ArrayList<>();
+        List<Class<? extends AbstractTrigger>> triggers = new ArrayList<>();
+        List<Class<? extends Condition>> conditions = new ArrayList<>();
+        List<Class<? extends StorageInterface>> storages = new ArrayList<>();
+        List<Class<? extends SecretPluginInterface>> secrets = new ArrayList<>();
+        List<Class<? extends TaskRunner<?>>> taskRunners = new ArrayList<>();
+        List<Class<? extends Asset>> assets = new ArrayList<>();
+        List<Class<? extends AssetExporter<?>>> assetExporters = new ArrayList<>();
+        List<Class<? extends AppPluginInterface>> apps = new ArrayList<>();
+        List<Class<? extends AppBlockInterface>> appBlocks = new ArrayList<>();
+        List<Class<? extends Chart<?>>> charts = new ArrayList<>();
+        List<Class<? extends DataFilter<?, ?>>> dataFilters = new ArrayList<>();
+        List<Class<? extends DataFilterKPI<?, ?>>> dataFiltersKPI = new ArrayList<>();
+        List<Class<? extends LogExporter<?>>> logExporter = new ArrayList<>();
+        List<Class<? extends AdditionalPlugin>> additionalPlugins = new ArrayList<>();
+        Map<String, Class<?>> aliases = new HashMap<>();
+
+        if (manifest == null) {
+            manifest = getManifest(classLoader);
+        }
+
+        for (Class<? extends Plugin> plugin : plugins) {
+            if (Task.class.isAssignableFrom(plugin)) {
+                log.debug("Loading Task plugin: '{}'", plugin);
+                tasks.add((Class<? extends Task>) plugin);
+            } else if (AbstractTrigger.class.isAssignableFrom(plugin)) {
+                log.debug("Loading Trigger plugin: '{}'", plugin);
+                triggers.add((Class<? extends AbstractTrigger>) plugin);
+            } else if (Condition.class.isAssignableFrom(plugin)) {
+                log.debug("Loading Condition plugin: '{}'", plugin);
+                conditions.add((Class<? extends Condition>) plugin);
+            } else if (StorageInterface.class.isAssignableFrom(plugin)) {
+                log.debug("Loading Storage plugin: '{}'", plugin);
+                storages.add((Class<? extends StorageInterface>) plugin);
+            } else if (SecretPluginInterface.class.isAssignableFrom(plugin)) {
+                log.debug("Loading Secret plugin: '{}'", plugin);
+                secrets.add((Class<? extends SecretPluginInterface>) plugin);
+            } else if (TaskRunner.class.isAssignableFrom(plugin)) {
+                log.debug("Loading TaskRunner plugin: '{}'", plugin);
+                taskRunners.add((Class<? extends TaskRunner<?>>) plugin);
+            } else if (Asset.class.isAssignableFrom(plugin)) {
+                log.debug("Loading Asset plugin: '{}'", plugin);
+                assets.add((Class<? extends Asset>) plugin);
+            } else if (AssetExporter.class.isAssignableFrom(plugin)) {
+                log.debug("Loading AssetExporter plugin: '{}'", plugin);
+                assetExporters.add((Class<? extends AssetExporter<?>>) plugin);
+            } else if (AppPluginInterface.class.isAssignableFrom(plugin)) {
+                log.debug("Loading App plugin: '{}'", plugin);
+                apps.add((Class<? extends AppPluginInterface>) plugin);
+            } else if (AppBlockInterface.class.isAssignableFrom(plugin)) {
+                log.debug("Loading AppBlock plugin: '{}'", plugin);
+                appBlocks.add((Class<? extends AppBlockInterface>) plugin);
+            } else if (Chart.class.isAssignableFrom(plugin)) {
+                log.debug("Loading Chart plugin: '{}'", plugin);
+                charts.add((Class<? extends Chart<?>>) plugin);
+            } else if (DataFilter.class.isAssignableFrom(plugin)) {
+                log.debug("Loading DataFilter plugin: '{}'", plugin);
+                dataFilters.add((Class<? extends DataFilter<?, ?>>) plugin);
+            } else if (DataFilterKPI.class.isAssignableFrom(plugin)) {
+                log.debug("Loading DataFilterKPI plugin: '{}'", plugin);
+                dataFiltersKPI.add((Class<? extends DataFilterKPI<?, ?>>) plugin);
+            } else if (LogExporter.class.isAssignableFrom(plugin)) {
+                log.debug("Loading LogExporter plugin: '{}'", plugin);
+                logExporter.add((Class<? extends LogExporter<?>>) plugin);
+            } else if (AdditionalPlugin.class.isAssignableFrom(plugin)) {
+                log.debug("Loading additional plugin: '{}'", plugin);
+                additionalPlugins.add((Class<? extends AdditionalPlugin>) plugin);
+            }
+
+            Plugin.getAliases(plugin).forEach(alias -> aliases.put(alias, plugin));
+        }
+
         return RegisteredPlugin.builder()
             .externalPlugin(externalPlugin)
             .manifest(manifest)
@@ -254,6 +273,9 @@ public class PluginScanner {
             .build();
     }
 
+    private record Scan(List<Class<? extends Plugin>> plugins, List<String> guides, boolean complete) {
+    }
+
     private static void addGuidesThroughNewFileSystem(URL guidesDirectory, List<String> guides) {
         try (var fileSystem = FileSystems.newFileSystem(guidesDirectory.toURI(), Collections.emptyMap())) {
             var root = fileSystem.getPath("doc/guides");
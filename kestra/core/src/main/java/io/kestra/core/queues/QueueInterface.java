@@ -15,6 +15,19 @@ public interface QueueInterface<T> extends Closeable, Pauseable {
 
     void emit(String consumerGroup, T message) throws QueueException;
 
+    default void emit(List<T> messages) throws QueueException {
+        emit(null, messages);
+    }
+
+    /**
+     * Emit multiple messages at once, implementations may store them in a single operation.
+     */
+    default void emit(String consumerGroup, List<T> messages) throws QueueException {
+        for (T message : messages) {
+            emit(consumerGroup, message);
+        }
+    }
+
     default void emitAsync(T message) throws QueueException {
         emitAsync(null, message);
     }
@@ -52,6 +65,11 @@ public interface QueueInterface<T> extends Closeable, Pauseable {
         return receive(consumerGroup, consumer, true);
     }
 
+    /**
+     * Consumes the queue until the returned runnable is called.
+     *
+     * @return a runnable stopping the consumer, it returns once the consumer no longer processes any message.
+     */
     Runnable receive(String consumerGroup, Consumer<Either<T, DeserializationException>> consumer, boolean forUpdate);
 
     default Runnable receive(Class<?> queueType, Consumer<Either<T, DeserializationException>> consumer) {
@@ -8,6 +8,7 @@ import io.kestra.core.models.dashboards.charts.DataChart;
 import io.kestra.core.models.dashboards.charts.DataChartKPI;
 import io.micronaut.data.model.Pageable;
 import jakarta.annotation.Nullable;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
 import java.time.ZonedDateTime;
@@ -44,5 +45,18 @@ public interface DashboardRepositoryInterface {
 
     <F extends Enum<F>> ArrayListTotal<Map<String, Object>> generate(String tenantId, DataChart<?, DataFilter<F, ? extends ColumnDescriptor<F>>> dataChart, ZonedDateTime startDate, ZonedDateTime endDate, Pageable pageable) throws IOException;
 
+    /**
+     * Streams the data of a chart, to export it without loading it in memory.
+     */
+    default <F extends Enum<F>> Flux<Map<String, Object>> stream(String tenantId, DataChart<?, DataFilter<F, ? extends ColumnDescriptor<F>>> dataChart, ZonedDateTime startDate, ZonedDateTime endDate, Pageable pageable) {
+        return Flux.defer(() -> {
+            try {
+                return Flux.fromIterable(this.generate(tenantId, dataChart, startDate, endDate, pageable));
+            } catch (IOException e) {
+                return Flux.error(e);
+            }
+        });
+    }
+
     <F extends Enum<F>> List<Map<String, Object>> generateKPI(String tenantId, DataChartKPI<?, DataFilterKPI<F, ? extends ColumnDescriptor<F>>> dataChart, ZonedDateTime startDate, ZonedDateTime endDate) throws IOException;
 }
@@ -91,6 +91,25 @@ public interface ExecutionRepositoryInterface extends SaveRepositoryInterface<Ex
         boolean allowDeleted
     );
 
+    /**
+     * Finds the executions to be purged for the given criteria.
+     * <p>
+     * Only the identifying fields of the returned executions are guaranteed to be set: id, tenant, namespace and flow id.
+     * Implementations should avoid loading the full execution documents.
+     *
+     * @return a {@link Flux} of executions with only their identifying fields.
+     */
+    default Flux<Execution> findForPurge(
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state
+    ) {
+        return find(null, tenantId, null, namespace, flowId, startDate, endDate, state, null, null, null, true);
+    }
+
     Flux<Execution> findAllAsync(@Nullable String tenantId);
 
     Flux<Execution> findAsync(String tenantId, List<QueryFilter> filters);
@@ -6,8 +6,10 @@ import io.kestra.core.models.kv.PersistedKvMetadata;
 import io.micronaut.data.model.Pageable;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 public interface KvMetadataRepositoryInterface extends SaveRepositoryInterface<PersistedKvMetadata> {
     Optional<PersistedKvMetadata> findByName(
@@ -16,6 +18,48 @@ public interface KvMetadataRepositoryInterface extends SaveRepositoryInterface<P
         String name
     ) throws IOException;
 
+    /**
+     * Finds the latest metadata of multiple keys of the same namespace at once.
+     * Deleted keys are returned so callers can check it like with {@link #findByName(String, String, String)}.
+     */
+    default List<PersistedKvMetadata> findByNames(
+        String tenantId,
+        String namespace,
+        List<String> names
+    ) throws IOException {
+        List<PersistedKvMetadata> result = new ArrayList<>();
+        for (String name : names) {
+            this.findByName(tenantId, namespace, name).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    /**
+     * Saves a new version of multiple keys at once, like {@link #save(Object)} would for each of them.
+     * Deletions are not supported, they must be saved one by one.
+     *
+     * @return the saved metadata, with their new version.
+     */
+    default List<PersistedKvMetadata> saveAll(List<PersistedKvMetadata> kvMetadata) {
+        return kvMetadata.stream().map(this::save).toList();
+    }
+
+    /**
+     * Atomically computes a new version of a key from its latest version.
+     * The key is locked while the remapping function is applied so concurrent computations on the same key are serialized.
+     * Plain saves don't take the lock: a computation racing with a save is retried, or is overwritten by the save.
+     *
+     * @param remapping function receiving the latest version (possibly deleted or expired) and returning the metadata
+     *                  to save as the new version, or null to leave the key unchanged.
+     * @return the saved metadata, or {@link Optional#empty()} if the remapping function returned null.
+     */
+    Optional<PersistedKvMetadata> compute(
+        String tenantId,
+        String namespace,
+        String name,
+        Function<Optional<PersistedKvMetadata>, PersistedKvMetadata> remapping
+    );
+
     default ArrayListTotal<PersistedKvMetadata> find(
         Pageable pageable,
         String tenantId,
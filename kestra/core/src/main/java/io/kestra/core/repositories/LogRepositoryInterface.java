@@ -39,6 +39,26 @@ public interface LogRepositoryInterface extends SaveRepositoryInterface<LogEntry
 
     ArrayListTotal<LogEntry> findByExecutionId(String tenantId, String executionId, Level minLevel, Pageable pageable);
 
+    /**
+     * Streams the log entries of an execution ordered by timestamp, without loading them all in memory.
+     *
+     * @param tenantId          The tenant's ID.
+     * @param executionId       The execution's ID.
+     * @param minLevel          The minimum log-level.
+     * @param taskRunId         The task run of the log entries, null for all task runs.
+     * @param taskIds           The tasks of the log entries, null for all tasks.
+     * @param attempt           The attempt of the log entries, null for all attempts.
+     * @param withAccessControl Whether the current user's permissions must be verified.
+     * @return The stream of log entries.
+     */
+    Flux<LogEntry> findByExecutionIdAsync(String tenantId,
+                                          String executionId,
+                                          Level minLevel,
+                                          @Nullable String taskRunId,
+                                          @Nullable List<String> taskIds,
+                                          @Nullable Integer attempt,
+                                          boolean withAccessControl);
+
     /**
      * This method is the same as {@link #findByExecutionId(String, String, Level)} but with
      * namespace and flow as additional parameters so that the logs are only found if it is an execution for this flow.
@@ -0,0 +1,34 @@
+package io.kestra.core.repositories;
+
+import io.kestra.core.models.executions.LogSegment;
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface LogSegmentRepositoryInterface extends SaveRepositoryInterface<LogSegment> {
+    /**
+     * Finds the log segments of an execution, ordered by start date.
+     */
+    List<LogSegment> findByExecutionId(@Nullable String tenantId, String executionId);
+
+    /**
+     * Finds the log segments matching all the non-null criteria, ordered by start date.
+     * The segments are matched on their time range overlapping the given dates.
+     */
+    List<LogSegment> find(
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable String executionId,
+        @Nullable Instant startDate,
+        @Nullable Instant endDate
+    );
+
+    /**
+     * Deletes the given log segments index entries.
+     *
+     * @return the number of deleted entries.
+     */
+    int delete(List<LogSegment> segments);
+}
@@ -4,6 +4,7 @@ import io.kestra.core.models.dashboards.ColumnDescriptor;
 import io.kestra.core.models.dashboards.DataFilter;
 import io.kestra.core.models.dashboards.DataFilterKPI;
 import io.micronaut.data.model.Pageable;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
 import java.time.ZonedDateTime;
@@ -20,5 +21,19 @@ public interface QueryBuilderInterface<F extends Enum<F>> {
 
     ArrayListTotal<Map<String, Object>> fetchData(String tenantId, DataFilter<F, ? extends ColumnDescriptor<F>> filter, ZonedDateTime startDate, ZonedDateTime endDate, Pageable pageable) throws IOException;
 
+    /**
+     * Same as {@link #fetchData(String, DataFilter, ZonedDateTime, ZonedDateTime, Pageable)} but streams the data
+     * without computing the total, so it can be exported without being loaded in memory.
+     */
+    default Flux<Map<String, Object>> streamData(String tenantId, DataFilter<F, ? extends ColumnDescriptor<F>> filter, ZonedDateTime startDate, ZonedDateTime endDate, Pageable pageable) {
+        return Flux.defer(() -> {
+            try {
+                return Flux.fromIterable(this.fetchData(tenantId, filter, startDate, endDate, pageable));
+            } catch (IOException e) {
+                return Flux.error(e);
+            }
+        });
+    }
+
     Double fetchValue(String tenantId, DataFilterKPI<F, ? extends ColumnDescriptor<F>> descriptors, ZonedDateTime startDate, ZonedDateTime endDate, boolean numeratorFilter) throws IOException;
 }
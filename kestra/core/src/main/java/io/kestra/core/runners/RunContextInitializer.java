@@ -8,6 +8,7 @@ import io.kestra.core.models.triggers.TriggerContext;
 import io.kestra.core.plugins.PluginConfigurations;
 import io.kestra.core.services.NamespaceService;
 import io.kestra.core.storages.InternalStorage;
+import io.kestra.core.storages.LocalCacheFileStore;
 import io.kestra.core.storages.NamespaceFactory;
 import io.kestra.core.storages.StorageContext;
 import io.kestra.core.storages.StorageInterface;
@@ -54,6 +55,12 @@ public class RunContextInitializer {
     @Inject
     protected RunContextCache runContextCache;
 
+    @Inject
+    protected WorkerTaskVariablesStore workerTaskVariablesStore;
+
+    @Inject
+    protected LocalCacheFileStore localCacheFileStore;
+
     /**
      * Initializes the given {@link RunContext} for the given {@link WorkerTask} for executor.
      *
@@ -104,8 +111,8 @@ public class RunContextInitializer {
         final Task task = workerTask.getTask();
         final TaskRun taskRun = workerTask.getTaskRun();
 
-        // build new variables
-        Map<String, Object> enrichedVariables = new HashMap<>(runContext.getVariables());
+        // build new variables, resolving the ones offloaded to the internal storage by the executor
+        Map<String, Object> enrichedVariables = new HashMap<>(workerTaskVariablesStore.resolve(taskRun, runContext.getVariables()));
         enrichedVariables.put("taskrun", RunVariables.of(taskRun));
         enrichedVariables.put("task", RunVariables.of(task));
         enrichedVariables.put("envs", runContextCache.getEnvVars()); // inject local worker env vars
@@ -127,7 +134,7 @@ public class RunContextInitializer {
 
         runContext.setVariables(enrichedVariables);
         runContext.setPluginConfiguration(pluginConfigurations.getConfigurationByPluginTypeOrAliases(task.getType(), task.getClass()));
-        runContext.setStorage(new InternalStorage(runContextLogger.logger(), StorageContext.forTask(taskRun), storageInterface, namespaceService, namespaceFactory));
+        runContext.setStorage(new InternalStorage(runContextLogger.logger(), StorageContext.forTask(taskRun), storageInterface, namespaceService, namespaceFactory, localCacheFileStore));
         runContext.setLogger(runContextLogger);
         runContext.setTask(task);
 
@@ -0,0 +1,202 @@
+package io.kestra.core.runners;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.StorageContext;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.Hashing;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Content-addressed store for the variables of a {@link WorkerTask}.
+ * <p>
+ * When enabled, the executor offloads the largest variables of a {@link RunContext} (the upstream task outputs by default)
+ * to the internal storage of the execution, under a path derived from the SHA-256 digest of their content,
+ * and only sends a reference to the worker. All the worker tasks of the same execution sharing the same outputs
+ * therefore share a single stored object, and the worker resolves it lazily, caching it locally by digest.
+ * <p>
+ * The stored objects live under the execution storage prefix, so they are removed together with the execution files.
+ */
+@Singleton
+public class WorkerTaskVariablesStore {
+    public static final String REFERENCES_VARIABLE_NAME = "_variablesRefs";
+
+    private static final String STORAGE_DIRECTORY = "/_variables/";
+
+    @Value("${kestra.worker.variables-offload.enabled:false}")
+    private boolean enabled;
+
+    // variables serialized above this size (in bytes) are offloaded to the internal storage
+    @Value("${kestra.worker.variables-offload.threshold:262144}")
+    private int threshold;
+
+    @Value("${kestra.worker.variables-offload.variables:outputs}")
+    private List<String> variables;
+
+    @Value("${kestra.worker.variables-offload.cache-size:100}")
+    private int cacheSize;
+
+    @Value("${kestra.worker.variables-offload.cache-expiration:5m}")
+    private Duration cacheExpiration;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    // resolved variables by storage URI, as it contains the content digest an entry can never become stale
+    private Cache<String, Object> resolved;
+
+    // URIs already written by this node, to avoid checking storage existence for each worker task of the same execution
+    private Cache<String, Boolean> written;
+
+    @PostConstruct
+    void init() {
+        this.resolved = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterAccess(cacheExpiration)
+            .recordStats()
+            .build();
+        this.written = Caffeine.newBuilder()
+            .maximumSize(cacheSize * 10L)
+            .expireAfterWrite(cacheExpiration)
+            .build();
+
+        metricRegistry.bind(new CaffeineCacheMetrics<>(resolved, "worker-task-variables", List.of()));
+    }
+
+    /**
+     * Offloads the large variables of the given {@link WorkerTask} to the internal storage.
+     *
+     * @param workerTask the worker task to be sent to a worker.
+     * @return a worker task with the offloaded variables replaced by references, or the same worker task
+     * if offloading is disabled or nothing needs to be offloaded.
+     */
+    public WorkerTask offload(WorkerTask workerTask) throws IOException {
+        if (!enabled || !(workerTask.getRunContext() instanceof DefaultRunContext runContext)) {
+            return workerTask;
+        }
+
+        TaskRun taskRun = workerTask.getTaskRun();
+        Map<String, Object> current = runContext.getVariables();
+        Map<String, Object> newVariables = null;
+        Map<String, String> references = new HashMap<>();
+
+        for (String name : variables) {
+            Object value = current.get(name);
+            if (value == null) {
+                continue;
+            }
+
+            byte[] bytes = JacksonMapper.ofJson().writeValueAsBytes(value);
+            if (bytes.length < threshold) {
+                continue;
+            }
+
+            URI uri = this.storageUri(taskRun, sha256(bytes));
+            if (written.getIfPresent(uri.toString()) == null) {
+                if (!storageInterface.exists(taskRun.getTenantId(), taskRun.getNamespace(), uri)) {
+                    try (InputStream inputStream = new ByteArrayInputStream(bytes)) {
+                        storageInterface.put(taskRun.getTenantId(), taskRun.getNamespace(), uri, inputStream);
+                    }
+                }
+                written.put(uri.toString(), Boolean.TRUE);
+            }
+
+            if (newVariables == null) {
+                newVariables = new HashMap<>(current);
+            }
+            newVariables.remove(name);
+            references.put(name, uri.toString());
+
+            metricRegistry
+                .counter(MetricRegistry.METRIC_WORKER_VARIABLES_OFFLOADED_BYTES, MetricRegistry.METRIC_WORKER_VARIABLES_OFFLOADED_BYTES_DESCRIPTION, metricRegistry.tags(workerTask, null))
+                .increment(bytes.length);
+        }
+
+        if (newVariables == null) {
+            return workerTask;
+        }
+
+        newVariables.put(REFERENCES_VARIABLE_NAME, references);
+
+        DefaultRunContext offloaded = runContext.clone();
+        offloaded.setVariables(newVariables);
+        offloaded.setTraceParent(runContext.getTraceParent());
+
+        return WorkerTask.builder()
+            .taskRun(workerTask.getTaskRun())
+            .task(workerTask.getTask())
+            .runContext(offloaded)
+            .executionKind(workerTask.getExecutionKind())
+            .build();
+    }
+
+    /**
+     * Resolves the variables previously offloaded by {@link #offload(WorkerTask)}.
+     *
+     * @param taskRun   the task run the variables belongs to.
+     * @param variables the variables, possibly containing references.
+     * @return the variables with all references replaced by their values.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> resolve(TaskRun taskRun, Map<String, Object> variables) {
+        if (!(variables.get(REFERENCES_VARIABLE_NAME) instanceof Map<?, ?> references)) {
+            return variables;
+        }
+
+        Map<String, Object> resolvedVariables = new HashMap<>(variables);
+        resolvedVariables.remove(REFERENCES_VARIABLE_NAME);
+
+        ((Map<String, String>) references).forEach((name, uri) -> resolvedVariables.put(
+            name,
+            resolved.get(uri, key -> this.read(taskRun, URI.create(key)))
+        ));
+
+        return resolvedVariables;
+    }
+
+    private Object read(TaskRun taskRun, URI uri) {
+        try (InputStream inputStream = storageInterface.get(taskRun.getTenantId(), taskRun.getNamespace(), uri)) {
+            return JacksonMapper.ofJson().readValue(inputStream, JacksonMapper.OBJECT_TYPE_REFERENCE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to resolve the offloaded variables '" + uri + "'", e);
+        }
+    }
+
+    private URI storageUri(TaskRun taskRun, String digest) {
+        URI executionUri = StorageContext
+            .forExecution(taskRun.getTenantId(), taskRun.getNamespace(), taskRun.getFlowId(), taskRun.getExecutionId())
+            .getExecutionStorageURI(StorageContext.KESTRA_SCHEME);
+
+        return URI.create(executionUri + STORAGE_DIRECTORY + digest + ".json");
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return Hashing.encodeBytesToHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
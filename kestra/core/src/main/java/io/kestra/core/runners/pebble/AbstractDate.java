@@ -11,6 +11,19 @@ import java.time.format.FormatStyle;
 import java.util.*;
 
 public abstract class AbstractDate {
+    private final CompiledExpressionCache compiledExpressionCache;
+
+    /**
+     * Custom formats are not cached, use {@link #AbstractDate(CompiledExpressionCache)} to cache them.
+     */
+    protected AbstractDate() {
+        this(null);
+    }
+
+    protected AbstractDate(CompiledExpressionCache compiledExpressionCache) {
+        this.compiledExpressionCache = compiledExpressionCache;
+    }
+
     public List<String> getArgumentNames() {
         return List.of("format", "timeZone", "existingFormat", "locale");
     }
@@ -43,7 +56,7 @@ public abstract class AbstractDate {
         "short", FormatStyle.SHORT
     );
 
-    protected static String format(Object input, Map<String, Object> args, EvaluationContext context) {
+    protected String format(Object input, Map<String, Object> args, EvaluationContext context) {
         final String format = args.containsKey("format") ? (String) args.get("format") : "iso";
         final String timeZone = (String) args.get("timeZone");
         final String existingFormat = (String) args.get("existingFormat");
@@ -59,7 +72,7 @@ public abstract class AbstractDate {
         return formatter.format(date);
     }
 
-    private static DateTimeFormatter formatter(String format) {
+    private DateTimeFormatter formatter(String format) {
         DateTimeFormatter formatterFind = FORMATTERS.get(format);
         FormatStyle styleFind = STYLES.get(format);
 
@@ -68,7 +81,7 @@ public abstract class AbstractDate {
         } else if (formatterFind != null) {
             return formatterFind;
         } else {
-            return DateTimeFormatter.ofPattern(format);
+            return compiledExpressionCache != null ? compiledExpressionCache.dateFormatter(format) : DateTimeFormatter.ofPattern(format);
         }
     }
 
@@ -80,7 +93,7 @@ public abstract class AbstractDate {
         }
     }
 
-    protected static ZonedDateTime convert(Object value, ZoneId zoneId, String existingFormat) {
+    protected ZonedDateTime convert(Object value, ZoneId zoneId, String existingFormat) {
         if (value instanceof Date dateValue) {
             return ZonedDateTime.ofInstant(dateValue.toInstant(), zoneId);
         }
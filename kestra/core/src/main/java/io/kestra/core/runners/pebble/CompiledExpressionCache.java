@@ -0,0 +1,83 @@
+package io.kestra.core.runners.pebble;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import net.thisptr.jackson.jq.JsonQuery;
+import net.thisptr.jackson.jq.Versions;
+import net.thisptr.jackson.jq.exception.JsonQueryException;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Bounded caches of the compiled expressions used by Pebble filters and functions, keyed by expression text.
+ * <p>
+ * Compiled jq queries and date formatters are immutable and thread-safe so they can be shared by all renderings.
+ */
+@Singleton
+public class CompiledExpressionCache {
+    private static final int MAXIMUM_SIZE = 1000;
+
+    private final Cache<String, JsonQuery> jqQueries = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .recordStats()
+        .build();
+
+    private final Cache<String, DateTimeFormatter> dateFormatters = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .recordStats()
+        .build();
+
+    @Inject
+    public CompiledExpressionCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, jqQueries, "pebble-jq-query");
+        CaffeineCacheMetrics.monitor(meterRegistry, dateFormatters, "pebble-date-formatter");
+    }
+
+    /**
+     * Returns the compiled jq query for the given expression, compiling it on first use.
+     *
+     * @param expression the jq expression.
+     * @return the compiled query.
+     * @throws JsonQueryException if the expression is invalid, invalid expressions are not cached.
+     */
+    public JsonQuery jq(String expression) throws JsonQueryException {
+        JsonQuery query = jqQueries.getIfPresent(expression);
+        if (query == null) {
+            query = JsonQuery.compile(expression, Versions.JQ_1_6);
+            jqQueries.put(expression, query);
+        }
+        return query;
+    }
+
+    /**
+     * Returns the date formatter for the given pattern, creating it on first use.
+     *
+     * @param pattern the date pattern as accepted by {@link DateTimeFormatter#ofPattern(String)}.
+     * @return the formatter.
+     * @throws IllegalArgumentException if the pattern is invalid, invalid patterns are not cached.
+     */
+    public DateTimeFormatter dateFormatter(String pattern) {
+        DateTimeFormatter formatter = dateFormatters.getIfPresent(pattern);
+        if (formatter == null) {
+            formatter = DateTimeFormatter.ofPattern(pattern);
+            dateFormatters.put(pattern, formatter);
+        }
+        return formatter;
+    }
+
+    @VisibleForTesting
+    public CacheStats jqStats() {
+        return jqQueries.stats();
+    }
+
+    @VisibleForTesting
+    public CacheStats dateFormatterStats() {
+        return dateFormatters.stats();
+    }
+}
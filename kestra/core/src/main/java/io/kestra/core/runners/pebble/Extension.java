@@ -61,6 +61,9 @@ public class Extension extends AbstractExtension {
     @Inject
     private HttpFunction httpFunction;
 
+    @Inject
+    private CompiledExpressionCache compiledExpressionCache;
+
     @Override
     public List<TokenParser> getTokenParsers() {
         return null;
@@ -89,13 +92,13 @@ public class Extension extends AbstractExtension {
 
         filters.put("chunk", new ChunkFilter());
         filters.put("className", new ClassNameFilter());
-        filters.put("date", new DateFilter());
-        filters.put("dateAdd", new DateAddFilter());
-        filters.put("timestamp", new TimestampFilter());
-        filters.put("timestampMicro", new TimestampMicroFilter());
-        filters.put("timestampMilli", new TimestampMilliFilter());
-        filters.put("timestampNano", new TimestampNanoFilter());
-        filters.put("jq", new JqFilter());
+        filters.put("date", new DateFilter(compiledExpressionCache));
+        filters.put("dateAdd", new DateAddFilter(compiledExpressionCache));
+        filters.put("timestamp", new TimestampFilter(compiledExpressionCache));
+        filters.put("timestampMicro", new TimestampMicroFilter(compiledExpressionCache));
+        filters.put("timestampMilli", new TimestampMilliFilter(compiledExpressionCache));
+        filters.put("timestampNano", new TimestampNanoFilter(compiledExpressionCache));
+        filters.put("jq", new JqFilter(compiledExpressionCache));
         filters.put("escapeChar", new EscapeCharFilter());
         filters.put("json", new JsonFilter());
         filters.put("toJson", new ToJsonFilter());
@@ -137,7 +140,7 @@ public class Extension extends AbstractExtension {
     public Map<String, Function> getFunctions() {
         Map<String, Function> functions = new HashMap<>();
 
-        functions.put("now", new NowFunction());
+        functions.put("now", new NowFunction(compiledExpressionCache));
         functions.put("json", new JsonFunction());
         functions.put("fromJson", new FromJsonFunction());
         functions.put("currentEachOutput", new CurrentEachOutputFunction());
@@ -5,10 +5,15 @@ import io.pebbletemplates.pebble.extension.Filter;
 import io.pebbletemplates.pebble.template.EvaluationContext;
 import io.pebbletemplates.pebble.template.PebbleTemplate;
 import io.kestra.core.runners.pebble.AbstractDate;
+import io.kestra.core.runners.pebble.CompiledExpressionCache;
 
 import java.util.Map;
 
 public class DateFilter extends AbstractDate implements Filter {
+    public DateFilter(CompiledExpressionCache compiledExpressionCache) {
+        super(compiledExpressionCache);
+    }
+
     @Override
     public Object apply(Object input, Map<String, Object> args, PebbleTemplate self, EvaluationContext context, int lineNumber) throws PebbleException {
         if (input == null) {
@@ -2,6 +2,7 @@ package io.kestra.core.runners.pebble.filters;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.*;
+import io.kestra.core.runners.pebble.CompiledExpressionCache;
 import io.kestra.core.serializers.JacksonMapper;
 import io.pebbletemplates.pebble.error.PebbleException;
 import io.pebbletemplates.pebble.extension.Filter;
@@ -21,13 +22,15 @@ public class JqFilter implements Filter {
     // This improves performance by loading builtin functions only once when the class loads
     private static final Scope SCOPE;
     private final List<String> argumentNames = new ArrayList<>();
+    private final CompiledExpressionCache compiledExpressionCache;
 
     static {
         SCOPE = Scope.newEmptyScope();
         BuiltinFunctionLoader.getInstance().loadFunctions(Versions.JQ_1_6, SCOPE);
     }
 
-    public JqFilter() {
+    public JqFilter(CompiledExpressionCache compiledExpressionCache) {
+        this.compiledExpressionCache = compiledExpressionCache;
         this.argumentNames.add("expression");
     }
 
@@ -49,10 +52,13 @@ public class JqFilter implements Filter {
         String pattern = (String) args.get("expression");
 
         try {
-            JsonQuery q = JsonQuery.compile(pattern, Versions.JQ_1_6);
+            JsonQuery q = compiledExpressionCache.jq(pattern);
 
             JsonNode in;
-            if (input instanceof String stringValue) {
+            if (input instanceof JsonNode jsonNode) {
+                // already a Jackson tree, no need to round-trip it
+                in = jsonNode;
+            } else if (input instanceof String stringValue) {
                 in = JacksonMapper.ofJson().readTree(stringValue);
             } else {
                 in = JacksonMapper.ofJson().valueToTree(input);
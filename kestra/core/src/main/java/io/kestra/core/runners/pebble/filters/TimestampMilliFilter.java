@@ -1,6 +1,7 @@
 package io.kestra.core.runners.pebble.filters;
 
 import io.kestra.core.runners.pebble.AbstractDate;
+import io.kestra.core.runners.pebble.CompiledExpressionCache;
 import io.pebbletemplates.pebble.error.PebbleException;
 import io.pebbletemplates.pebble.extension.Filter;
 import io.pebbletemplates.pebble.template.EvaluationContext;
@@ -11,6 +12,10 @@ import java.util.List;
 import java.util.Map;
 
 public class TimestampMilliFilter extends AbstractDate implements Filter {
+    public TimestampMilliFilter(CompiledExpressionCache compiledExpressionCache) {
+        super(compiledExpressionCache);
+    }
+
     @Override
     public List<String> getArgumentNames() {
         return List.of("timeZone", "existingFormat");
@@ -5,6 +5,7 @@ import io.pebbletemplates.pebble.extension.Filter;
 import io.pebbletemplates.pebble.template.EvaluationContext;
 import io.pebbletemplates.pebble.template.PebbleTemplate;
 import io.kestra.core.runners.pebble.AbstractDate;
+import io.kestra.core.runners.pebble.CompiledExpressionCache;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -13,6 +14,10 @@ import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 public class TimestampNanoFilter extends AbstractDate implements Filter {
+    public TimestampNanoFilter(CompiledExpressionCache compiledExpressionCache) {
+        super(compiledExpressionCache);
+    }
+
     @Override
     public List<String> getArgumentNames() {
         return List.of("timeZone", "existingFormat");
@@ -1,10 +1,15 @@
 package io.kestra.core.secret;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.kestra.core.encryption.EncryptionService;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.QueryFilter;
 import io.kestra.core.models.secret.NamespaceSecret;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.NamespaceSecretRepositoryInterface;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.micronaut.context.annotation.Value;
 import io.micronaut.data.model.Pageable;
 import jakarta.annotation.PostConstruct;
@@ -15,6 +20,7 @@ import org.apache.commons.lang3.Strings;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
@@ -38,9 +44,38 @@ public class SecretService<META> {
     @Inject
     protected Optional<NamespaceSecretRepositoryInterface> namespaceSecretRepository;
 
+    @Value("${kestra.secret.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${kestra.secret.cache.maximum-size:1000}")
+    private long cacheMaximumSize;
+
+    @Value("${kestra.secret.cache.expiration:1m}")
+    private Duration cacheExpiration;
+
+    // a secret created on another node must be found right away, so missing secrets are not cached by default
+    @Value("${kestra.secret.cache.missing-expiration:0s}")
+    private Duration cacheMissingExpiration;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    // namespace secrets by tenant, namespace and key, including missing ones, kept encrypted until used.
+    // Only the node that modifies a secret invalidates it, other nodes may use the previous value until it expires.
+    private Cache<String, Optional<NamespaceSecret>> namespaceSecrets;
+
     @PostConstruct
     private void postConstruct() {
         this.decode();
+
+        if (cacheEnabled && namespaceSecretRepository.isPresent()) {
+            this.namespaceSecrets = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(Expiry.creating((String key, Optional<NamespaceSecret> secret) -> secret.isPresent() ? cacheExpiration : cacheMissingExpiration))
+                .recordStats()
+                .build();
+            metricRegistry.bind(new CaffeineCacheMetrics<>(namespaceSecrets, "namespace-secrets", List.of()));
+        }
     }
 
     public void decode() {
@@ -63,7 +98,7 @@ public class SecretService<META> {
     public String findSecret(String tenantId, String namespace, String key) throws SecretNotFoundException, IOException {
         String keyUpper = key.toUpperCase();
         if (namespaceSecretRepository.isPresent() && encryptionKey.isPresent() && !encryptionKey.get().isBlank()) {
-            Optional<NamespaceSecret> ns = namespaceSecretRepository.get().findByNamespaceAndKey(tenantId, namespace, keyUpper);
+            Optional<NamespaceSecret> ns = this.findNamespaceSecret(tenantId, namespace, keyUpper);
             if (ns.isPresent()) {
                 try {
                     return EncryptionService.decrypt(encryptionKey.get(), ns.get().getValueEncrypted());
@@ -79,6 +114,33 @@ public class SecretService<META> {
         return secret;
     }
 
+    /**
+     * Invalidates the cached namespace secret after it has been modified or deleted.
+     * Other nodes will see the change once their cached entry expires, after {@code kestra.secret.cache.expiration}
+     * for a modified or deleted secret. A created secret is seen right away as missing secrets are not cached,
+     * unless {@code kestra.secret.cache.missing-expiration} is set.
+     */
+    public void invalidate(String tenantId, String namespace, String key) {
+        if (namespaceSecrets != null) {
+            namespaceSecrets.invalidate(cacheKey(tenantId, namespace, key.toUpperCase()));
+        }
+    }
+
+    private Optional<NamespaceSecret> findNamespaceSecret(String tenantId, String namespace, String keyUpper) {
+        if (namespaceSecrets == null) {
+            return namespaceSecretRepository.get().findByNamespaceAndKey(tenantId, namespace, keyUpper);
+        }
+
+        return namespaceSecrets.get(
+            cacheKey(tenantId, namespace, keyUpper),
+            ignored -> namespaceSecretRepository.get().findByNamespaceAndKey(tenantId, namespace, keyUpper)
+        );
+    }
+
+    private static String cacheKey(String tenantId, String namespace, String key) {
+        return tenantId + "/" + namespace + "/" + key;
+    }
+
     public ArrayListTotal<META> list(Pageable pageable, String tenantId, List<QueryFilter> filters) throws IOException {
         Set<String> allKeys = new HashSet<>(decodedSecrets.keySet());
         if (namespaceSecretRepository.isPresent()) {
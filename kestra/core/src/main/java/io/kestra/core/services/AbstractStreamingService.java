@@ -0,0 +1,87 @@
+package io.kestra.core.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Base class for services offering a fanout mechanism so a single queue consumer can dispatch messages
+ * to multiple subscribers keyed by execution id.
+ * <p>
+ * The queue consumer is only started when the first subscriber registers and is stopped when the last one unregisters,
+ * so a node without any active follower doesn't read the queue at all.
+ * This allows scaling nodes serving 'follow' endpoints without increasing the queue read load.
+ *
+ * @param <S> the subscriber type
+ */
+@Slf4j
+public abstract class AbstractStreamingService<S> {
+    protected final Map<String, Map<String, S>> subscribers = new ConcurrentHashMap<>();
+    private final Object subscriberLock = new Object();
+
+    private Runnable queueConsumer;
+
+    /**
+     * Start consuming the queue, dispatching each message to the subscribers of its execution.
+     *
+     * @return a runnable that stops the queue consumer.
+     */
+    protected abstract Runnable startQueueConsumer();
+
+    protected void register(String executionId, String subscriberId, S subscriber) {
+        // it needs to be synchronized as we get and remove if empty, so we must be sure that nobody else is adding a new one in-between
+        synchronized (subscriberLock) {
+            subscribers.computeIfAbsent(executionId, k -> new ConcurrentHashMap<>())
+                .put(subscriberId, subscriber);
+
+            if (queueConsumer == null) {
+                log.debug("Starting queue consumer of {}", this.getClass().getSimpleName());
+                queueConsumer = this.startQueueConsumer();
+            }
+        }
+    }
+
+    protected void unregister(String executionId, String subscriberId) {
+        // it needs to be synchronized as we get and remove if empty, so we must be sure that nobody else is adding a new one in-between
+        synchronized (subscriberLock) {
+            Map<String, S> executionSubscribers = subscribers.get(executionId);
+            if (executionSubscribers != null) {
+                executionSubscribers.remove(subscriberId);
+                if (executionSubscribers.isEmpty()) {
+                    subscribers.remove(executionId);
+                }
+            }
+
+            if (subscribers.isEmpty()) {
+                this.stopQueueConsumer();
+            }
+        }
+    }
+
+    /**
+     * @return true if the queue is currently consumed, meaning there is at least one active subscriber.
+     */
+    public boolean isConsuming() {
+        synchronized (subscriberLock) {
+            return queueConsumer != null;
+        }
+    }
+
+    private void stopQueueConsumer() {
+        if (queueConsumer != null) {
+            log.debug("Stopping queue consumer of {}", this.getClass().getSimpleName());
+            // waits for the poll in progress, so a consumer started by the next subscriber never overlaps with this one
+            queueConsumer.run();
+            queueConsumer = null;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        synchronized (subscriberLock) {
+            this.stopQueueConsumer();
+        }
+    }
+}
@@ -9,10 +9,14 @@ import jakarta.inject.Singleton;
 import org.slf4j.event.Level;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
+import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -63,8 +67,36 @@ public class ExecutionLogService {
                                                 List<String> taskIds,
                                                 Integer attempt,
                                                 boolean withAccessControl) {
-        List<LogEntry> logs = getExecutionLogs(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, withAccessControl);
-        return new ByteArrayInputStream(logs.stream().map(LogEntry::toPrettyString).collect(Collectors.joining("\n")).getBytes());
+        // logs are fetched by batches as the download is read, closing the stream cancels the query
+        Stream<String> lines = logRepository.findByExecutionIdAsync(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, withAccessControl)
+            .map(LogEntry::toPrettyString)
+            .toStream();
+        Iterator<String> iterator = lines.iterator();
+
+        return new SequenceInputStream(new Enumeration<>() {
+            private boolean first = true;
+
+            @Override
+            public boolean hasMoreElements() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                String line = first ? iterator.next() : "\n" + iterator.next();
+                first = false;
+                return new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8));
+            }
+        }) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    lines.close();
+                }
+            }
+        };
     }
 
     public List<LogEntry> getExecutionLogs(String tenantId,
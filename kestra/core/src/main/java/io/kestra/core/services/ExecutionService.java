@@ -4,6 +4,7 @@ import io.kestra.core.events.CrudEvent;
 import io.kestra.core.events.CrudEventType;
 import io.kestra.core.exceptions.FlowProcessingException;
 import io.kestra.core.exceptions.InternalException;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.Label;
 import io.kestra.core.models.conditions.ConditionContext;
 import io.kestra.core.models.executions.*;
@@ -33,6 +34,7 @@ import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.ListUtils;
 import io.kestra.plugin.core.flow.Pause;
 import io.kestra.plugin.core.flow.WorkingDirectory;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.http.multipart.CompletedPart;
 import jakarta.annotation.Nullable;
@@ -46,6 +48,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.net.URI;
@@ -99,6 +102,12 @@ public class ExecutionService {
     @Inject
     private VariablesService variablesService;
 
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Value("${kestra.executions.purge.storage-concurrency:8}")
+    private int purgeStorageConcurrency;
+
     public Execution getExecutionIfPause(final String tenant, final @NotNull String executionId, boolean withACL) {
         Execution execution = getExecution(tenant, executionId, withACL);
 
@@ -452,20 +461,17 @@ public class ExecutionService {
         @Nullable List<State.Type> state,
         int batchSize
     ) throws IOException {
+        String[] tags = tenantId == null ? new String[0] : new String[]{MetricRegistry.TAG_TENANT_ID, tenantId};
+
+        // only the identifying fields of the executions are loaded, and everything is deleted by batch
         PurgeResult purgeResult = this.executionRepository
-            .find(
-                null,
+            .findForPurge(
                 tenantId,
-                null,
                 namespace,
                 flowId,
                 startDate,
                 endDate,
-                state,
-                null,
-                null,
-                null,
-                true
+                state
             )
             .buffer(batchSize)
             .map(throwFunction(executions -> {
@@ -484,13 +490,16 @@ public class ExecutionService {
                 }
 
                 if (purgeStorage) {
-                    executions.forEach(throwConsumer(execution -> {
-                        URI uri = StorageContext.forExecution(execution).getExecutionStorageURI(StorageContext.KESTRA_SCHEME);
-                        builder.storagesCount(storageInterface.deleteByPrefix(execution.getTenantId(), execution.getNamespace(), uri).size());
-                    }));
+                    builder.storagesCount(this.purgeStorage(executions));
                 }
 
-                return (PurgeResult) builder.build();
+                PurgeResult result = builder.build();
+                metricRegistry.counter(MetricRegistry.METRIC_PURGE_EXECUTIONS_COUNT, MetricRegistry.METRIC_PURGE_EXECUTIONS_COUNT_DESCRIPTION, tags).increment(result.getExecutionsCount());
+                metricRegistry.counter(MetricRegistry.METRIC_PURGE_LOGS_COUNT, MetricRegistry.METRIC_PURGE_LOGS_COUNT_DESCRIPTION, tags).increment(result.getLogsCount());
+                metricRegistry.counter(MetricRegistry.METRIC_PURGE_METRICS_COUNT, MetricRegistry.METRIC_PURGE_METRICS_COUNT_DESCRIPTION, tags).increment(result.getMetricsCount());
+                metricRegistry.counter(MetricRegistry.METRIC_PURGE_STORAGES_COUNT, MetricRegistry.METRIC_PURGE_STORAGES_COUNT_DESCRIPTION, tags).increment(result.getStoragesCount());
+
+                return result;
             }))
             .reduce((a, b) -> a
                 .toBuilder()
@@ -509,6 +518,28 @@ public class ExecutionService {
         return PurgeResult.builder().build();
     }
 
+    /**
+     * Deletes the internal storage files of the given executions, with up to {@code purgeStorageConcurrency} executions at a time.
+     *
+     * @return the number of deleted files.
+     */
+    private int purgeStorage(List<Execution> executions) {
+        Integer count = Flux.fromIterable(executions)
+            .flatMap(
+                execution -> Mono
+                    .fromCallable(() -> {
+                        URI uri = StorageContext.forExecution(execution).getExecutionStorageURI(StorageContext.KESTRA_SCHEME);
+                        return storageInterface.deleteByPrefix(execution.getTenantId(), execution.getNamespace(), uri).size();
+                    })
+                    .subscribeOn(Schedulers.boundedElastic()),
+                purgeStorageConcurrency
+            )
+            .reduce(0, Integer::sum)
+            .block();
+
+        return count == null ? 0 : count;
+    }
+
     public void delete(
         Execution execution,
         boolean deleteLogs,
@@ -7,8 +7,6 @@ import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.utils.ListUtils;
 import io.kestra.core.utils.MapUtils;
 import io.micronaut.http.sse.Event;
-import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -17,27 +15,22 @@ import org.apache.commons.lang3.tuple.Pair;
 import reactor.core.publisher.FluxSink;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This service offers a fanout mechanism so a single consumer of the execution queue can dispatch execution
  * messages to multiple consumers.
  * It is designed to be used for 'follow' endpoints that use SSE to follow a flow execution.
+ * The execution queue is only consumed while there is at least one subscriber.
  * <p>
  * Consumers need first to register themselves via {@link #registerSubscriber(String, String, FluxSink, Flow)},
  * then unregister (ideally in a finally block to avoid any memory leak) via {@link #unregisterSubscriber(String, String)}.
  */
 @Slf4j
 @Singleton
-public class ExecutionStreamingService {
-    private final Map<String, Map<String, Pair<FluxSink<Event<Execution>>, Flow>>> subscribers = new ConcurrentHashMap<>();
-    private final Object subscriberLock = new Object();
-
+public class ExecutionStreamingService extends AbstractStreamingService<Pair<FluxSink<Event<Execution>>, Flow>> {
     private final QueueInterface<Execution> executionQueue;
     private final ExecutionService executionService;
 
-    private Runnable queueConsumer;
-
     @Inject
     public ExecutionStreamingService(
         @Named(QueueFactoryInterface.EXECUTION_NAMED) QueueInterface<Execution> executionQueue,
@@ -47,10 +40,10 @@ public class ExecutionStreamingService {
         this.executionService = executionService;
     }
 
-    @PostConstruct
-    void startQueueConsumer() {
+    @Override
+    protected Runnable startQueueConsumer() {
         // Single queue consumer
-        this.queueConsumer = executionQueue.receive(either -> {
+        return executionQueue.receive(either -> {
             if (either.isRight()) {
                 log.error("Unable to deserialize execution: {}", either.getRight().getMessage());
                 return;
@@ -85,13 +78,12 @@ public class ExecutionStreamingService {
     /**
      * Register a subscriber to an execution.
      * All subscribers must ensure to call {@link #unregisterSubscriber(String, String)} to avoid any memory leak.
+     * <p>
+     * As the execution queue may only start to be consumed by this call, subscribers must fetch the current execution
+     * state after registering to avoid missing an update.
      */
     public void registerSubscriber(String executionId, String subscriberId, FluxSink<Event<Execution>> sink, Flow flow) {
-        // it needs to be synchronized as we get and remove if empty, so we must be sure that nobody else is adding a new one in-between
-        synchronized (subscriberLock) {
-            subscribers.computeIfAbsent(executionId, k -> new ConcurrentHashMap<>())
-                .put(subscriberId, Pair.of(sink, flow));
-        }
+        this.register(executionId, subscriberId, Pair.of(sink, flow));
     }
 
     /**
@@ -99,16 +91,7 @@ public class ExecutionStreamingService {
      * This is advised to do it in a finally block to be sure to free resources.
      */
     public void unregisterSubscriber(String executionId, String subscriberId) {
-        // it needs to be synchronized as we get and remove if empty, so we must be sure that nobody else is adding a new one in-between
-        synchronized (subscriberLock) {
-            Map<String, Pair<FluxSink<Event<Execution>>, Flow>> executionSubscribers = subscribers.get(executionId);
-            if (executionSubscribers != null) {
-                executionSubscribers.remove(subscriberId);
-                if (executionSubscribers.isEmpty()) {
-                    subscribers.remove(executionId);
-                }
-            }
-        }
+        this.unregister(executionId, subscriberId);
     }
 
     /**
@@ -118,11 +101,4 @@ public class ExecutionStreamingService {
         return executionService.isTerminated(flow, execution) &&
             ListUtils.emptyOnNull(execution.getTaskRunList()).stream().allMatch(taskRun -> taskRun.getState().isTerminated());
     }
-
-    @PreDestroy
-    void shutdown() {
-        if (queueConsumer != null) {
-            queueConsumer.run();
-        }
-    }
-}
\ No newline at end of file
+}
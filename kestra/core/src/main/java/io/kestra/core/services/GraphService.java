@@ -1,8 +1,12 @@
 package io.kestra.core.services;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.kestra.core.exceptions.FlowProcessingException;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.flows.FlowWithSource;
 import io.kestra.core.models.hierarchies.*;
 import io.kestra.core.models.tasks.ExecutableTask;
@@ -13,13 +17,20 @@ import io.kestra.core.repositories.TriggerRepositoryInterface;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.utils.GraphUtils;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.ListUtils;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.data.model.Pageable;
+import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
@@ -35,17 +46,153 @@ public class GraphService {
     private PluginDefaultService pluginDefaultService;
     @Inject
     private RunContextFactory runContextFactory;
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Value("${kestra.graph.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${kestra.graph.cache.maximum-size:1000}")
+    private long cacheMaximumSize;
+
+    @Value("${kestra.graph.cache.expiration:5m}")
+    private Duration cacheExpiration;
+
+    // flow graphs by flow uid and source, never returned as is: callers get a copy with the current trigger states
+    private Cache<FlowGraphKey, FlowGraph> flowGraphs;
+
+    // execution graphs by execution, with the task runs they are built from, also returned as copies
+    private Cache<String, ExecutionGraph> executionGraphs;
 
+    @PostConstruct
+    void postConstruct() {
+        if (cacheEnabled) {
+            this.flowGraphs = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(cacheExpiration)
+                .recordStats()
+                .build();
+            metricRegistry.bind(new CaffeineCacheMetrics<>(flowGraphs, "flow-graphs", List.of()));
+
+            this.executionGraphs = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(cacheExpiration)
+                .recordStats()
+                .build();
+            metricRegistry.bind(new CaffeineCacheMetrics<>(executionGraphs, "execution-graphs", List.of()));
+        }
+    }
+
+    /**
+     * Generates the graph of a flow, cached by flow uid and source unless subflows are expanded
+     * as they may resolve to another revision of the subflows.
+     */
     public FlowGraph flowGraph(FlowWithSource flow, List<String> expandedSubflows) throws IllegalVariableEvaluationException, FlowProcessingException {
-        return this.flowGraph(flow, expandedSubflows, null);
+        if (flowGraphs == null || flow.getSource() == null || !ListUtils.isEmpty(expandedSubflows)) {
+            return this.flowGraph(flow, expandedSubflows, null);
+        }
+
+        FlowGraphKey key = new FlowGraphKey(flow.uid(), flow.getSource());
+        FlowGraph cached = flowGraphs.getIfPresent(key);
+        if (cached != null) {
+            return copy(cached, this.triggersById(flow), Map.of());
+        }
+
+        FlowGraph flowGraph = this.flowGraph(flow, expandedSubflows, null);
+        flowGraphs.put(key, flowGraph);
+
+        return copy(flowGraph, null, Map.of());
     }
 
     public FlowGraph flowGraph(FlowWithSource flow, List<String> expandedSubflows, Execution execution) throws IllegalVariableEvaluationException, FlowProcessingException {
         return FlowGraph.of(this.of(flow, Optional.ofNullable(expandedSubflows).orElse(Collections.emptyList()), new HashMap<>(), execution));
     }
 
+    /**
+     * Generates the graph of an execution, cleaned with {@link FlowGraph#forExecution()}.
+     * <p>
+     * The structure of the graph only changes when task runs are created, so it's cached with the task runs it's built from:
+     * while they are the same, a copy of the cached graph is returned with the current task runs and triggers.
+     */
     public FlowGraph executionGraph(FlowWithSource flow, List<String> expandedSubflows, Execution execution) throws IllegalVariableEvaluationException, FlowProcessingException {
-        return FlowGraph.of(this.of(flow, Optional.ofNullable(expandedSubflows).orElse(Collections.emptyList()), new HashMap<>(), execution));
+        if (executionGraphs == null || !ListUtils.isEmpty(expandedSubflows)) {
+            return this.flowGraph(flow, expandedSubflows, execution).forExecution();
+        }
+
+        String key = IdUtils.fromParts(execution.getTenantId(), execution.getId());
+        List<TaskRunKey> taskRuns = TaskRunKey.of(execution);
+
+        ExecutionGraph cached = executionGraphs.getIfPresent(key);
+        if (cached != null && cached.flowUid().equals(flow.uid()) && cached.taskRuns().equals(taskRuns)) {
+            Map<String, TaskRun> taskRunsById = ListUtils.emptyOnNull(execution.getTaskRunList())
+                .stream()
+                .collect(Collectors.toMap(TaskRun::getId, taskRun -> taskRun, (first, second) -> second));
+
+            return copy(cached.flowGraph(), this.triggersById(flow), taskRunsById);
+        }
+
+        FlowGraph flowGraph = this.flowGraph(flow, expandedSubflows, execution).forExecution();
+        executionGraphs.put(key, new ExecutionGraph(flow.uid(), taskRuns, flowGraph));
+
+        return copy(flowGraph, null, Map.of());
+    }
+
+    private Map<String, Trigger> triggersById(FlowWithSource flow) {
+        return flow.getTriggers() == null ? null : GraphUtils.triggersById(this.findTriggers(flow));
+    }
+
+    /**
+     * Copies a cached graph with fresh node instances, so the cached graph is never modified by the caller
+     * nor by the trigger states and task runs set on the copy. Edges and clusters reference nodes by uid, so they are shared.
+     *
+     * @param triggersById the triggers to set on the trigger nodes, or null to keep the cached ones
+     * @param taskRunsById the task runs to set on the task nodes, by task run id
+     */
+    private static FlowGraph copy(FlowGraph flowGraph, Map<String, Trigger> triggersById, Map<String, TaskRun> taskRunsById) {
+        // a flowable task node is both a node and the task node of its cluster, it must be copied once
+        Map<AbstractGraph, AbstractGraph> copies = new IdentityHashMap<>();
+
+        return flowGraph.toBuilder()
+            .nodes(flowGraph.getNodes().stream().map(node -> copy(node, copies, triggersById, taskRunsById)).toList())
+            .clusters(flowGraph.getClusters().stream()
+                .map(cluster -> new FlowGraph.Cluster(
+                    copy(cluster.getCluster(), copies, triggersById, taskRunsById),
+                    cluster.getNodes(),
+                    cluster.getParents(),
+                    cluster.getStart(),
+                    cluster.getEnd()
+                ))
+                .toList()
+            )
+            .build();
+    }
+
+    private static AbstractGraph copy(AbstractGraph node, Map<AbstractGraph, AbstractGraph> copies, Map<String, Trigger> triggersById, Map<String, TaskRun> taskRunsById) {
+        if (node == null) {
+            return null;
+        }
+
+        AbstractGraph existing = copies.get(node);
+        if (existing != null) {
+            return existing;
+        }
+
+        AbstractGraph copy = node.copy();
+        copies.put(node, copy);
+
+        if (copy instanceof AbstractGraphTrigger trigger && triggersById != null) {
+            trigger.setTrigger(triggersById.get(trigger.getTriggerDeclaration().getId()));
+        } else if (copy instanceof AbstractGraphTask task && task.getTaskRun() != null) {
+            task.setTaskRun(taskRunsById.getOrDefault(task.getTaskRun().getId(), task.getTaskRun()));
+        } else if (copy instanceof GraphCluster cluster && cluster.getTaskNode() != null) {
+            cluster.setTaskNode((AbstractGraphTask) copy(cluster.getTaskNode(), copies, triggersById, taskRunsById));
+        }
+
+        return copy;
+    }
+
+    private List<Trigger> findTriggers(FlowWithSource flow) {
+        return triggerRepository.find(Pageable.UNPAGED, null, flow.getTenantId(), flow.getNamespace(), flow.getId(), null);
     }
 
     public GraphCluster of(FlowWithSource flow, List<String> expandedSubflows, Map<String, FlowWithSource> flowByUid, Execution execution) throws IllegalVariableEvaluationException, FlowProcessingException {
@@ -62,7 +209,7 @@ public class GraphService {
         flow = pluginDefaultService.injectAllDefaults(flow, false);
         List<Trigger> triggers = null;
         if (flow.getTriggers() != null) {
-            triggers = triggerRepository.find(Pageable.UNPAGED, null, tenantId, flow.getNamespace(), flow.getId(), null);
+            triggers = this.findTriggers(flow);
         }
         GraphCluster graphCluster = GraphUtils.of(baseGraph, flow, execution, triggers);
 
@@ -142,6 +289,21 @@ public class GraphService {
         return graphCluster;
     }
 
+    private record FlowGraphKey(String flowUid, String source) {
+    }
+
+    private record TaskRunKey(String id, String taskId, String parentTaskRunId, String value) {
+        static List<TaskRunKey> of(Execution execution) {
+            return ListUtils.emptyOnNull(execution.getTaskRunList())
+                .stream()
+                .map(taskRun -> new TaskRunKey(taskRun.getId(), taskRun.getTaskId(), taskRun.getParentTaskRunId(), taskRun.getValue()))
+                .toList();
+        }
+    }
+
+    private record ExecutionGraph(String flowUid, List<TaskRunKey> taskRuns, FlowGraph flowGraph) {
+    }
+
     private record TaskToClusterReplacer(GraphCluster parentCluster, AbstractGraph taskToReplace,
                                          GraphCluster clusterForReplacement) {
         public void replace() {
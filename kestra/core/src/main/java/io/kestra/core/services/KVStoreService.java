@@ -4,7 +4,9 @@ import io.kestra.core.repositories.KvMetadataRepositoryInterface;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.storages.kv.InternalKVStore;
 import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVStoreCache;
 import io.kestra.core.storages.kv.KVStoreException;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.data.model.Pageable;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
@@ -23,6 +25,12 @@ public class KVStoreService {
     @Inject
     private NamespaceService namespaceService;
 
+    @Inject
+    private KVStoreCache kvStoreCache;
+
+    @Value("${kestra.kv.inline-value-max-size:1024}")
+    private int inlineValueMaxSize;
+
     /**
      * Gets access to the Key-Value store for the given namespace.
      *
@@ -47,7 +55,7 @@ public class KVStoreService {
         boolean checkIfNamespaceExists = fromNamespace == null || isNotParentNamespace(namespace, fromNamespace);
         if (checkIfNamespaceExists && !namespaceService.isNamespaceExists(tenant, namespace)) {
             // if it didn't exist, we still check if there are KV as you can add KV without creating a namespace in DB or having flows in it
-            KVStore kvStore = new InternalKVStore(tenant, namespace, storageInterface, kvMetadataRepository);
+            KVStore kvStore = this.kvStore(tenant, namespace);
             try {
                 if (kvStore.list(Pageable.from(1, 1)).isEmpty()) {
                     throw new KVStoreException(String.format(
@@ -61,7 +69,18 @@ public class KVStoreService {
             return kvStore;
         }
 
-        return new InternalKVStore(tenant, namespace, storageInterface, kvMetadataRepository);
+        return this.kvStore(tenant, namespace);
+    }
+
+    /**
+     * Creates a {@link KVStore} for the given namespace without any access check.
+     *
+     * @param tenant    The tenant ID.
+     * @param namespace The namespace of the K/V store, or null to access all namespaces.
+     * @return The {@link InternalKVStore}.
+     */
+    public InternalKVStore kvStore(@Nullable String tenant, @Nullable String namespace) {
+        return new InternalKVStore(tenant, namespace, storageInterface, kvMetadataRepository, kvStoreCache, inlineValueMaxSize);
     }
 
     private static boolean isNotParentNamespace(final String parentNamespace, final String childNamespace) {
@@ -4,8 +4,6 @@ import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
 import io.micronaut.http.sse.Event;
-import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -15,30 +13,25 @@ import reactor.core.publisher.FluxSink;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This service offers a fanout mechanism so a single consumer of the log queue can dispatch log messages to multiple consumers.
  * It is designed to be used for 'follow' endpoints that using SSE to follow a flow logs.
+ * The log queue is only consumed while there is at least one subscriber.
  * <p>
  * Consumers need first to register themselves via {@link #registerSubscriber(String, String, FluxSink, List)},
  * then unregister (ideally in a finally block to avoid any memory leak) via {@link #unregisterSubscriber(String, String)}.
  */
 @Slf4j
 @Singleton
-public class LogStreamingService {
-    private final Map<String, Map<String, Pair<FluxSink<Event<LogEntry>>, List<String>>>> subscribers = new ConcurrentHashMap<>();
-    private final Object subscriberLock = new Object();
-
+public class LogStreamingService extends AbstractStreamingService<Pair<FluxSink<Event<LogEntry>>, List<String>>> {
     @Inject
     @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
     protected QueueInterface<LogEntry> logQueue;
 
-    private Runnable queueConsumer;
-
-    @PostConstruct
-    void startQueueConsumer() {
-        this.queueConsumer = logQueue.receive(either -> {
+    @Override
+    protected Runnable startQueueConsumer() {
+        return logQueue.receive(either -> {
             if (either.isRight()) {
                 log.error("Unable to deserialize log: {}", either.getRight().getMessage());
                 return;
@@ -71,11 +64,7 @@ public class LogStreamingService {
      * All subscribers must ensure to call {@link #unregisterSubscriber(String, String)} to avoid any memory leak.
      */
     public void registerSubscriber(String executionId, String subscriberId, FluxSink<Event<LogEntry>> sink, List<String> levels) {
-        // it needs to be synchronized as we get and remove if empty, so we must be sure that nobody else is adding a new one in-between
-        synchronized (subscriberLock) {
-            subscribers.computeIfAbsent(executionId, k -> new ConcurrentHashMap<>())
-                .put(subscriberId, Pair.of(sink, levels));
-        }
+        this.register(executionId, subscriberId, Pair.of(sink, levels));
     }
 
     /**
@@ -83,22 +72,6 @@ public class LogStreamingService {
      * This is advised to do it in a finally block to be sure to free resources.
      */
     public void unregisterSubscriber(String executionId, String subscriberId) {
-        // it needs to be synchronized as we get and remove if empty, so we must be sure that nobody else is adding a new one in-between
-        synchronized (subscriberLock) {
-            Map<String, Pair<FluxSink<Event<LogEntry>>, List<String>>> executionSubscribers = subscribers.get(executionId);
-            if (executionSubscribers != null) {
-                executionSubscribers.remove(subscriberId);
-                if (executionSubscribers.isEmpty()) {
-                    subscribers.remove(executionId);
-                }
-            }
-        }
-    }
-
-    @PreDestroy
-    void shutdown() {
-        if (queueConsumer != null) {
-            queueConsumer.run();
-        }
+        this.unregister(executionId, subscriberId);
     }
 }
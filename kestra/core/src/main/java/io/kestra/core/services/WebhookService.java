@@ -10,6 +10,7 @@ import io.kestra.core.models.triggers.AbstractTrigger;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.ExecutionRepositoryInterface;
 import io.kestra.core.runners.FlowInputOutput;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
@@ -54,6 +55,9 @@ public class WebhookService {
     @Inject
     private ExecutionStreamingService streamingService;
 
+    @Inject
+    private ExecutionRepositoryInterface executionRepository;
+
     @Inject
     private UriProvider uriProvider;
 
@@ -178,6 +182,14 @@ public class WebhookService {
                     emitter,
                     flow
                 );
+
+                // Fetch the execution after registering, as it may have ended before we were subscribed
+                executionRepository.findByIdWithoutAcl(execution.getTenantId(), executionId)
+                    .filter(current -> streamingService.isStopFollow(flow, current))
+                    .ifPresent(current -> {
+                        emitter.next(Event.of(current).id("end"));
+                        emitter.complete();
+                    });
             })
             .doFinally(signalType -> streamingService.unregisterSubscriber(executionId, subscriberId));
     }
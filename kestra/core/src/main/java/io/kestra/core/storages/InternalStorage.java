@@ -32,6 +32,7 @@ public class InternalStorage implements Storage {
     private final StorageInterface storage;
     private final NamespaceFactory namespaceFactory;
     private final NamespaceService namespaceService;
+    private final LocalCacheFileStore localCacheFileStore;
 
     /**
      * Creates a new {@link InternalStorage} instance.
@@ -51,11 +52,24 @@ public class InternalStorage implements Storage {
      * @param storage The storage to delegate operations.
      */
     public InternalStorage(Logger logger, StorageContext context, StorageInterface storage, NamespaceService namespaceService, NamespaceFactory namespaceFactory) {
+        this(logger, context, storage, namespaceService, namespaceFactory, null);
+    }
+
+    /**
+     * Creates a new {@link InternalStorage} instance.
+     *
+     * @param logger              The logger to be used by this class.
+     * @param context             The storage context.
+     * @param storage             The storage to delegate operations.
+     * @param localCacheFileStore The worker-local cache of the cache files, can be null.
+     */
+    public InternalStorage(Logger logger, StorageContext context, StorageInterface storage, NamespaceService namespaceService, NamespaceFactory namespaceFactory, @Nullable LocalCacheFileStore localCacheFileStore) {
         this.logger = logger;
         this.context = context;
         this.storage = storage;
         this.namespaceService = namespaceService;
         this.namespaceFactory = namespaceFactory;
+        this.localCacheFileStore = localCacheFileStore != null && localCacheFileStore.isEnabled() ? localCacheFileStore : null;
     }
 
     /**
@@ -201,31 +215,30 @@ public class InternalStorage implements Storage {
     public Optional<InputStream> getCacheFile(final String cacheId,
                                               final @Nullable String objectId,
                                               final @Nullable Duration ttl) throws IOException {
-        if (ttl != null) {
-            var maybeLastModifiedTime = getCacheFileLastModifiedTime(cacheId, objectId);
-            if (maybeLastModifiedTime.isPresent()) {
-                if (Instant.now().isAfter(Instant.ofEpochMilli(maybeLastModifiedTime.get()).plus(ttl))) {
-                    logger.debug("Cache is expired for cache-id={}, object-id={}, and ttl={}, deleting it",
-                        cacheId,
-                        objectId,
-                        ttl.toMillis()
-                    );
-                    deleteCacheFile(cacheId, objectId);
-                    return Optional.empty();
-                }
-            }
-        }
         URI uri = context.getCacheURI(cacheId, objectId);
-        return isFileExist(uri) ?
-            Optional.of(storage.get(context.getTenantId(), context.getNamespace(), uri)) :
-            Optional.empty();
-    }
+        if (!isFileExist(uri)) {
+            return Optional.empty();
+        }
 
-    private Optional<Long> getCacheFileLastModifiedTime(String cacheId, @Nullable String objectId) throws IOException {
-        URI uri = context.getCacheURI(cacheId, objectId);
-        return isFileExist(uri) ?
-            Optional.of(this.storage.getAttributes(context.getTenantId(), context.getNamespace(), uri).getLastModifiedTime()) :
-            Optional.empty();
+        if (ttl == null && localCacheFileStore == null) {
+            return Optional.of(storage.get(context.getTenantId(), context.getNamespace(), uri));
+        }
+
+        FileAttributes attributes = this.storage.getAttributes(context.getTenantId(), context.getNamespace(), uri);
+        if (ttl != null && Instant.now().isAfter(Instant.ofEpochMilli(attributes.getLastModifiedTime()).plus(ttl))) {
+            logger.debug("Cache is expired for cache-id={}, object-id={}, and ttl={}, deleting it",
+                cacheId,
+                objectId,
+                ttl.toMillis()
+            );
+            deleteCacheFile(cacheId, objectId);
+            return Optional.empty();
+        }
+
+        return Optional.of(localCacheFileStore != null ?
+            localCacheFileStore.get(context.getTenantId(), context.getNamespace(), uri, attributes) :
+            storage.get(context.getTenantId(), context.getNamespace(), uri)
+        );
     }
 
     /**
@@ -234,6 +247,10 @@ public class InternalStorage implements Storage {
     @Override
     public URI putCacheFile(File file, String cacheId, @Nullable String objectId) throws IOException {
         URI uri = context.getCacheURI(cacheId, objectId);
+        if (localCacheFileStore != null) {
+            return localCacheFileStore.put(context.getTenantId(), context.getNamespace(), uri, file.toPath(), () -> this.putFileAndDelete(file, uri));
+        }
+
         return this.putFileAndDelete(file, uri);
     }
 
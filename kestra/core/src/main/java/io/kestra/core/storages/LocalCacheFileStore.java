@@ -0,0 +1,269 @@
+package io.kestra.core.storages;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.utils.Hashing;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.convert.format.ReadableBytesTypeConverter;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Worker-local, size-bounded disk cache of the cache files stored in the internal storage
+ * (the {@code WorkingDirectory} cache and the task output cache).
+ * <p>
+ * Each local copy is validated against the attributes of the stored file (last modified time and size) before being used,
+ * so an unchanged cache file is only downloaded once per worker. A file uploaded by the worker is hard-linked into
+ * the local cache when the file system allows it, so the next run doesn't even download it once.
+ * <p>
+ * When {@code kestra.worker.cache-files.path} is not set, a temporary directory is used and the local cache doesn't
+ * survive a restart of the worker; otherwise the existing entries are reloaded at startup.
+ */
+@Slf4j
+@Singleton
+public class LocalCacheFileStore {
+    private static final String FILE_EXTENSION = ".cache";
+    private static final String VALIDATOR_EXTENSION = ".validator";
+
+    @Value("${kestra.worker.cache-files.enabled:true}")
+    private boolean enabled;
+
+    @Value("${kestra.worker.cache-files.path}")
+    private Optional<String> path;
+
+    @Value("${kestra.worker.cache-files.max-size:1GB}")
+    private String maxSize;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    private Path directory;
+
+    // local entries by storage location, weighted by their size so the total size on disk is bounded
+    private Cache<String, Entry> entries;
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        long maxSizeBytes = new ReadableBytesTypeConverter().convert(maxSize, Number.class)
+            .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + maxSize + "'"))
+            .longValue();
+
+        this.directory = path.isPresent() ?
+            Files.createDirectories(Path.of(path.get())) :
+            Files.createTempDirectory("kestra-cache-files");
+
+        this.entries = Caffeine.newBuilder()
+            .maximumWeight(maxSizeBytes)
+            .weigher((String key, Entry entry) -> (int) Math.min(entry.size(), Integer.MAX_VALUE))
+            .removalListener((String key, Entry entry, RemovalCause cause) -> {
+                // replaced entries share the same file which has already been overwritten
+                if (entry != null && cause != RemovalCause.REPLACED) {
+                    deleteQuietly(entry.file());
+                    deleteQuietly(validatorFile(entry.file()));
+                }
+            })
+            .recordStats()
+            .build();
+        metricRegistry.bind(new CaffeineCacheMetrics<>(entries, "worker-cache-files", List.of()));
+
+        if (path.isPresent()) {
+            this.reload();
+        }
+    }
+
+    /**
+     * @return whether the local cache is enabled.
+     */
+    public boolean isEnabled() {
+        return entries != null;
+    }
+
+    /**
+     * Opens the cache file stored at the given URI, downloading it only if it's missing or outdated in the local cache.
+     *
+     * @param attributes the current attributes of the stored file, used to validate the local copy.
+     */
+    public InputStream get(String tenantId, @Nullable String namespace, URI uri, FileAttributes attributes) throws IOException {
+        String key = key(tenantId, namespace, uri);
+        Entry entry = entries.getIfPresent(key);
+        if (entry != null && entry.isValid(attributes) && Files.exists(entry.file())) {
+            return new FileInputStream(entry.file().toFile());
+        }
+
+        Path file = this.file(key);
+        Path tempFile = this.tempFile();
+        try (InputStream inputStream = storageInterface.get(tenantId, namespace, uri)) {
+            long size = Files.copy(inputStream, tempFile);
+            metricRegistry
+                .counter(MetricRegistry.METRIC_WORKER_CACHE_FILES_DOWNLOADED_BYTES, MetricRegistry.METRIC_WORKER_CACHE_FILES_DOWNLOADED_BYTES_DESCRIPTION)
+                .increment(size);
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+            throw e;
+        }
+
+        // open the file before publishing it, so a concurrent eviction can't remove it under our feet
+        InputStream inputStream = new FileInputStream(tempFile.toFile());
+        this.publish(key, tempFile, file, attributes);
+
+        return inputStream;
+    }
+
+    /**
+     * Uploads the given file with the given uploader, keeping a local copy of it.
+     * The local copy is a hard link to the uploaded file when possible, as the uploader usually deletes it.
+     */
+    public URI put(String tenantId, @Nullable String namespace, URI uri, Path source, Uploader uploader) throws IOException {
+        String key = key(tenantId, namespace, uri);
+        Path tempFile = this.tempFile();
+        try {
+            Files.createLink(tempFile, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source, tempFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        URI uploaded;
+        try {
+            uploaded = uploader.upload();
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+            throw e;
+        }
+
+        try {
+            this.publish(key, tempFile, this.file(key), storageInterface.getAttributes(tenantId, namespace, uri));
+        } catch (IOException e) {
+            // the file is uploaded, failing to keep a local copy only means it will be downloaded next time
+            log.warn("Unable to keep a local copy of the cache file '{}'", uri, e);
+            deleteQuietly(tempFile);
+        }
+
+        return uploaded;
+    }
+
+    private void publish(String key, Path tempFile, Path file, FileAttributes attributes) throws IOException {
+        Files.writeString(this.tempValidatorFile(tempFile), key + "\n" + Validator.of(attributes).serialize(), StandardCharsets.UTF_8);
+        Files.move(this.tempValidatorFile(tempFile), validatorFile(file), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        entries.put(key, new Entry(file, Validator.of(attributes)));
+    }
+
+    private void reload() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                if (file.getFileName().toString().endsWith(FILE_EXTENSION)) {
+                    this.reload(file);
+                } else if (!file.getFileName().toString().endsWith(VALIDATOR_EXTENSION)) {
+                    // leftovers from an interrupted download
+                    deleteQuietly(file);
+                }
+            });
+        }
+    }
+
+    private void reload(Path file) {
+        try {
+            List<String> lines = Files.readAllLines(validatorFile(file), StandardCharsets.UTF_8);
+            entries.put(lines.getFirst(), new Entry(file, Validator.deserialize(lines.get(1))));
+        } catch (IOException | RuntimeException e) {
+            log.debug("Unable to reload the local cache file '{}', deleting it", file, e);
+            deleteQuietly(file);
+            deleteQuietly(validatorFile(file));
+        }
+    }
+
+    private Path file(String key) {
+        return directory.resolve(sha256(key) + FILE_EXTENSION);
+    }
+
+    private Path tempFile() {
+        return directory.resolve(UUID.randomUUID() + ".tmp");
+    }
+
+    private Path tempValidatorFile(Path tempFile) {
+        return tempFile.resolveSibling(tempFile.getFileName() + VALIDATOR_EXTENSION + ".tmp");
+    }
+
+    private static Path validatorFile(Path file) {
+        return file.resolveSibling(file.getFileName() + VALIDATOR_EXTENSION);
+    }
+
+    private static String key(String tenantId, @Nullable String namespace, URI uri) {
+        return tenantId + "/" + namespace + "/" + uri;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Unable to delete the local cache file '{}'", file, e);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            return Hashing.encodeBytesToHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Uploader {
+        URI upload() throws IOException;
+    }
+
+    private record Entry(Path file, Validator validator) {
+        boolean isValid(FileAttributes attributes) {
+            return validator.equals(Validator.of(attributes));
+        }
+
+        long size() {
+            return validator.size();
+        }
+    }
+
+    private record Validator(long lastModifiedTime, long size) {
+        static Validator of(FileAttributes attributes) {
+            return new Validator(attributes.getLastModifiedTime(), attributes.getSize());
+        }
+
+        static Validator deserialize(String value) {
+            String[] parts = value.split(":");
+            return new Validator(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        }
+
+        String serialize() {
+            return lastModifiedTime + ":" + size;
+        }
+    }
+}
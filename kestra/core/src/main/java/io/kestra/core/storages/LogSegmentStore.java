@@ -0,0 +1,310 @@
+package io.kestra.core.storages;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.executions.LogSegment;
+import io.kestra.core.repositories.LogSegmentRepositoryInterface;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+import static io.kestra.core.utils.Rethrow.throwFunction;
+
+/**
+ * Stores the log entries of executions as compressed segment files in the internal storage instead of database rows.
+ * <p>
+ * When enabled with {@code kestra.logs.segments.enabled}, each batch of logs indexed for an execution is written as
+ * a new gzip file of JSON lines ordered by timestamp, and only a small {@link LogSegment} index entry is kept in the
+ * database. Execution scoped queries read the segments that may contain matching entries and merge them with the
+ * database rows.
+ * <p>
+ * Segments are stored under the flow storage prefix rather than the execution one, so purging the storage of an
+ * execution keeps its logs like it does for the logs stored in the database. A segment file missing from the storage
+ * is skipped with a warning.
+ * <p>
+ * Log entries not linked to an execution (trigger logs for example) are still stored in the database, and the logs
+ * stored in segments are not part of cross-execution searches and dashboards.
+ */
+@Slf4j
+@Singleton
+public class LogSegmentStore {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+    private static final String STORAGE_DIRECTORY = "/_logs/";
+    private static final String FILE_EXTENSION = ".jsonl.gz";
+
+    @Value("${kestra.logs.segments.enabled:false}")
+    private boolean enabled;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Inject
+    private LogSegmentRepositoryInterface logSegmentRepository;
+
+    /**
+     * @return whether execution logs are stored in segments.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Writes a new segment for each execution of the given log entries.
+     *
+     * @return the log entries that are not linked to an execution and must be stored elsewhere.
+     */
+    public List<LogEntry> write(List<LogEntry> logs) throws IOException {
+        Map<String, List<LogEntry>> logsByExecution = new LinkedHashMap<>();
+        List<LogEntry> remaining = new ArrayList<>();
+        for (LogEntry logEntry : logs) {
+            if (logEntry.getExecutionId() == null) {
+                remaining.add(logEntry);
+            } else {
+                logsByExecution.computeIfAbsent(logEntry.getTenantId() + "/" + logEntry.getExecutionId(), key -> new ArrayList<>()).add(logEntry);
+            }
+        }
+
+        for (List<LogEntry> executionLogs : logsByExecution.values()) {
+            this.writeSegment(executionLogs);
+        }
+
+        return remaining;
+    }
+
+    /**
+     * @return whether some logs of the given execution are stored in segments.
+     */
+    public boolean exists(@Nullable String tenantId, String executionId) {
+        return !logSegmentRepository.findByExecutionId(tenantId, executionId).isEmpty();
+    }
+
+    /**
+     * Finds the log entries of an execution stored in segments, ordered by timestamp.
+     *
+     * @param taskId    the task of the entries, null for all tasks.
+     * @param taskRunId the task run of the entries, null for all task runs.
+     * @param filter    an additional filter on the entries.
+     */
+    public List<LogEntry> find(@Nullable String tenantId,
+                               String executionId,
+                               @Nullable Level minLevel,
+                               @Nullable String taskId,
+                               @Nullable String taskRunId,
+                               Predicate<LogEntry> filter) {
+        Predicate<LogEntry> entryFilter = entryFilter(minLevel, taskId, taskRunId).and(filter);
+
+        return this.segments(tenantId, executionId, minLevel, taskId, taskRunId).stream()
+            .flatMap(segment -> this.read(segment).stream())
+            .filter(entryFilter)
+            .sorted(Comparator.comparing(LogEntry::getTimestamp, Comparator.nullsFirst(Comparator.naturalOrder())))
+            .toList();
+    }
+
+    /**
+     * Streams the log entries of an execution stored in segments, with one flux per segment ordered by timestamp.
+     * Each segment is read line by line when subscribed, so they can be merged without being loaded in memory.
+     *
+     * @param taskId    the task of the entries, null for all tasks.
+     * @param taskRunId the task run of the entries, null for all task runs.
+     * @param filter    an additional filter on the entries.
+     */
+    public List<Flux<LogEntry>> stream(@Nullable String tenantId,
+                                       String executionId,
+                                       @Nullable Level minLevel,
+                                       @Nullable String taskId,
+                                       @Nullable String taskRunId,
+                                       Predicate<LogEntry> filter) {
+        Predicate<LogEntry> entryFilter = entryFilter(minLevel, taskId, taskRunId).and(filter);
+
+        return this.segments(tenantId, executionId, minLevel, taskId, taskRunId).stream()
+            .map(segment -> this.stream(segment).filter(entryFilter))
+            .toList();
+    }
+
+    /**
+     * Deletes all the log segments of the given executions.
+     *
+     * @return the number of deleted log entries.
+     */
+    public int purge(List<Execution> executions) {
+        int deleted = 0;
+        for (Execution execution : executions) {
+            List<LogSegment> segments = logSegmentRepository.findByExecutionId(execution.getTenantId(), execution.getId());
+            for (LogSegment segment : segments) {
+                this.deleteFile(segment);
+                deleted += segment.getCount();
+            }
+            logSegmentRepository.delete(segments);
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Deletes the log entries matching the given predicate, from the segments matching the given criteria.
+     * As segments are immutable, a segment with some remaining entries is replaced by a new one.
+     *
+     * @return the number of deleted log entries.
+     */
+    public int delete(@Nullable String tenantId,
+                      @Nullable String namespace,
+                      @Nullable String flowId,
+                      @Nullable String executionId,
+                      @Nullable Instant startDate,
+                      @Nullable Instant endDate,
+                      Predicate<LogEntry> predicate) throws IOException {
+        int deleted = 0;
+        for (LogSegment segment : logSegmentRepository.find(tenantId, namespace, flowId, executionId, startDate, endDate)) {
+            List<LogEntry> entries = this.read(segment);
+            List<LogEntry> kept = entries.stream().filter(predicate.negate()).toList();
+            if (kept.size() == entries.size()) {
+                continue;
+            }
+
+            if (!kept.isEmpty()) {
+                this.writeSegment(kept);
+            }
+            logSegmentRepository.delete(List.of(segment));
+            this.deleteFile(segment);
+            deleted += entries.size() - kept.size();
+        }
+
+        return deleted;
+    }
+
+    private List<LogSegment> segments(@Nullable String tenantId, String executionId, @Nullable Level minLevel, @Nullable String taskId, @Nullable String taskRunId) {
+        List<Level> levels = LogEntry.findLevelsByMin(minLevel);
+
+        // use the segment index to avoid reading the segments that can't contain any matching entries
+        return logSegmentRepository.findByExecutionId(tenantId, executionId).stream()
+            .filter(segment -> segment.getLevels() == null || segment.getLevels().stream().anyMatch(levels::contains))
+            .filter(segment -> taskId == null || segment.getTaskIds() == null || segment.getTaskIds().contains(taskId))
+            .filter(segment -> taskRunId == null || segment.getTaskRunIds() == null || segment.getTaskRunIds().contains(taskRunId))
+            .toList();
+    }
+
+    private static Predicate<LogEntry> entryFilter(@Nullable Level minLevel, @Nullable String taskId, @Nullable String taskRunId) {
+        List<Level> levels = LogEntry.findLevelsByMin(minLevel);
+
+        return logEntry -> levels.contains(logEntry.getLevel()) &&
+            (taskId == null || taskId.equals(logEntry.getTaskId())) &&
+            (taskRunId == null || taskRunId.equals(logEntry.getTaskRunId()));
+    }
+
+    private void writeSegment(List<LogEntry> logs) throws IOException {
+        List<LogEntry> sorted = logs.stream()
+            .sorted(Comparator.comparing(LogEntry::getTimestamp, Comparator.nullsFirst(Comparator.naturalOrder())))
+            .toList();
+        LogEntry first = sorted.getFirst();
+        String id = IdUtils.create();
+
+        // outside the execution storage prefix, so purging the execution storage doesn't delete the logs
+        URI flowUri = StorageContext
+            .forExecution(first.getTenantId(), first.getNamespace(), first.getFlowId(), first.getExecutionId())
+            .getFlowStorageURI();
+        URI uri = URI.create(StorageContext.KESTRA_PROTOCOL + flowUri.getPath() + STORAGE_DIRECTORY + first.getExecutionId() + "/" + id + FILE_EXTENSION);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (LogEntry logEntry : sorted) {
+                writer.write(MAPPER.writeValueAsString(logEntry));
+                writer.write('\n');
+            }
+        }
+        storageInterface.put(first.getTenantId(), first.getNamespace(), uri, new ByteArrayInputStream(bytes.toByteArray()));
+
+        Instant now = Instant.now();
+        logSegmentRepository.save(LogSegment.builder()
+            .id(id)
+            .tenantId(first.getTenantId())
+            .namespace(first.getNamespace())
+            .flowId(first.getFlowId())
+            .executionId(first.getExecutionId())
+            .uri(uri)
+            .startDate(Optional.ofNullable(first.getTimestamp()).orElse(now))
+            .endDate(Optional.ofNullable(sorted.getLast().getTimestamp()).orElse(now))
+            .count(sorted.size())
+            .taskIds(sorted.stream().map(LogEntry::getTaskId).filter(Objects::nonNull).collect(Collectors.toSet()))
+            .taskRunIds(sorted.stream().map(LogEntry::getTaskRunId).filter(Objects::nonNull).collect(Collectors.toSet()))
+            .levels(sorted.stream().map(LogEntry::getLevel).filter(Objects::nonNull).collect(Collectors.toSet()))
+            .build()
+        );
+    }
+
+    private List<LogEntry> read(LogSegment segment) {
+        try (BufferedReader reader = this.reader(segment)) {
+            List<LogEntry> entries = new ArrayList<>(segment.getCount());
+            String line;
+            while ((line = reader.readLine()) != null) {
+                entries.add(MAPPER.readValue(line, LogEntry.class));
+            }
+
+            return entries;
+        } catch (FileNotFoundException e) {
+            log.warn("Skipping the log segment '{}' as its file doesn't exist anymore", segment.getUri());
+            return List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the log segment '" + segment.getUri() + "'", e);
+        }
+    }
+
+    private Flux<LogEntry> stream(LogSegment segment) {
+        return Flux.using(
+                () -> this.reader(segment),
+                reader -> Flux.fromStream(reader.lines()).map(throwFunction(line -> MAPPER.readValue(line, LogEntry.class))),
+                throwConsumer(BufferedReader::close)
+            )
+            .onErrorResume(FileNotFoundException.class, e -> {
+                log.warn("Skipping the log segment '{}' as its file doesn't exist anymore", segment.getUri());
+                return Flux.empty();
+            })
+            // reading from the storage is blocking
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private BufferedReader reader(LogSegment segment) throws IOException {
+        InputStream inputStream = storageInterface.get(segment.getTenantId(), segment.getNamespace(), segment.getUri());
+        try {
+            return new BufferedReader(new InputStreamReader(new GZIPInputStream(inputStream), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    private void deleteFile(LogSegment segment) {
+        try {
+            storageInterface.delete(segment.getTenantId(), segment.getNamespace(), segment.getUri());
+        } catch (IOException e) {
+            log.warn("Unable to delete the log segment '{}'", segment.getUri(), e);
+        }
+    }
+}
@@ -18,11 +18,14 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -43,6 +46,9 @@ public class InternalKVStore implements KVStore {
     private final String tenant;
     private final StorageInterface storage;
     private final KvMetadataRepositoryInterface kvMetadataRepository;
+    @Nullable
+    private final KVStoreCache cache;
+    private final int inlineValueMaxSize;
 
     /**
      * Creates a new {@link InternalKVStore} instance.
@@ -52,10 +58,25 @@ public class InternalKVStore implements KVStore {
      * @param storage   The storage.
      */
     public InternalKVStore(@Nullable final String tenant, @Nullable final String namespace, final StorageInterface storage, final KvMetadataRepositoryInterface kvMetadataRepository) {
+        this(tenant, namespace, storage, kvMetadataRepository, null, 0);
+    }
+
+    /**
+     * Creates a new {@link InternalKVStore} instance reading through the given cache.
+     *
+     * @param namespace          The namespace
+     * @param tenant             The tenant.
+     * @param storage            The storage.
+     * @param cache              The cache, or null to always read from the repository and the storage.
+     * @param inlineValueMaxSize The maximum size in bytes of a serialized value stored inline in its metadata instead of in the storage, 0 to disable.
+     */
+    public InternalKVStore(@Nullable final String tenant, @Nullable final String namespace, final StorageInterface storage, final KvMetadataRepositoryInterface kvMetadataRepository, @Nullable final KVStoreCache cache, final int inlineValueMaxSize) {
         this.namespace = namespace;
         this.storage = Objects.requireNonNull(storage, "storage cannot be null");
         this.tenant = tenant;
         this.kvMetadataRepository = kvMetadataRepository;
+        this.cache = cache;
+        this.inlineValueMaxSize = inlineValueMaxSize;
     }
 
     /**
@@ -78,41 +99,219 @@ public class InternalKVStore implements KVStore {
                 "Cannot set value for key '%s'. Key already exists and `overwrite` is set to `false`.", key));
         }
 
-        Object actualValue = value.value();
-        byte[] serialized = actualValue instanceof Duration ? actualValue.toString().getBytes(StandardCharsets.UTF_8) : JacksonMapper.ofIon().writeValueAsBytes(actualValue);
+        byte[] serialized = serialize(value.value());
+
+        PersistedKvMetadata saved = this.kvMetadataRepository.save(this.toMetadata(key, value, serialized));
+
+        this.afterSave(key, value, serialized, saved);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putAll(Map<String, KVValueAndMetadata> values) throws IOException {
+        values.keySet().forEach(KVStore::validateKey);
+
+        Map<String, byte[]> serializedByKey = new HashMap<>();
+        List<PersistedKvMetadata> metadata = new ArrayList<>();
+        for (Map.Entry<String, KVValueAndMetadata> entry : values.entrySet()) {
+            byte[] serialized = serialize(entry.getValue().value());
+            serializedByKey.put(entry.getKey(), serialized);
+            metadata.add(this.toMetadata(entry.getKey(), entry.getValue(), serialized));
+        }
+
+        for (PersistedKvMetadata saved : this.kvMetadataRepository.saveAll(metadata)) {
+            this.afterSave(saved.getName(), values.get(saved.getName()), serializedByKey.get(saved.getName()), saved);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean compareAndSet(String key, @Nullable Integer expectedVersion, KVValueAndMetadata value) throws IOException {
+        KVStore.validateKey(key);
+
+        byte[] serialized = serialize(value.value());
+
+        Optional<PersistedKvMetadata> saved = this.kvMetadataRepository.compute(this.tenant, this.namespace, key, maybePrevious -> {
+            Integer currentVersion = maybePrevious
+                .filter(previous -> !previous.isDeleted() && !isExpired(previous))
+                .map(PersistedKvMetadata::getVersion)
+                .orElse(null);
+
+            return Objects.equals(currentVersion, expectedVersion) ? this.toMetadata(key, value, serialized) : null;
+        });
+
+        if (saved.isEmpty()) {
+            return false;
+        }
+
+        this.afterSave(key, value, serialized, saved.get());
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Number increment(String key, Number delta) throws IOException {
+        KVStore.validateKey(key);
+
+        AtomicReference<Number> result = new AtomicReference<>();
+        try {
+            this.kvMetadataRepository.compute(this.tenant, this.namespace, key, maybePrevious -> {
+                Optional<PersistedKvMetadata> current = maybePrevious.filter(previous -> !previous.isDeleted() && !isExpired(previous));
+
+                Number currentValue = 0;
+                if (current.isPresent()) {
+                    Object value = this.readValue(key, current.get()).map(KVValue::value).orElse(0);
+                    if (!(value instanceof Number number)) {
+                        throw new KVStoreException(String.format("Cannot increment key '%s' as its value is not a number.", key));
+                    }
+                    currentValue = number;
+                }
+
+                Number newValue = add(currentValue, delta);
+                result.set(newValue);
+
+                try {
+                    // an incremented value is always small enough to be stored inline
+                    return PersistedKvMetadata.builder()
+                        .tenantId(this.tenant)
+                        .namespace(this.namespace)
+                        .name(key)
+                        .description(current.map(PersistedKvMetadata::getDescription).orElse(null))
+                        .expirationDate(current.map(PersistedKvMetadata::getExpirationDate).orElse(null))
+                        .deleted(false)
+                        .inlineValue(new String(serialize(newValue), StandardCharsets.UTF_8))
+                        .build();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (this.cache != null) {
+            this.cache.invalidate(this.tenant, this.namespace, key);
+        }
+
+        return result.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, KVValue> getValues(List<String> keys) throws IOException {
+        keys.forEach(KVStore::validateKey);
+
+        Map<String, PersistedKvMetadata> metadataByName = this.kvMetadataRepository.findByNames(this.tenant, this.namespace, keys).stream()
+            .collect(Collectors.toMap(PersistedKvMetadata::getName, Function.identity()));
+
+        Map<String, KVValue> values = new LinkedHashMap<>();
+        for (String key : keys) {
+            PersistedKvMetadata metadata = metadataByName.get(key);
+            if (metadata == null) {
+                // keys without metadata may have been written before metadata existed, fallback to a single get
+                try {
+                    this.getValue(key).ifPresent(value -> values.put(key, value));
+                } catch (ResourceExpiredException e) {
+                    // expired entries are considered missing
+                }
+            } else if (!metadata.isDeleted() && !isExpired(metadata)) {
+                this.readValue(key, metadata).ifPresent(value -> values.put(key, value));
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<KVValue> getValue(String key) throws IOException, ResourceExpiredException {
+        return this.getRawValue(key).map(throwFunction(InternalKVStore::deserialize));
+    }
 
-        PersistedKvMetadata saved = this.kvMetadataRepository.save(PersistedKvMetadata.builder()
+    private PersistedKvMetadata toMetadata(String key, KVValueAndMetadata value, byte[] serialized) {
+        // small values are stored inline in the metadata to avoid a storage round trip on each read
+        boolean inline = serialized.length <= this.inlineValueMaxSize;
+
+        return PersistedKvMetadata.builder()
             .tenantId(this.tenant)
             .namespace(this.namespace)
             .name(key)
             .description(Optional.ofNullable(value.metadata()).map(KVMetadata::getDescription).orElse(null))
             .expirationDate(Optional.ofNullable(value.metadata()).map(KVMetadata::getExpirationDate).orElse(null))
             .deleted(false)
-            .build());
-        this.storage.put(this.tenant, this.namespace, this.storageUri(key, saved.getVersion()), new StorageObject(
-            value.metadataAsMap(),
-            new ByteArrayInputStream(serialized)
-        ));
+            .inlineValue(inline ? new String(serialized, StandardCharsets.UTF_8) : null)
+            .build();
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Optional<KVValue> getValue(String key) throws IOException, ResourceExpiredException {
-        return this.getRawValue(key).map(throwFunction(raw -> {
-            Object value = JacksonMapper.ofIon().readValue(raw, Object.class);
-            if (value instanceof String valueStr && DURATION_PATTERN.matcher(valueStr).matches()) {
-                return new KVValue(Duration.parse(valueStr));
-            }
-            return new KVValue(value);
-        }));
+    private void afterSave(String key, KVValueAndMetadata value, byte[] serialized, PersistedKvMetadata saved) throws IOException {
+        if (saved.getInlineValue() == null) {
+            this.storage.put(this.tenant, this.namespace, this.storageUri(key, saved.getVersion()), new StorageObject(
+                value.metadataAsMap(),
+                new ByteArrayInputStream(serialized)
+            ));
+        }
+
+        if (this.cache != null) {
+            this.cache.invalidate(this.tenant, this.namespace, key);
+        }
+    }
+
+    private Optional<KVValue> readValue(String key, PersistedKvMetadata metadata) {
+        try {
+            Optional<String> raw = metadata.getInlineValue() != null ?
+                Optional.of(metadata.getInlineValue()) :
+                this.readRawValue(key, metadata.getVersion());
+
+            return raw.map(throwFunction(InternalKVStore::deserialize));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        return value instanceof Duration ? value.toString().getBytes(StandardCharsets.UTF_8) : JacksonMapper.ofIon().writeValueAsBytes(value);
+    }
+
+    private static KVValue deserialize(String raw) throws IOException {
+        Object value = JacksonMapper.ofIon().readValue(raw, Object.class);
+        if (value instanceof String valueStr && DURATION_PATTERN.matcher(valueStr).matches()) {
+            return new KVValue(Duration.parse(valueStr));
+        }
+        return new KVValue(value);
+    }
+
+    private static boolean isExpired(PersistedKvMetadata metadata) {
+        return Optional.ofNullable(metadata.getExpirationDate()).map(Instant.now()::isAfter).orElse(false);
+    }
+
+    private static Number add(Number current, Number delta) {
+        if (isIntegral(current) && isIntegral(delta)) {
+            return Math.addExact(current.longValue(), delta.longValue());
+        }
+
+        return new BigDecimal(current.toString()).add(new BigDecimal(delta.toString()));
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
     }
 
     public Optional<String> getRawValue(String key) throws IOException, ResourceExpiredException {
         KVStore.validateKey(key);
 
-        Optional<PersistedKvMetadata> maybeMetadata = this.kvMetadataRepository.findByName(this.tenant, this.namespace, key);
+        Optional<PersistedKvMetadata> maybeMetadata = this.cache == null ?
+            this.kvMetadataRepository.findByName(this.tenant, this.namespace, key) :
+            this.cache.metadata(this.tenant, this.namespace, key, () -> this.kvMetadataRepository.findByName(this.tenant, this.namespace, key));
 
         int version = maybeMetadata.map(PersistedKvMetadata::getVersion).orElse(1);
         if (maybeMetadata.isPresent()) {
@@ -121,12 +320,26 @@ public class InternalKVStore implements KVStore {
                 return Optional.empty();
             }
 
-            if (Optional.ofNullable(metadata.getExpirationDate()).map(Instant.now()::isAfter).orElse(false)) {
+            if (isExpired(metadata)) {
                 this.delete(key);
                 throw new ResourceExpiredException("The requested value has expired");
             }
+
+            if (metadata.getInlineValue() != null) {
+                return Optional.of(metadata.getInlineValue());
+            }
         }
 
+        if (this.cache == null) {
+            return this.readRawValue(key, version);
+        }
+
+        Instant created = maybeMetadata.map(PersistedKvMetadata::getCreated).orElse(null);
+        Instant expirationDate = maybeMetadata.map(PersistedKvMetadata::getExpirationDate).orElse(null);
+        return this.cache.value(this.tenant, this.namespace, key, version, created, expirationDate, () -> this.readRawValue(key, version));
+    }
+
+    private Optional<String> readRawValue(String key, int version) throws IOException {
         StorageObject withMetadata;
         try {
             withMetadata = this.storage.getWithMetadata(this.tenant, this.namespace, this.storageUri(key, version));
@@ -138,6 +351,36 @@ public class InternalKVStore implements KVStore {
         return Optional.of((String) (kvStoreValueWrapper.value()));
     }
 
+    /**
+     * Rewrites the current value of a key stored in the internal storage inline in its metadata
+     * if it's small enough, this is used to migrate values written before inlining was available.
+     *
+     * @param key The key.
+     * @return true if the value has been rewritten inline.
+     */
+    public boolean inline(String key) throws IOException {
+        KVStore.validateKey(key);
+
+        Optional<PersistedKvMetadata> maybeMetadata = this.kvMetadataRepository.findByName(this.tenant, this.namespace, key);
+        if (maybeMetadata.isEmpty() || maybeMetadata.get().isDeleted() || maybeMetadata.get().getInlineValue() != null) {
+            return false;
+        }
+
+        PersistedKvMetadata metadata = maybeMetadata.get();
+        Optional<String> rawValue = this.readRawValue(key, metadata.getVersion());
+        if (rawValue.isEmpty() || rawValue.get().getBytes(StandardCharsets.UTF_8).length > this.inlineValueMaxSize) {
+            return false;
+        }
+
+        // saving creates a new version, the previous one still in the storage will be removed by the KV purge
+        this.kvMetadataRepository.save(metadata.toBuilder().inlineValue(rawValue.get()).build());
+        if (this.cache != null) {
+            this.cache.invalidate(this.tenant, this.namespace, key);
+        }
+
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -150,6 +393,9 @@ public class InternalKVStore implements KVStore {
         }
 
         this.kvMetadataRepository.delete(maybeMetadata.get());
+        if (this.cache != null) {
+            this.cache.invalidate(this.tenant, this.namespace, key);
+        }
         return true;
 
     }
@@ -216,7 +462,8 @@ public class InternalKVStore implements KVStore {
             })).filter(Boolean::booleanValue)
             .count();
 
-        if (actualDeletedEntries != purgedMetadataCount) {
+        // inline values don't have any storage object, so fewer storage deletions than purged metadata is expected
+        if (actualDeletedEntries > purgedMetadataCount) {
             log.warn("KV Metadata purge reported {} deleted entries, but {} values were actually deleted from storage", purgedMetadataCount, actualDeletedEntries);
         }
 
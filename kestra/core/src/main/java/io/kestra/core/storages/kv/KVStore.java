@@ -6,12 +6,15 @@ import io.kestra.core.models.QueryFilter;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.storages.StorageContext;
 import io.micronaut.data.model.Pageable;
+import jakarta.annotation.Nullable;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -76,6 +79,59 @@ public interface KVStore {
      */
     Optional<KVValue> getValue(String key) throws IOException, ResourceExpiredException;
 
+    /**
+     * Finds the entry values for the given keys.
+     *
+     * @param keys The entry keys.
+     * @return The {@link KVValue} by key, keys without any entry or with an expired entry are not present.
+     * @throws IOException if an error occurred while executing the operation on the K/V store.
+     */
+    default Map<String, KVValue> getValues(List<String> keys) throws IOException {
+        Map<String, KVValue> values = new LinkedHashMap<>();
+        for (String key : keys) {
+            try {
+                getValue(key).ifPresent(value -> values.put(key, value));
+            } catch (ResourceExpiredException e) {
+                // expired entries are considered missing
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Puts the given K/V entries, overwriting the existing values.
+     * By default, each entry is put one by one, implementations should write them as a single batch.
+     *
+     * @param values The entries by key.
+     * @throws IOException if an error occurred while executing the operation on the K/V store.
+     */
+    default void putAll(Map<String, KVValueAndMetadata> values) throws IOException {
+        for (Map.Entry<String, KVValueAndMetadata> entry : values.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Atomically increments the numeric value of the given key, a missing or expired key is considered as 0.
+     *
+     * @param key   The entry key - cannot be {@code null}.
+     * @param delta The number to add to the current value.
+     * @return The value after the increment.
+     * @throws IOException if an error occurred while executing the operation on the K/V store.
+     */
+    Number increment(String key, Number delta) throws IOException;
+
+    /**
+     * Atomically puts the given K/V entry only if the current version of the key is the expected one.
+     *
+     * @param key             The entry key - cannot be {@code null}.
+     * @param expectedVersion The expected current version, or {@code null} if the key is expected to not exist.
+     * @param value           The entry value - cannot be {@code null}.
+     * @return {@code true} if the value has been put, {@code false} if the current version wasn't the expected one.
+     * @throws IOException if an error occurred while executing the operation on the K/V store.
+     */
+    boolean compareAndSet(String key, @Nullable Integer expectedVersion, KVValueAndMetadata value) throws IOException;
+
     /**
      * Deletes the K/V store entry for the given key.
      *
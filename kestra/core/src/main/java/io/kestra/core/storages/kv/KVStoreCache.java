@@ -0,0 +1,155 @@
+package io.kestra.core.storages.kv;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.kv.PersistedKvMetadata;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Per-node read-through cache for the {@link InternalKVStore}.
+ * <p>
+ * Values are cached by tenant, namespace, key, version and creation date of the key: as each write creates a new version
+ * stored under a new URI, a cached value can never become stale, it's only bounded by its expiration date.
+ * The creation date is needed as versions restart at 1 when a key is purged then created again.
+ * <p>
+ * Metadata (including the absence of a key, to avoid repeating lookups when walking up the namespace inheritance)
+ * can also be cached for a short duration with {@code kestra.kv.cache.metadata-expiration}.
+ * It is invalidated on each write or delete made through this node, other nodes will see the change once the entry expires.
+ * As this delays the visibility of changes made on other nodes, metadata caching is disabled by default.
+ */
+@Singleton
+public class KVStoreCache {
+    @Value("${kestra.kv.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${kestra.kv.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${kestra.kv.cache.value-expiration:1h}")
+    private Duration valueExpiration;
+
+    @Value("${kestra.kv.cache.metadata-expiration:0s}")
+    private Duration metadataExpiration;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    private Cache<String, CachedValue> values;
+
+    private Cache<String, Optional<PersistedKvMetadata>> metadata;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+
+        this.values = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new CachedValueExpiry())
+            .recordStats()
+            .build();
+        metricRegistry.bind(new CaffeineCacheMetrics<>(values, "kv-values", List.of()));
+
+        if (metadataExpiration.isPositive()) {
+            this.metadata = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(metadataExpiration)
+                .recordStats()
+                .build();
+            metricRegistry.bind(new CaffeineCacheMetrics<>(metadata, "kv-metadata", List.of()));
+        }
+    }
+
+    /**
+     * Gets the metadata of a key, loading it with the given loader if it's not cached.
+     */
+    public Optional<PersistedKvMetadata> metadata(@Nullable String tenant, String namespace, String key, Supplier<Optional<PersistedKvMetadata>> loader) {
+        if (metadata == null) {
+            return loader.get();
+        }
+
+        return metadata.get(cacheKey(tenant, namespace, key), ignored -> loader.get());
+    }
+
+    /**
+     * Gets the raw value of a key version, loading it with the given loader if it's not cached.
+     * A missing value is never cached as it may be concurrently written.
+     */
+    public Optional<String> value(@Nullable String tenant, String namespace, String key, int version, @Nullable Instant created, @Nullable Instant expirationDate, ValueLoader loader) throws IOException {
+        if (values == null) {
+            return loader.load();
+        }
+
+        String cacheKey = cacheKey(tenant, namespace, key) + "/" + version + "/" + created;
+        CachedValue cached = values.getIfPresent(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached.value());
+        }
+
+        Optional<String> loaded = loader.load();
+        loaded.ifPresent(value -> values.put(cacheKey, new CachedValue(value, expirationDate)));
+
+        return loaded;
+    }
+
+    /**
+     * Invalidates the cached metadata of a key after it has been modified or deleted.
+     */
+    public void invalidate(@Nullable String tenant, String namespace, String key) {
+        if (metadata != null) {
+            metadata.invalidate(cacheKey(tenant, namespace, key));
+        }
+    }
+
+    private static String cacheKey(@Nullable String tenant, String namespace, String key) {
+        return tenant + "/" + namespace + "/" + key;
+    }
+
+    @FunctionalInterface
+    public interface ValueLoader {
+        Optional<String> load() throws IOException;
+    }
+
+    private record CachedValue(String value, @Nullable Instant expirationDate) {
+    }
+
+    private class CachedValueExpiry implements Expiry<String, CachedValue> {
+        @Override
+        public long expireAfterCreate(String key, CachedValue value, long currentTime) {
+            Duration expiration = valueExpiration;
+            if (value.expirationDate() != null) {
+                Duration untilExpiration = Duration.between(Instant.now(), value.expirationDate());
+                if (untilExpiration.compareTo(expiration) < 0) {
+                    expiration = untilExpiration.isNegative() ? Duration.ZERO : untilExpiration;
+                }
+            }
+
+            return expiration.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedValue value, long currentTime, long currentDuration) {
+            return this.expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedValue value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
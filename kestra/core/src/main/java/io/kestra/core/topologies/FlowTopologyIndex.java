@@ -0,0 +1,289 @@
+package io.kestra.core.topologies;
+
+import io.kestra.core.models.conditions.Condition;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.FlowId;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.ExecutableTask;
+import io.kestra.core.models.triggers.multipleflows.MultipleCondition;
+import io.kestra.core.utils.ListUtils;
+import io.kestra.core.utils.MapUtils;
+import io.kestra.plugin.core.condition.ExecutionFlow;
+import io.kestra.plugin.core.condition.ExecutionNamespace;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An in-memory index of the relations between flows, incrementally maintained on each flow change.
+ * <p>
+ * It indexes, by namespace and flow id, the subflows called by each flow and the upstream flows
+ * each flow trigger listens to, so the topology of a changed flow only needs to be computed
+ * against its direct neighbors instead of all the flows of its tenant.
+ * <p>
+ * The index is conservative: the {@link #candidates(FlowWithSource)} may contain flows that are not related,
+ * the relations must still be validated with {@link FlowTopologyService#isChild(Flow, Flow)}.
+ */
+@Slf4j
+public class FlowTopologyIndex {
+    private final Map<String, Integer> revisions = new HashMap<>();
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    // flows of a tenant by namespace
+    private final Map<String, Set<String>> flowsByNamespace = new HashMap<>();
+    // flows calling a given flow as a subflow
+    private final Map<String, Set<String>> subflowCallers = new HashMap<>();
+    // flows having a flow trigger listening to a given flow, namespace or any flow of their tenant
+    private final Map<String, Set<String>> triggerListenersByFlow = new HashMap<>();
+    private final Map<String, Set<String>> triggerListenersByNamespace = new HashMap<>();
+    private final Map<String, Set<String>> triggerListenersByTenant = new HashMap<>();
+
+    /**
+     * Adds the given flows unless a more recent revision has already been indexed.
+     */
+    public synchronized void initialize(List<FlowWithSource> flows) {
+        flows.forEach(flow -> {
+            Integer revision = revisions.get(flow.uidWithoutRevision());
+            if (revision == null || revision < flow.getRevision()) {
+                this.update(flow);
+            }
+        });
+    }
+
+    /**
+     * Indexes a created, updated or deleted flow.
+     */
+    public synchronized void update(FlowWithSource flow) {
+        String uid = flow.uidWithoutRevision();
+        revisions.put(uid, flow.getRevision());
+
+        Entry previous = entries.remove(uid);
+        if (previous != null) {
+            unindex(uid, previous);
+        }
+
+        if (!flow.isDeleted()) {
+            Entry entry = Entry.of(flow);
+            entries.put(uid, entry);
+            index(uid, entry);
+        }
+    }
+
+    /**
+     * Returns the indexed flows that may be a parent or a child of the given flow.
+     */
+    public synchronized List<FlowWithSource> candidates(FlowWithSource flow) {
+        String tenantId = flow.getTenantId();
+        Entry entry = Entry.of(flow);
+        Set<String> uids = new HashSet<>();
+
+        // parents calling it as a subflow, and its own subflows
+        uids.addAll(subflowCallers.getOrDefault(flowKey(tenantId, flow.getNamespace(), flow.getId()), Set.of()));
+        entry.subflows().forEach(key -> uids.addAll(flowsByKey(key)));
+
+        // children having a flow trigger on it
+        uids.addAll(triggerListenersByFlow.getOrDefault(flowKey(tenantId, flow.getNamespace(), flow.getId()), Set.of()));
+        uids.addAll(triggerListenersByNamespace.getOrDefault(namespaceKey(tenantId, flow.getNamespace()), Set.of()));
+        uids.addAll(triggerListenersByTenant.getOrDefault(String.valueOf(tenantId), Set.of()));
+
+        // parents of its own flow triggers
+        if (entry.upstreams() != null) {
+            if (entry.upstreams().any()) {
+                flowsByNamespace.entrySet().stream()
+                    .filter(e -> e.getKey().startsWith(namespaceKey(tenantId, "")))
+                    .forEach(e -> uids.addAll(e.getValue()));
+            } else {
+                entry.upstreams().flows().forEach(key -> uids.addAll(flowsByKey(key)));
+                entry.upstreams().namespaces().forEach(key -> uids.addAll(flowsByNamespace.getOrDefault(key, Set.of())));
+            }
+        }
+
+        uids.remove(flow.uidWithoutRevision());
+
+        return uids.stream()
+            .map(entries::get)
+            .filter(Objects::nonNull)
+            .map(Entry::flow)
+            .toList();
+    }
+
+    private Set<String> flowsByKey(String key) {
+        return entries.containsKey(key) ? Set.of(key) : Set.of();
+    }
+
+    private void index(String uid, Entry entry) {
+        FlowWithSource flow = entry.flow();
+        add(flowsByNamespace, namespaceKey(flow.getTenantId(), flow.getNamespace()), uid);
+        entry.subflows().forEach(key -> add(subflowCallers, key, uid));
+
+        if (entry.upstreams() != null) {
+            if (entry.upstreams().any()) {
+                add(triggerListenersByTenant, String.valueOf(flow.getTenantId()), uid);
+            } else {
+                entry.upstreams().flows().forEach(key -> add(triggerListenersByFlow, key, uid));
+                entry.upstreams().namespaces().forEach(key -> add(triggerListenersByNamespace, key, uid));
+            }
+        }
+    }
+
+    private void unindex(String uid, Entry entry) {
+        FlowWithSource flow = entry.flow();
+        remove(flowsByNamespace, namespaceKey(flow.getTenantId(), flow.getNamespace()), uid);
+        entry.subflows().forEach(key -> remove(subflowCallers, key, uid));
+
+        if (entry.upstreams() != null) {
+            remove(triggerListenersByTenant, String.valueOf(flow.getTenantId()), uid);
+            entry.upstreams().flows().forEach(key -> remove(triggerListenersByFlow, key, uid));
+            entry.upstreams().namespaces().forEach(key -> remove(triggerListenersByNamespace, key, uid));
+        }
+    }
+
+    private static void add(Map<String, Set<String>> index, String key, String uid) {
+        index.computeIfAbsent(key, k -> new HashSet<>()).add(uid);
+    }
+
+    private static void remove(Map<String, Set<String>> index, String key, String uid) {
+        Set<String> uids = index.get(key);
+        if (uids != null) {
+            uids.remove(uid);
+            if (uids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    // same format as Flow.uidWithoutRevision() so it can be looked up in the entries
+    private static String flowKey(String tenantId, String namespace, String flowId) {
+        return FlowId.uidWithoutRevision(tenantId, namespace, flowId);
+    }
+
+    private static String namespaceKey(String tenantId, String namespace) {
+        return tenantId + "|" + namespace;
+    }
+
+    private record Entry(FlowWithSource flow, Set<String> subflows, Upstreams upstreams) {
+        static Entry of(FlowWithSource flow) {
+            return new Entry(flow, subflows(flow), upstreams(flow));
+        }
+
+        private static Set<String> subflows(Flow flow) {
+            try {
+                return flow.allTasksWithChilds()
+                    .stream()
+                    .filter(t -> t instanceof ExecutableTask)
+                    .map(t -> ((ExecutableTask<?>) t).subflowId())
+                    .filter(Objects::nonNull)
+                    .map(subflowId -> flowKey(flow.getTenantId(), subflowId.namespace(), subflowId.flowId()))
+                    .collect(Collectors.toSet());
+            } catch (Exception e) {
+                log.warn("Failed to detect flow task on namespace:'{}', flowId:'{}'", flow.getNamespace(), flow.getId(), e);
+                return Set.of();
+            }
+        }
+
+        /**
+         * Computes the upstream flows of the flow triggers of a flow, or null if it has no flow trigger.
+         * <p>
+         * Mirrors {@link FlowTopologyService#isTriggerChild(Flow, Flow)}: a parent must match all the conditions
+         * of all the flow triggers, and the preconditions of any of them.
+         */
+        private static Upstreams upstreams(Flow flow) {
+            List<io.kestra.plugin.core.trigger.Flow> flowTriggers = ListUtils.emptyOnNull(flow.getTriggers())
+                .stream()
+                .filter(t -> t instanceof io.kestra.plugin.core.trigger.Flow)
+                .map(t -> (io.kestra.plugin.core.trigger.Flow) t)
+                .toList();
+
+            if (flowTriggers.isEmpty()) {
+                return null;
+            }
+
+            // any condition restricting the upstream flows restricts the parents
+            Optional<Upstreams> fromConditions = flowTriggers.stream()
+                .flatMap(trigger -> ListUtils.emptyOnNull(trigger.getConditions()).stream())
+                .map(condition -> of(flow.getTenantId(), condition))
+                .filter(upstreams -> !upstreams.any())
+                .findFirst();
+
+            if (fromConditions.isPresent()) {
+                return fromConditions.get();
+            }
+
+            return flowTriggers.stream()
+                .map(trigger -> trigger.getPreconditions() == null ?
+                    Upstreams.ANY :
+                    union(flow.getTenantId(), trigger.getPreconditions().getUpstreamFlowsConditions().values())
+                )
+                .reduce(Upstreams::union)
+                .orElse(Upstreams.ANY);
+        }
+
+        private static Upstreams of(String tenantId, Condition condition) {
+            if (condition instanceof ExecutionFlow executionFlow) {
+                if (isStatic(executionFlow.getNamespace()) && isStatic(executionFlow.getFlowId())) {
+                    return Upstreams.flow(flowKey(tenantId, executionFlow.getNamespace().toString(), executionFlow.getFlowId().toString()));
+                }
+            } else if (condition instanceof ExecutionNamespace executionNamespace) {
+                boolean equals = executionNamespace.getComparison() == null ?
+                    executionNamespace.getPrefix() == null || "false".equals(executionNamespace.getPrefix().toString()) :
+                    ExecutionNamespace.Comparison.EQUALS.name().equals(executionNamespace.getComparison().toString());
+
+                if (equals && isStatic(executionNamespace.getNamespace())) {
+                    return Upstreams.namespace(namespaceKey(tenantId, executionNamespace.getNamespace().toString()));
+                }
+            } else if (condition instanceof io.kestra.plugin.core.trigger.Flow.UpstreamFlowCondition upstreamFlowCondition) {
+                io.kestra.plugin.core.trigger.Flow.UpstreamFlow upstreamFlow = upstreamFlowCondition.getUpstreamFlow();
+                if (upstreamFlow.getNamespace() != null) {
+                    return upstreamFlow.getFlowId() == null ?
+                        Upstreams.namespace(namespaceKey(tenantId, upstreamFlow.getNamespace())) :
+                        Upstreams.flow(flowKey(tenantId, upstreamFlow.getNamespace(), upstreamFlow.getFlowId()));
+                }
+            } else if (condition instanceof MultipleCondition multipleCondition) {
+                return union(tenantId, MapUtils.emptyOnNull(multipleCondition.getConditions()).values());
+            }
+
+            return Upstreams.ANY;
+        }
+
+        // filter conditions are ignored, a parent must match any of the other ones
+        private static Upstreams union(String tenantId, Collection<Condition> conditions) {
+            return conditions.stream()
+                .filter(condition -> !FlowTopologyService.isFilterCondition(condition))
+                .map(condition -> of(tenantId, condition))
+                .reduce(Upstreams::union)
+                .orElse(Upstreams.NONE);
+        }
+
+        private static boolean isStatic(Property<?> property) {
+            return property != null && !property.toString().contains("{");
+        }
+    }
+
+    private record Upstreams(boolean any, Set<String> flows, Set<String> namespaces) {
+        static final Upstreams ANY = new Upstreams(true, Set.of(), Set.of());
+        static final Upstreams NONE = new Upstreams(false, Set.of(), Set.of());
+
+        static Upstreams flow(String key) {
+            return new Upstreams(false, Set.of(key), Set.of());
+        }
+
+        static Upstreams namespace(String key) {
+            return new Upstreams(false, Set.of(), Set.of(key));
+        }
+
+        Upstreams union(Upstreams other) {
+            if (this.any || other.any) {
+                return ANY;
+            }
+
+            return new Upstreams(
+                false,
+                Stream.concat(this.flows.stream(), other.flows.stream()).collect(Collectors.toSet()),
+                Stream.concat(this.namespaces.stream(), other.namespaces.stream()).collect(Collectors.toSet())
+            );
+        }
+    }
+}
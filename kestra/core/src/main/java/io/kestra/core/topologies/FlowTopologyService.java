@@ -260,7 +260,7 @@ public class FlowTopologyService {
         return upstreamFlowMatched && whereMatched;
     }
 
-    private boolean isFilterCondition(Condition condition) {
+    static boolean isFilterCondition(Condition condition) {
         return Stream
             .of(
                 DateTimeBetween.class,
@@ -50,6 +50,18 @@ public class ExecutorsUtils {
         );
     }
 
+    public ExecutorService virtualThreadPerTaskExecutor(String name) {
+        return this.wrap(
+            name,
+            Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual()
+                    .name(name + "_", 0)
+                    .uncaughtExceptionHandler(ThreadUncaughtExceptionHandler.INSTANCE)
+                    .factory()
+            )
+        );
+    }
+
     public ExecutorService singleThreadExecutor(String name) {
         return this.wrap(
             name,
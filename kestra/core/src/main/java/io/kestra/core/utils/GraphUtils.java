@@ -64,14 +64,7 @@ public class GraphUtils {
 
         graph.addNode(triggerCluster);
 
-        Map<String, Trigger> triggersById = Optional.ofNullable(triggers)
-            .map(Collection::stream)
-            .map(s -> s.collect(Collectors.toMap(
-                Trigger::getTriggerId,
-                Function.identity(),
-                (a, b) -> a.getNamespace().length() <= b.getNamespace().length() ? a : b
-            )))
-            .orElse(Collections.emptyMap());
+        Map<String, Trigger> triggersById = GraphUtils.triggersById(triggers);
 
         triggersDeclarations.stream().filter(trigger -> trigger != null).forEach(trigger -> {
             GraphTrigger triggerNode = new GraphTrigger(trigger, triggersById.get(trigger.getId()));
@@ -86,6 +79,17 @@ public class GraphUtils {
         return triggerCluster;
     }
 
+    public static Map<String, Trigger> triggersById(List<Trigger> triggers) {
+        return Optional.ofNullable(triggers)
+            .map(Collection::stream)
+            .map(s -> s.collect(Collectors.toMap(
+                Trigger::getTriggerId,
+                Function.identity(),
+                (a, b) -> a.getNamespace().length() <= b.getNamespace().length() ? a : b
+            )))
+            .orElse(Collections.emptyMap());
+    }
+
     public static List<AbstractGraph> nodes(GraphCluster graphCluster) {
         return graphCluster.getGraph().nodes()
             .stream()
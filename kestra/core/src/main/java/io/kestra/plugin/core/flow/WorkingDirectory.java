@@ -30,6 +30,7 @@ import java.io.*;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
@@ -245,7 +246,7 @@ public class WorkingDirectory extends Sequential implements NamespaceFilesInterf
                                 Path file = runContext.workingDir().path().resolve(entry.getName());
                                 Files.createDirectories(file.getParent());
                                 Files.createFile(file);
-                                Files.write(file, archive.readAllBytes());
+                                Files.copy(archive, file, StandardCopyOption.REPLACE_EXISTING);
                             } catch (IOException e) {
                                 runContext.logger().error("Unable to create the file {}", entry.getName(), e);
                             }
@@ -305,9 +306,9 @@ public class WorkingDirectory extends Sequential implements NamespaceFilesInterf
 
             if (cacheFilesAreUpdated) {
                 runContext.logger().debug("Cache files changed, we update the cache");
-                try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                     ZipOutputStream archive = new ZipOutputStream(bos)) {
-
+                // the archive is streamed to a file as dependency caches can be hundreds of MB
+                Path archiveFile = runContext.workingDir().createTempFile( ".zip");
+                try (ZipOutputStream archive = new ZipOutputStream(Files.newOutputStream(archiveFile))) {
                     for (var path : matchesList) {
                         File file = path.toFile();
                         if (file.isDirectory() || !file.canRead()) {
@@ -317,16 +318,14 @@ public class WorkingDirectory extends Sequential implements NamespaceFilesInterf
                         var relativeFileName = file.getPath().substring(runContext.workingDir().path().toString().length() + 1);
                         var zipEntry = new ZipEntry(relativeFileName);
                         archive.putNextEntry(zipEntry);
-                        archive.write(Files.readAllBytes(path));
+                        Files.copy(path, archive);
                         archive.closeEntry();
                     }
 
                     archive.finish();
-                    Path archiveFile = runContext.workingDir().createTempFile( ".zip");
-                    Files.write(archiveFile, bos.toByteArray());
-                    URI uri = runContext.storage().putCacheFile(archiveFile.toFile(), getId(), taskRun.getValue());
-                    runContext.logger().debug("Caching in {}", uri);
                 }
+                URI uri = runContext.storage().putCacheFile(archiveFile.toFile(), getId(), taskRun.getValue());
+                runContext.logger().debug("Caching in {}", uri);
             } else {
                 runContext.logger().debug("Cache files didn't change, skip updating it");
             }
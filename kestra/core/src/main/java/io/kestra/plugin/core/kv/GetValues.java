@@ -0,0 +1,104 @@
+package io.kestra.plugin.core.kv;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.*;
+
+@SuperBuilder(toBuilder = true)
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Read multiple key-value entries at once.",
+    description = """
+        Renders `keys` and `namespace` (defaults to flow namespace) and fetches all the values in a single lookup. Missing or expired keys are not present in the output. Set `errorOnMissing` to true to fail when one of the keys is absent.
+
+        Unlike the `Get` task, parent namespaces are not looked up. Requires namespace ACL if targeting another namespace."""
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Get the values of the `host` and `port` keys.",
+            full = true,
+            code = """
+                id: kv_store_getvalues
+                namespace: company.team
+
+                tasks:
+                  - id: kv_getvalues
+                    type: io.kestra.plugin.core.kv.GetValues
+                    keys:
+                      - host
+                      - port
+                    namespace: dev # the current namespace of the flow will be used by default
+                """
+        )
+    }
+)
+public class GetValues extends Task implements RunnableTask<GetValues.Output> {
+    @NotNull
+    @Schema(
+        title = "The keys for which to get the values"
+    )
+    private Property<List<String>> keys;
+
+    @NotNull
+    @Schema(
+        title = "The namespace from which to retrieve the KV pairs"
+    )
+    @Builder.Default
+    private Property<String> namespace = Property.ofExpression("{{ flow.namespace }}");
+
+    @NotNull
+    @Schema(
+        title = "Flag specifying whether to fail if there is no value for one of the given keys"
+    )
+    @Builder.Default
+    private Property<Boolean> errorOnMissing = Property.ofValue(false);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String renderedNamespace = runContext.render(this.namespace).as(String.class).orElse(null);
+        if (!Objects.equals(renderedNamespace, runContext.flowInfo().namespace())) {
+            runContext.acl().allowNamespace(renderedNamespace).check();
+        }
+
+        List<String> renderedKeys = runContext.render(this.keys).asList(String.class);
+        Map<String, KVValue> found = runContext.namespaceKv(renderedNamespace).getValues(renderedKeys);
+
+        if (Boolean.TRUE.equals(runContext.render(this.errorOnMissing).as(Boolean.class).orElseThrow())) {
+            List<String> missing = renderedKeys.stream().filter(key -> !found.containsKey(key)).toList();
+            if (!missing.isEmpty()) {
+                throw new NoSuchElementException("No value found for keys " + missing + " in namespace '" + renderedNamespace + "' and `errorOnMissing` is set to true");
+            }
+        }
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        found.forEach((key, value) -> values.put(key, value.value()));
+
+        return Output.builder()
+            .values(values)
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Values retrieved by key",
+            description = "Each value can be of any type and will stay the same as when it was set."
+        )
+        private final Map<String, Object> values;
+    }
+}
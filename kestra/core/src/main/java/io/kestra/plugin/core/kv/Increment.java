@@ -0,0 +1,87 @@
+package io.kestra.plugin.core.kv;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVStore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder(toBuilder = true)
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Atomically increment a numeric key-value entry.",
+    description = """
+        Renders `key` and `namespace` (defaults to flow namespace) and adds `by` to the current value in a single atomic operation, so concurrent executions never lose an update.
+
+        A missing or expired key is considered as 0. Fails if the current value is not a number."""
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Count the number of processed orders across all executions.",
+            full = true,
+            code = """
+                id: kv_store_increment
+                namespace: company.team
+
+                tasks:
+                  - id: kv_increment
+                    type: io.kestra.plugin.core.kv.Increment
+                    key: processed_orders
+                    by: 1
+                """
+        )
+    }
+)
+public class Increment extends Task implements RunnableTask<Increment.Output> {
+    @NotNull
+    @Schema(
+        title = "The key to increment the value for"
+    )
+    private Property<String> key;
+
+    @NotNull
+    @Schema(
+        title = "The number to add to the current value, can be negative to decrement it"
+    )
+    @Builder.Default
+    private Property<Number> by = Property.ofValue(1);
+
+    @NotNull
+    @Schema(
+        title = "The namespace in which the KV pair is stored – by default, Kestra will use the namespace of the flow."
+    )
+    @Builder.Default
+    private Property<String> namespace = Property.ofExpression("{{ flow.namespace }}");
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String renderedNamespace = runContext.render(this.namespace).as(String.class).orElse(null);
+        String renderedKey = runContext.render(this.key).as(String.class).orElse(null);
+        Number renderedBy = runContext.render(this.by).as(Number.class).orElseThrow();
+
+        KVStore kvStore = runContext.namespaceKv(renderedNamespace);
+
+        return Output.builder()
+            .value(kvStore.increment(renderedKey, renderedBy))
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "The value after the increment"
+        )
+        private final Number value;
+    }
+}
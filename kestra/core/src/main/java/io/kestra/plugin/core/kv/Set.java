@@ -11,6 +11,7 @@ import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.storages.kv.KVMetadata;
 import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVStoreException;
 import io.kestra.core.storages.kv.KVValueAndMetadata;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -21,6 +22,7 @@ import lombok.experimental.SuperBuilder;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Optional;
 
 @SuperBuilder(toBuilder = true)
 @Getter
@@ -97,6 +99,12 @@ public class Set extends Task implements RunnableTask<VoidOutput> {
     )
     private Property<KVType> kvType;
 
+    @Schema(
+        title = "The expected current version of the key, to atomically set the value only if it has not been modified in-between.",
+        description = "The version can be retrieved with the `GetKeys` task or the KV API. Use `0` to only set the value if the key doesn't exist. The task fails if the current version is not the expected one."
+    )
+    private Property<Integer> expectedVersion;
+
     @Override
     public VoidOutput run(RunContext runContext) throws Exception {
         String renderedNamespace = runContext.render(this.namespace).as(String.class).orElse(null);
@@ -127,13 +135,24 @@ public class Set extends Task implements RunnableTask<VoidOutput> {
             }
         }
 
-        kvStore.put(renderedKey, new KVValueAndMetadata(
+        KVValueAndMetadata kvValue = new KVValueAndMetadata(
             new KVMetadata(
                 runContext.render(kvDescription).as(String.class).orElse(null),
                 runContext.render(ttl).as(Duration.class).orElse(null)
-            ), renderedValue),
-            runContext.render(this.overwrite).as(Boolean.class).orElseThrow()
-        );
+            ), renderedValue);
+
+        Optional<Integer> renderedExpectedVersion = runContext.render(this.expectedVersion).as(Integer.class);
+        if (renderedExpectedVersion.isPresent()) {
+            Integer version = renderedExpectedVersion.get() == 0 ? null : renderedExpectedVersion.get();
+            if (!kvStore.compareAndSet(renderedKey, version, kvValue)) {
+                throw new KVStoreException(String.format(
+                    "Cannot set value for key '%s'. The current version is not the expected version %d.", renderedKey, renderedExpectedVersion.get()));
+            }
+
+            return null;
+        }
+
+        kvStore.put(renderedKey, kvValue, runContext.render(this.overwrite).as(Boolean.class).orElseThrow());
 
         return null;
     }
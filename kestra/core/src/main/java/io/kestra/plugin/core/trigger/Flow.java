@@ -488,6 +488,7 @@ public class Flow extends AbstractTrigger implements TriggerOutput<Flow.Output>
     }
 
     @Hidden
+    @Getter
     public static class UpstreamFlowCondition extends Condition {
         private final UpstreamFlow upstreamFlow;
 
@@ -4,6 +4,8 @@ import io.kestra.core.models.Label;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.utils.IdUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micronaut.test.annotation.MockBean;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
@@ -26,6 +28,9 @@ class MetricRegistryTest {
     @Inject
     private MetricConfig mockConfig;
 
+    @Inject
+    private MeterRegistry meterRegistry;
+
     @MockBean(MetricConfig.class)
     MetricConfig mockMetricConfig() {
         return mock(MetricConfig.class);
@@ -104,4 +109,19 @@ class MetricRegistryTest {
             "__none__"
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void cachedMeters() {
+        Counter counter = metricRegistry.counter("test.cached", "Test counter", "tag", "a");
+
+        assertThat(metricRegistry.counter("test.cached", "Test counter", "tag", "a")).isSameAs(counter);
+        assertThat(metricRegistry.counter("test.cached", "Test counter", "tag", "b")).isNotSameAs(counter);
+
+        // a meter removed from the registry is registered again
+        meterRegistry.remove(counter);
+        Counter registered = metricRegistry.counter("test.cached", "Test counter", "tag", "a");
+        assertThat(registered).isNotSameAs(counter);
+        registered.increment();
+        assertThat(meterRegistry.find("test.cached").tag("tag", "a").counter().count()).isEqualTo(1.0);
+    }
+}
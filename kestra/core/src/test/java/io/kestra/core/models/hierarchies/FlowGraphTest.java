@@ -7,7 +7,9 @@ import io.kestra.core.junit.annotations.ExecuteFlow;
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.junit.annotations.LoadFlows;
 import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.flows.State;
 import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.repositories.TriggerRepositoryInterface;
@@ -215,6 +217,49 @@ class FlowGraphTest {
         assertThat(edge(flowGraph, ".*failed_value 1", ".*1-2_value 1").getTarget()).matches(".*1-2_value 1");
     }
 
+    @Test
+    void flowGraphFromCache() throws IllegalVariableEvaluationException, IOException, FlowProcessingException {
+        FlowWithSource flow = this.parse("flows/valids/return.yaml");
+        FlowGraph flowGraph = graphService.flowGraph(flow, null);
+
+        // a cached graph is returned as a copy sharing its edges
+        FlowGraph fromCache = graphService.flowGraph(flow, null);
+        assertThat(fromCache).isNotSameAs(flowGraph);
+        assertThat(fromCache.getEdges()).isSameAs(flowGraph.getEdges());
+        assertThat(fromCache.getNodes()).hasSameSizeAs(flowGraph.getNodes());
+        assertThat(fromCache.getNodes()).noneMatch(node -> flowGraph.getNodes().stream().anyMatch(previous -> previous == node));
+
+        assertThat(graphService.flowGraph(flow.toBuilder().source(flow.getSource() + "\n").build(), null).getEdges()).isNotSameAs(flowGraph.getEdges());
+    }
+
+    @Test
+    @ExecuteFlow("flows/valids/each-sequential.yaml")
+    void executionGraphFromCache(Execution execution) throws InternalException, IOException, FlowProcessingException {
+        FlowWithSource flow = this.parse("flows/valids/each-sequential.yaml").toBuilder().revision(execution.getFlowRevision()).build();
+        FlowGraph flowGraph = graphService.executionGraph(flow, null, execution);
+
+        // the cached graph is reused with the current task runs while no task run is created
+        TaskRun taskRun = execution.getTaskRunList().getFirst();
+        Execution updated = execution.withTaskRun(taskRun.withState(State.Type.KILLED));
+        FlowGraph fromCache = graphService.executionGraph(flow, null, updated);
+        assertThat(fromCache.getEdges()).isSameAs(flowGraph.getEdges());
+        assertThat(fromCache.getNodes())
+            .filteredOn(node -> node instanceof AbstractGraphTask task && task.getTaskRun() != null && task.getTaskRun().getId().equals(taskRun.getId()))
+            .isNotEmpty()
+            .allMatch(node -> ((AbstractGraphTask) node).getTaskRun().getState().getCurrent() == State.Type.KILLED);
+
+        // neither the previously returned graph nor the cached one are modified
+        assertThat(flowGraph.getNodes())
+            .filteredOn(node -> node instanceof AbstractGraphTask task && task.getTaskRun() != null && task.getTaskRun().getId().equals(taskRun.getId()))
+            .allMatch(node -> ((AbstractGraphTask) node).getTaskRun().getState().getCurrent() == taskRun.getState().getCurrent());
+        assertThat(graphService.executionGraph(flow, null, execution).getNodes())
+            .filteredOn(node -> node instanceof AbstractGraphTask task && task.getTaskRun() != null && task.getTaskRun().getId().equals(taskRun.getId()))
+            .allMatch(node -> ((AbstractGraphTask) node).getTaskRun().getState().getCurrent() == taskRun.getState().getCurrent());
+
+        List<TaskRun> taskRuns = updated.getTaskRunList();
+        assertThat(graphService.executionGraph(flow, null, updated.withTaskRunList(taskRuns.subList(0, taskRuns.size() - 1))).getEdges()).isNotSameAs(flowGraph.getEdges());
+    }
+
     @Test
     void trigger() throws IllegalVariableEvaluationException, IOException, FlowProcessingException {
         FlowWithSource flow = this.parse("flows/valids/trigger-flow-listener.yaml");
@@ -2,6 +2,7 @@ package io.kestra.core.models.triggers.multipleflows;
 
 import com.google.common.collect.ImmutableMap;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.flows.FlowId;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.utils.TestsUtils;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
@@ -21,6 +22,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -242,6 +245,92 @@ public abstract class AbstractMultipleConditionStorageTest {
         assertThat(expired.size()).isZero();
     }
 
+    @Test
+    void snapshotReadsWindowsOnce() {
+        CountingStorage storage = new CountingStorage(multipleConditionStorage());
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+
+        Pair<Flow, MultipleCondition> pair = mockFlow(tenant, TimeWindow.builder().type(Type.SLIDING_WINDOW).window(Duration.ofHours(1)).build());
+
+        MultipleConditionWindow window = storage.getOrCreate(pair.getKey(), pair.getRight(), Collections.emptyMap());
+        this.save(storage, pair.getLeft(), Collections.singletonList(window.with(ImmutableMap.of("a", true))));
+
+        int gets = storage.gets.get();
+        MultipleConditionStorageInterface snapshot = new MultipleConditionStorageSnapshot(storage);
+        assertThat(snapshot.getOrCreate(pair.getKey(), pair.getRight(), Collections.emptyMap()).getResults().get("a")).isTrue();
+        assertThat(snapshot.get(pair.getKey(), pair.getRight().getId())).isPresent();
+        assertThat(storage.gets.get()).isEqualTo(gets + 1);
+
+        // deletes go to the storage and are seen by the snapshot
+        snapshot.delete(snapshot.get(pair.getKey(), pair.getRight().getId()).orElseThrow());
+        assertThat(snapshot.get(pair.getKey(), pair.getRight().getId())).isEmpty();
+        assertThat(storage.get(pair.getKey(), pair.getRight().getId())).isEmpty();
+    }
+
+    @Test
+    void snapshotOnlySavesChangedWindows() {
+        CountingStorage storage = new CountingStorage(multipleConditionStorage());
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+
+        Pair<Flow, MultipleCondition> pair = mockFlow(tenant, TimeWindow.builder().type(Type.SLIDING_WINDOW).window(Duration.ofHours(1)).build());
+
+        MultipleConditionWindow window = storage.getOrCreate(pair.getKey(), pair.getRight(), Collections.emptyMap());
+        this.save(storage, pair.getLeft(), Collections.singletonList(window.with(ImmutableMap.of("a", true))));
+        assertThat(storage.saves.get()).isEqualTo(1);
+
+        MultipleConditionStorageInterface snapshot = new MultipleConditionStorageSnapshot(storage);
+        MultipleConditionWindow stored = snapshot.getOrCreate(pair.getKey(), pair.getRight(), Collections.emptyMap());
+
+        snapshot.save(List.of(stored.with(ImmutableMap.of("a", true))));
+        assertThat(storage.saves.get()).isEqualTo(1);
+
+        snapshot.save(List.of(stored.with(ImmutableMap.of("a", true, "b", true))));
+        assertThat(storage.saves.get()).isEqualTo(2);
+        assertThat(storage.get(pair.getKey(), pair.getRight().getId()).orElseThrow().getResults()).containsKeys("a", "b");
+
+        // a new window is saved even if it has the same results as the stored one
+        MultipleConditionStorageInterface otherSnapshot = new MultipleConditionStorageSnapshot(storage);
+        MultipleConditionWindow previous = otherSnapshot.get(pair.getKey(), pair.getRight().getId()).orElseThrow();
+        otherSnapshot.save(List.of(MultipleConditionWindow.builder()
+            .tenantId(previous.getTenantId())
+            .namespace(previous.getNamespace())
+            .flowId(previous.getFlowId())
+            .conditionId(previous.getConditionId())
+            .start(previous.getStart().plusMinutes(1))
+            .end(previous.getEnd().plusMinutes(1))
+            .results(previous.getResults())
+            .outputs(previous.getOutputs())
+            .build()
+        ));
+        assertThat(storage.saves.get()).isEqualTo(3);
+    }
+
+    @Test
+    void throttledExpired() throws Exception {
+        CountingStorage storage = new CountingStorage(multipleConditionStorage());
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+
+        Pair<Flow, MultipleCondition> pair = mockFlow(tenant, TimeWindow.builder().window(Duration.ofSeconds(2)).windowAdvance(Duration.ofMinutes(0).negated()).build());
+
+        MultipleConditionWindow window = storage.getOrCreate(pair.getKey(), pair.getRight(), Collections.emptyMap());
+        this.save(storage, pair.getLeft(), Collections.singletonList(window.with(ImmutableMap.of("a", true))));
+
+        Thread.sleep(2005);
+
+        MultipleConditionExpiryThrottle throttle = new MultipleConditionExpiryThrottle(Duration.ofMinutes(1));
+        assertThat(throttle.expired(storage, tenant)).hasSize(1);
+        assertThat(throttle.expired(storage, tenant)).isEmpty();
+        assertThat(storage.expiredLookups.get()).isEqualTo(1);
+
+        // other tenants are throttled separately
+        assertThat(throttle.expired(storage, TestsUtils.randomTenant(this.getClass().getSimpleName()))).isEmpty();
+        assertThat(storage.expiredLookups.get()).isEqualTo(2);
+
+        MultipleConditionExpiryThrottle noThrottle = new MultipleConditionExpiryThrottle(Duration.ZERO);
+        assertThat(noThrottle.expired(storage, tenant)).hasSize(1);
+        assertThat(noThrottle.expired(storage, tenant)).hasSize(1);
+    }
+
     private static Pair<Flow, MultipleCondition> mockFlow(String tenantId, TimeWindow sla) {
         var multipleCondition = MultipleCondition.builder()
             .id("condition-multiple-%s".formatted(tenantId))
@@ -271,4 +360,38 @@ public abstract class AbstractMultipleConditionStorageTest {
 
         return Pair.of(flow, multipleCondition);
     }
-}
\ No newline at end of file
+
+    private static class CountingStorage implements MultipleConditionStorageInterface {
+        private final MultipleConditionStorageInterface delegate;
+        private final AtomicInteger gets = new AtomicInteger();
+        private final AtomicInteger saves = new AtomicInteger();
+        private final AtomicInteger expiredLookups = new AtomicInteger();
+
+        CountingStorage(MultipleConditionStorageInterface delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<MultipleConditionWindow> get(FlowId flow, String conditionId) {
+            gets.incrementAndGet();
+            return delegate.get(flow, conditionId);
+        }
+
+        @Override
+        public List<MultipleConditionWindow> expired(String tenantId) {
+            expiredLookups.incrementAndGet();
+            return delegate.expired(tenantId);
+        }
+
+        @Override
+        public void save(List<MultipleConditionWindow> multipleConditionWindows) {
+            saves.incrementAndGet();
+            delegate.save(multipleConditionWindows);
+        }
+
+        @Override
+        public void delete(MultipleConditionWindow multipleConditionWindow) {
+            delegate.delete(multipleConditionWindow);
+        }
+    }
+}
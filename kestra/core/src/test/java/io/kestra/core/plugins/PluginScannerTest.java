@@ -1,8 +1,11 @@
 package io.kestra.core.plugins;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
@@ -22,6 +25,23 @@ class PluginScannerTest {
         assertThat(scan.getFirst().getManifest().getMainAttributes().getValue("X-Kestra-Group")).isEqualTo("io.kestra.plugin.templates");
     }
 
+    @Test
+    void scanPluginsWithIndex(@TempDir Path plugins) throws URISyntaxException, IOException {
+        Path jar = Paths.get(Objects.requireNonNull(PluginScannerTest.class.getClassLoader().getResource("plugins/plugin-template-test-0.24.0-SNAPSHOT.jar")).toURI());
+        Files.copy(jar, plugins.resolve(jar.getFileName()));
+
+        PluginScanner pluginScanner = new PluginScanner(PluginScannerTest.class.getClassLoader());
+        List<RegisteredPlugin> scanned = pluginScanner.scan(plugins);
+        assertThat(plugins.resolve(".index").resolve(jar.getFileName() + ".json")).exists();
+
+        List<RegisteredPlugin> indexed = pluginScanner.scan(plugins);
+        assertThat(indexed.size()).isEqualTo(1);
+        assertThat(indexed.getFirst().allClass()).extracting(Class::getName)
+            .containsExactlyInAnyOrderElementsOf(scanned.getFirst().allClass().stream().map(Class::getName).toList());
+        assertThat(indexed.getFirst().getGuides()).isEqualTo(scanned.getFirst().getGuides());
+        assertThat(indexed.getFirst().getManifest().getMainAttributes().getValue("X-Kestra-Group")).isEqualTo("io.kestra.plugin.templates");
+    }
+
     @Test
     void scanCore() {
         PluginScanner pluginScanner = new PluginScanner(PluginScannerTest.class.getClassLoader());
@@ -424,6 +424,23 @@ public abstract class AbstractExecutionRepositoryTest {
         });
     }
 
+    @Test
+    protected void findForPurge() {
+        var tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        var execution1 = ExecutionFixture.EXECUTION_1(tenant);
+        executionRepository.save(execution1);
+
+        List<Execution> executions = executionRepository.findForPurge(tenant, execution1.getNamespace(), execution1.getFlowId(), null, null, null)
+            .collectList()
+            .block();
+
+        assertThat(executions).hasSize(1);
+        assertThat(executions.getFirst().getId()).isEqualTo(execution1.getId());
+        assertThat(executions.getFirst().getTenantId()).isEqualTo(tenant);
+        assertThat(executions.getFirst().getNamespace()).isEqualTo(execution1.getNamespace());
+        assertThat(executions.getFirst().getFlowId()).isEqualTo(execution1.getFlowId());
+    }
+
     @Test
     protected void purge() {
         var tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
@@ -17,6 +17,11 @@ import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -257,6 +262,44 @@ public abstract class AbstractKvMetadataRepositoryTest {
         assertThat(kvMetadataRepositoryInterface.findByName(tenantId, namespace, key).isPresent()).isFalse();
     }
 
+    @Test
+    void computeConcurrently() throws Exception {
+        String tenantId = TestsUtils.randomTenant();
+        String namespace = TestsUtils.randomNamespace();
+        String key = "test-kv";
+        AtomicInteger created = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<Optional<PersistedKvMetadata>>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> executor.submit(() -> kvMetadataRepositoryInterface.compute(tenantId, namespace, key, previous -> {
+                    if (previous.isEmpty()) {
+                        created.incrementAndGet();
+                    }
+                    return previous
+                        .map(metadata -> metadata.toBuilder().description(String.valueOf(Integer.parseInt(metadata.getDescription()) + 1)).build())
+                        .orElseGet(() -> PersistedKvMetadata.builder().tenantId(tenantId).namespace(namespace).name(key).description("1").build());
+                })))
+                .toList();
+            for (Future<Optional<PersistedKvMetadata>> future : futures) {
+                assertThat(future.get()).isPresent();
+            }
+        }
+
+        // a single computation must have seen the key as absent, and each one must have seen the previous one
+        assertThat(created.get()).isEqualTo(1);
+        PersistedKvMetadata last = kvMetadataRepositoryInterface.findByName(tenantId, namespace, key).orElseThrow();
+        assertThat(last.getVersion()).isEqualTo(20);
+        assertThat(last.getDescription()).isEqualTo("20");
+        assertThat(kvMetadataRepositoryInterface.find(Pageable.UNPAGED, tenantId, Collections.emptyList(), true, true, FetchVersion.LATEST)).hasSize(1);
+
+        // purging the key also removes its lock, the next computation starts over from the first version
+        kvMetadataRepositoryInterface.purge(List.of(PersistedKvMetadata.builder().tenantId(tenantId).namespace(namespace).name(key).build()));
+        Optional<PersistedKvMetadata> recomputed = kvMetadataRepositoryInterface.compute(tenantId, namespace, key, previous -> {
+            assertThat(previous).isEmpty();
+            return PersistedKvMetadata.builder().tenantId(tenantId).namespace(namespace).name(key).description("1").build();
+        });
+        assertThat(recomputed).get().extracting(PersistedKvMetadata::getVersion).isEqualTo(1);
+    }
 
     protected static PersistedKvMetadata buildTestKvDescription(String tenantId, String namespace, String key) {
         return PersistedKvMetadata.builder()
@@ -0,0 +1,178 @@
+package io.kestra.core.repositories;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.executions.LogSegment;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.services.ExecutionLogService;
+import io.kestra.core.services.ExecutionService;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Subclasses must enable log segments with {@code kestra.logs.segments.enabled}.
+ */
+@MicronautTest(transactional = false)
+public abstract class AbstractLogSegmentRepositoryTest {
+    @Inject
+    private LogRepositoryInterface logRepository;
+
+    @Inject
+    private LogSegmentRepositoryInterface logSegmentRepository;
+
+    @Inject
+    private ExecutionLogService executionLogService;
+
+    @Inject
+    private ExecutionRepositoryInterface executionRepository;
+
+    @Inject
+    private ExecutionService executionService;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Test
+    void shouldStoreExecutionLogsInSegments() throws Exception {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        String executionId = IdUtils.create();
+        Instant now = Instant.now();
+
+        logRepository.saveBatch(List.of(
+            logEntry(tenant, executionId, "first", Level.INFO, now.minusSeconds(2)),
+            logEntry(tenant, executionId, "second", Level.ERROR, now.minusSeconds(1))
+        ));
+        logRepository.saveBatch(List.of(
+            logEntry(tenant, executionId, "third", Level.DEBUG, now),
+            logEntry(tenant, null, "trigger", Level.INFO, now)
+        ));
+
+        List<LogSegment> segments = logSegmentRepository.findByExecutionId(tenant, executionId);
+        assertThat(segments).hasSize(2);
+        assertThat(segments.getFirst().getCount()).isEqualTo(2);
+
+        assertThat(logRepository.findByExecutionId(tenant, executionId, Level.TRACE))
+            .extracting(LogEntry::getMessage)
+            .containsExactly("first", "second", "third");
+        assertThat(logRepository.findByExecutionId(tenant, executionId, Level.INFO))
+            .extracting(LogEntry::getMessage)
+            .containsExactly("first", "second");
+        assertThat(logRepository.findByExecutionId(tenant, executionId, Level.TRACE, Pageable.from(2, 2)))
+            .extracting(LogEntry::getMessage)
+            .containsExactly("third");
+
+        try (InputStream inputStream = executionLogService.getExecutionLogsAsStream(tenant, executionId, Level.ERROR, null, null, null, true)) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).contains("second").doesNotContain("first");
+        }
+
+        logRepository.deleteByQuery(tenant, executionId, null, null, Level.ERROR, null);
+        assertThat(logRepository.findByExecutionId(tenant, executionId, Level.TRACE))
+            .extracting(LogEntry::getMessage)
+            .containsExactly("first", "third");
+
+        Integer purged = logRepository.purge(Execution.builder().id(executionId).tenantId(tenant).namespace("io.kestra.unittest").flowId("flowId").build());
+        assertThat(purged).isEqualTo(2);
+        assertThat(logSegmentRepository.findByExecutionId(tenant, executionId)).isEmpty();
+    }
+
+    @Test
+    void shouldMergeDatabaseLogsWithSegments() throws Exception {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        String executionId = IdUtils.create();
+        Instant now = Instant.now();
+
+        // logs saved one by one are still stored in the database, like the ones written before segments were enabled
+        logRepository.save(logEntry(tenant, executionId, "database", Level.INFO, now.minusSeconds(2)));
+        logRepository.saveBatch(List.of(logEntry(tenant, executionId, "segment", Level.INFO, now)));
+
+        assertThat(logRepository.findByExecutionId(tenant, executionId, Level.TRACE))
+            .extracting(LogEntry::getMessage)
+            .containsExactly("database", "segment");
+
+        logRepository.save(logEntry(tenant, executionId, "database-last", Level.INFO, now.plusSeconds(1)));
+        try (InputStream inputStream = executionLogService.getExecutionLogsAsStream(tenant, executionId, Level.INFO, null, null, null, true)) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines().toList())
+                .hasSize(3)
+                .satisfies(lines -> {
+                    assertThat(lines.get(0)).contains("database");
+                    assertThat(lines.get(1)).contains("segment");
+                    assertThat(lines.get(2)).contains("database-last");
+                });
+        }
+
+        // logs are only visible from their tenant
+        try (InputStream inputStream = executionLogService.getExecutionLogsAsStream(TestsUtils.randomTenant(), executionId, Level.INFO, null, null, null, true)) {
+            assertThat(inputStream.readAllBytes()).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldKeepSegmentsWhenOnlyTheStorageIsPurged() throws Exception {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        Execution execution = executionRepository.save(Execution.builder()
+            .id(IdUtils.create())
+            .tenantId(tenant)
+            .namespace("io.kestra.unittest")
+            .flowId("flowId")
+            .flowRevision(1)
+            .state(new State())
+            .build()
+        );
+        logRepository.saveBatch(List.of(logEntry(tenant, execution.getId(), "segment", Level.INFO, Instant.now())));
+
+        executionService.purge(false, false, false, true, tenant, "io.kestra.unittest", "flowId", null, ZonedDateTime.now().plusMinutes(1), null, 100);
+
+        assertThat(logRepository.findByExecutionId(tenant, execution.getId(), Level.TRACE))
+            .extracting(LogEntry::getMessage)
+            .containsExactly("segment");
+    }
+
+    @Test
+    void shouldSkipMissingSegmentFiles() throws Exception {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        String executionId = IdUtils.create();
+
+        logRepository.save(logEntry(tenant, executionId, "database", Level.INFO, Instant.now().minusSeconds(1)));
+        logRepository.saveBatch(List.of(logEntry(tenant, executionId, "segment", Level.INFO, Instant.now())));
+        LogSegment segment = logSegmentRepository.findByExecutionId(tenant, executionId).getFirst();
+        storageInterface.delete(tenant, segment.getNamespace(), segment.getUri());
+
+        assertThat(logRepository.findByExecutionId(tenant, executionId, Level.TRACE))
+            .extracting(LogEntry::getMessage)
+            .containsExactly("database");
+        try (InputStream inputStream = executionLogService.getExecutionLogsAsStream(tenant, executionId, Level.INFO, null, null, null, true)) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).contains("database").doesNotContain("segment");
+        }
+    }
+
+    private static LogEntry logEntry(String tenantId, String executionId, String message, Level level, Instant timestamp) {
+        return LogEntry.builder()
+            .tenantId(tenantId)
+            .namespace("io.kestra.unittest")
+            .flowId("flowId")
+            .taskId("taskId")
+            .executionId(executionId)
+            .taskRunId(executionId == null ? null : "taskRunId")
+            .triggerId(executionId == null ? "triggerId" : null)
+            .attemptNumber(0)
+            .timestamp(timestamp)
+            .level(level)
+            .thread("")
+            .message(message)
+            .build();
+    }
+}
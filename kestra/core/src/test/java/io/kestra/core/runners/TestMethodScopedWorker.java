@@ -4,6 +4,7 @@ import io.kestra.core.server.ServiceStateChangeEvent;
 import io.kestra.core.services.WorkerGroupService;
 import io.kestra.core.utils.ExecutorsUtils;
 import io.kestra.worker.DefaultWorker;
+import io.kestra.worker.WorkerVirtualThreadsConfiguration;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.context.annotation.Prototype;
 import io.micronaut.context.event.ApplicationEventPublisher;
@@ -21,9 +22,10 @@ public class TestMethodScopedWorker extends DefaultWorker {
                                   @Nullable @Parameter String workerGroupKey,
                                   ApplicationEventPublisher<ServiceStateChangeEvent> eventPublisher,
                                   WorkerGroupService workerGroupService,
-                                  ExecutorsUtils executorsUtils
+                                  ExecutorsUtils executorsUtils,
+                                  WorkerVirtualThreadsConfiguration virtualThreadsConfiguration
     ) {
-        super(workerId, numThreads, workerGroupKey, eventPublisher, workerGroupService, executorsUtils);
+        super(workerId, numThreads, workerGroupKey, eventPublisher, workerGroupService, executorsUtils, virtualThreadsConfiguration);
     }
 
     /**
@@ -0,0 +1,82 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.core.log.Log;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MicronautTest
+@Property(name = "kestra.worker.variables-offload.enabled", value = "true")
+@Property(name = "kestra.worker.variables-offload.threshold", value = "64")
+class WorkerTaskVariablesStoreTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Inject
+    private WorkerTaskVariablesStore workerTaskVariablesStore;
+
+    @Test
+    void shouldOffloadAndResolveLargeVariables() throws Exception {
+        Map<String, Object> outputs = Map.of("previous", Map.of("value", "x".repeat(128)));
+        WorkerTask workerTask = workerTask(Map.of("outputs", outputs, "flow", Map.of("id", "flow")));
+
+        WorkerTask offloaded = workerTaskVariablesStore.offload(workerTask);
+
+        Map<String, Object> variables = offloaded.getRunContext().getVariables();
+        assertThat(variables).doesNotContainKey("outputs");
+        assertThat(variables).containsKeys(WorkerTaskVariablesStore.REFERENCES_VARIABLE_NAME, "flow");
+
+        Map<String, Object> resolved = workerTaskVariablesStore.resolve(offloaded.getTaskRun(), variables);
+        assertThat(resolved).doesNotContainKey(WorkerTaskVariablesStore.REFERENCES_VARIABLE_NAME);
+        assertThat(resolved.get("outputs")).isEqualTo(outputs);
+    }
+
+    @Test
+    void shouldShareTheSameReferenceForIdenticalVariables() throws Exception {
+        Map<String, Object> outputs = Map.of("previous", Map.of("value", "y".repeat(128)));
+
+        WorkerTask first = workerTaskVariablesStore.offload(workerTask(Map.of("outputs", outputs)));
+        WorkerTask second = workerTaskVariablesStore.offload(workerTask(Map.of("outputs", outputs)));
+
+        assertThat(first.getRunContext().getVariables().get(WorkerTaskVariablesStore.REFERENCES_VARIABLE_NAME))
+            .isEqualTo(second.getRunContext().getVariables().get(WorkerTaskVariablesStore.REFERENCES_VARIABLE_NAME));
+    }
+
+    @Test
+    void shouldKeepSmallVariablesInline() throws Exception {
+        WorkerTask workerTask = workerTask(Map.of("outputs", Map.of("previous", Map.of("value", "small"))));
+
+        WorkerTask offloaded = workerTaskVariablesStore.offload(workerTask);
+
+        assertThat(offloaded).isSameAs(workerTask);
+    }
+
+    private WorkerTask workerTask(Map<String, Object> variables) {
+        TaskRun taskRun = TaskRun.builder()
+            .id(IdUtils.create())
+            .tenantId(MAIN_TENANT)
+            .namespace("io.kestra.tests")
+            .flowId("flow")
+            .executionId("execution")
+            .taskId("log")
+            .state(new State())
+            .build();
+
+        return WorkerTask.builder()
+            .taskRun(taskRun)
+            .task(Log.builder().id("log").type(Log.class.getName()).message("hello").build())
+            .runContext(runContextFactory.of(variables))
+            .build();
+    }
+}
@@ -1,10 +1,15 @@
 package io.kestra.core.runners.pebble.filters;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.runners.VariableRenderer;
+import io.kestra.core.runners.pebble.CompiledExpressionCache;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.serializers.JacksonMapper;
 import jakarta.inject.Inject;
+import net.thisptr.jackson.jq.JsonQuery;
+import net.thisptr.jackson.jq.exception.JsonQueryException;
 import org.junit.jupiter.api.Test;
 
 import java.time.ZoneId;
@@ -21,6 +26,9 @@ class JqFilterTest {
     @Inject
     VariableRenderer variableRenderer;
 
+    @Inject
+    CompiledExpressionCache compiledExpressionCache;
+
     @Test
     void fromString() throws IllegalVariableEvaluationException {
         String render = variableRenderer.render("{{ [1, 2, 3] | jq(\".[0]\") | first }}", Map.of());
@@ -34,6 +42,22 @@ class JqFilterTest {
         assertThat(render).isEqualTo("[1]");
     }
 
+    @Test
+    void fromJsonNode() throws IllegalVariableEvaluationException, JsonQueryException {
+        JsonNode node = JacksonMapper.ofJson().valueToTree(Map.of("test", Arrays.asList(1, 2, 3)));
+
+        String render = variableRenderer.render("{{ my_vars | jq(\".test[1]\") | first }}", Map.of("my_vars", node));
+        assertThat(render).isEqualTo("2");
+
+        // the compiled expression is reused on subsequent renderings
+        JsonQuery compiled = compiledExpressionCache.jq(".test[1]");
+        long hits = compiledExpressionCache.jqStats().hitCount();
+        render = variableRenderer.render("{{ my_vars | jq(\".test[1]\") | first }}", Map.of("my_vars", node));
+        assertThat(render).isEqualTo("2");
+        assertThat(compiledExpressionCache.jqStats().hitCount()).isGreaterThan(hits);
+        assertThat(compiledExpressionCache.jq(".test[1]")).isSameAs(compiled);
+    }
+
     @Test
     void simple() throws IllegalVariableEvaluationException {
         ImmutableMap<String, Object> vars = ImmutableMap.of(
@@ -0,0 +1,105 @@
+package io.kestra.core.secret;
+
+import io.kestra.core.encryption.EncryptionService;
+import io.kestra.core.models.secret.NamespaceSecret;
+import io.kestra.core.repositories.NamespaceSecretRepositoryInterface;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest
+class SecretServiceCacheTest {
+    private static final Map<String, NamespaceSecret> SECRETS = new ConcurrentHashMap<>();
+    private static final AtomicInteger LOOKUPS = new AtomicInteger();
+
+    @Inject
+    private SecretService<String> secretService;
+
+    @Value("${kestra.encryption.secret-key}")
+    private String encryptionKey;
+
+    @Test
+    void shouldCacheNamespaceSecrets() throws Exception {
+        save("io.kestra.cache", "TOKEN", "first");
+        int lookups = LOOKUPS.get();
+
+        assertThat(secretService.findSecret(MAIN_TENANT, "io.kestra.cache", "token")).isEqualTo("first");
+        assertThat(secretService.findSecret(MAIN_TENANT, "io.kestra.cache", "TOKEN")).isEqualTo("first");
+        assertThat(LOOKUPS.get()).isEqualTo(lookups + 1);
+
+        save("io.kestra.cache", "TOKEN", "second");
+        assertThat(secretService.findSecret(MAIN_TENANT, "io.kestra.cache", "TOKEN")).isEqualTo("first");
+
+        secretService.invalidate(MAIN_TENANT, "io.kestra.cache", "token");
+        assertThat(secretService.findSecret(MAIN_TENANT, "io.kestra.cache", "TOKEN")).isEqualTo("second");
+        assertThat(LOOKUPS.get()).isEqualTo(lookups + 2);
+    }
+
+    @Test
+    void shouldNotCacheMissingNamespaceSecrets() throws Exception {
+        int lookups = LOOKUPS.get();
+
+        assertThrows(SecretNotFoundException.class, () -> secretService.findSecret(MAIN_TENANT, "io.kestra.cache", "MISSING"));
+        assertThrows(SecretNotFoundException.class, () -> secretService.findSecret(MAIN_TENANT, "io.kestra.cache", "MISSING"));
+        assertThat(LOOKUPS.get()).isEqualTo(lookups + 2);
+
+        // a secret created without invalidating the cache, like on another node, is found right away
+        save("io.kestra.cache", "MISSING", "created");
+        assertThat(secretService.findSecret(MAIN_TENANT, "io.kestra.cache", "MISSING")).isEqualTo("created");
+    }
+
+    private void save(String namespace, String key, String value) throws Exception {
+        SECRETS.put(namespace + "/" + key, NamespaceSecret.builder()
+            .tenantId(MAIN_TENANT)
+            .namespace(namespace)
+            .key(key)
+            .valueEncrypted(EncryptionService.encrypt(encryptionKey, value))
+            .build()
+        );
+    }
+
+    @MockBean(NamespaceSecretRepositoryInterface.class)
+    NamespaceSecretRepositoryInterface namespaceSecretRepository() {
+        return new NamespaceSecretRepositoryInterface() {
+            @Override
+            public Optional<NamespaceSecret> findByNamespaceAndKey(String tenantId, String namespace, String key) {
+                LOOKUPS.incrementAndGet();
+                return Optional.ofNullable(SECRETS.get(namespace + "/" + key));
+            }
+
+            @Override
+            public NamespaceSecret save(NamespaceSecret secret) {
+                SECRETS.put(secret.getNamespace() + "/" + secret.getKey(), secret);
+                return secret;
+            }
+
+            @Override
+            public void delete(String tenantId, String namespace, String key) {
+                SECRETS.remove(namespace + "/" + key);
+            }
+
+            @Override
+            public Set<String> listKeys(String tenantId, String namespace) {
+                return Set.of();
+            }
+
+            @Override
+            public List<NamespaceSecret> list(String tenantId, String namespace) {
+                return List.of();
+            }
+        };
+    }
+}
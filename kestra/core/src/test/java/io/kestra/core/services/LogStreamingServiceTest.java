@@ -0,0 +1,61 @@
+package io.kestra.core.services;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueException;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.http.sse.Event;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@KestraTest
+class LogStreamingServiceTest {
+    @Inject
+    private LogStreamingService logStreamingService;
+
+    @Inject
+    @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
+    private QueueInterface<LogEntry> logQueue;
+
+    @Test
+    void shouldOnlyConsumeQueueWithSubscribers() {
+        String executionId = IdUtils.create();
+        String subscriberId = IdUtils.create();
+        assertThat(logStreamingService.isConsuming()).isFalse();
+
+        Event<LogEntry> event = Flux.<Event<LogEntry>>create(emitter -> {
+                logStreamingService.registerSubscriber(executionId, subscriberId, emitter, List.of(Level.INFO.name()));
+                assertThat(logStreamingService.isConsuming()).isTrue();
+
+                try {
+                    logQueue.emit(LogEntry.builder()
+                        .tenantId(MAIN_TENANT)
+                        .executionId(executionId)
+                        .level(Level.INFO)
+                        .message("hello")
+                        .timestamp(Instant.now())
+                        .build());
+                } catch (QueueException e) {
+                    emitter.error(e);
+                }
+            })
+            .doFinally(ignored -> logStreamingService.unregisterSubscriber(executionId, subscriberId))
+            .blockFirst(Duration.ofSeconds(10));
+
+        assertThat(event).isNotNull();
+        assertThat(event.getData().getMessage()).isEqualTo("hello");
+        assertThat(logStreamingService.isConsuming()).isFalse();
+    }
+}
@@ -1,8 +1,10 @@
 package io.kestra.core.storages;
 
 import io.kestra.core.exceptions.ResourceExpiredException;
+import io.kestra.core.models.kv.PersistedKvMetadata;
 import io.kestra.core.repositories.KvMetadataRepositoryInterface;
 import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.services.KVStoreService;
 import io.kestra.core.storages.kv.InternalKVStore;
 import io.kestra.core.storages.kv.KVEntry;
 import io.kestra.core.storages.kv.KVMetadata;
@@ -25,8 +27,12 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,6 +51,9 @@ class InternalKVStoreTest {
     @Inject
     private KvMetadataRepositoryInterface kvMetadataRepository;
 
+    @Inject
+    private KVStoreService kvStoreService;
+
     @Test
     void list() throws IOException, InterruptedException {
         Instant now = Instant.now();
@@ -286,6 +295,129 @@ class InternalKVStoreTest {
         assertThat(kvEntries.getFirst().version()).isEqualTo(2);
     }
 
+    @Test
+    void shouldReadThroughCacheAndSeeNewVersions() throws IOException, ResourceExpiredException {
+        final String namespaceId = "io.kestra." + IdUtils.create();
+        InternalKVStore kv = kvStoreService.kvStore(MAIN_TENANT, namespaceId);
+
+        kv.put(TEST_KV_KEY, new KVValueAndMetadata(null, "value1"));
+        assertThat(kv.getValue(TEST_KV_KEY)).contains(new KVValue("value1"));
+        assertThat(kv.getValue(TEST_KV_KEY)).contains(new KVValue("value1"));
+
+        kv.put(TEST_KV_KEY, new KVValueAndMetadata(null, "value2"));
+        assertThat(kv.getValue(TEST_KV_KEY)).contains(new KVValue("value2"));
+
+        kv.delete(TEST_KV_KEY);
+        assertThat(kv.getValue(TEST_KV_KEY)).isEmpty();
+    }
+
+    @Test
+    void shouldNotReadCachedValueOfPurgedKey() throws IOException, ResourceExpiredException {
+        final String namespaceId = "io.kestra." + IdUtils.create();
+        InternalKVStore kv = kvStoreService.kvStore(MAIN_TENANT, namespaceId);
+
+        // large values are not inlined so they are read through the value cache
+        kv.put(TEST_KV_KEY, new KVValueAndMetadata(null, "a".repeat(2048)));
+        assertThat(kv.getValue(TEST_KV_KEY)).contains(new KVValue("a".repeat(2048)));
+
+        // purging all versions then writing again restarts at version 1
+        kvMetadataRepository.purge(List.of(PersistedKvMetadata.builder().tenantId(MAIN_TENANT).namespace(namespaceId).name(TEST_KV_KEY).build()));
+        kv.put(TEST_KV_KEY, new KVValueAndMetadata(null, "b".repeat(2048)));
+
+        assertThat(kvMetadataRepository.findByName(MAIN_TENANT, namespaceId, TEST_KV_KEY).orElseThrow().getVersion()).isEqualTo(1);
+        assertThat(kv.getValue(TEST_KV_KEY)).contains(new KVValue("b".repeat(2048)));
+    }
+
+    @Test
+    void shouldStoreSmallValuesInline() throws IOException, ResourceExpiredException {
+        final String namespaceId = "io.kestra." + IdUtils.create();
+        InternalKVStore kv = kvStoreService.kvStore(MAIN_TENANT, namespaceId);
+
+        kv.put("small", new KVValueAndMetadata(null, "value"));
+        kv.put("large", new KVValueAndMetadata(null, "x".repeat(2048)));
+
+        assertThat(kvMetadataRepository.findByName(MAIN_TENANT, namespaceId, "small").orElseThrow().getInlineValue()).isNotNull();
+        assertThat(storageInterface.exists(MAIN_TENANT, namespaceId, kv.storageUri("small", 1))).isFalse();
+        assertThat(kv.getValue("small")).contains(new KVValue("value"));
+
+        assertThat(kvMetadataRepository.findByName(MAIN_TENANT, namespaceId, "large").orElseThrow().getInlineValue()).isNull();
+        assertThat(kv.getValue("large")).contains(new KVValue("x".repeat(2048)));
+    }
+
+    @Test
+    void shouldMigrateExistingValuesInline() throws IOException, ResourceExpiredException {
+        final String namespaceId = "io.kestra." + IdUtils.create();
+        new InternalKVStore(MAIN_TENANT, namespaceId, storageInterface, kvMetadataRepository).put(TEST_KV_KEY, new KVValueAndMetadata(null, "value"));
+
+        InternalKVStore kv = kvStoreService.kvStore(MAIN_TENANT, namespaceId);
+        assertThat(kv.inline(TEST_KV_KEY)).isTrue();
+        assertThat(kv.inline(TEST_KV_KEY)).isFalse();
+
+        assertThat(kvMetadataRepository.findByName(MAIN_TENANT, namespaceId, TEST_KV_KEY).orElseThrow().getInlineValue()).isNotNull();
+        assertThat(kv.getValue(TEST_KV_KEY)).contains(new KVValue("value"));
+    }
+
+    @Test
+    void shouldIncrementAtomically() throws Exception {
+        InternalKVStore kv = kv();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<Number>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> executor.submit(() -> kv.increment("counter", 1)))
+                .toList();
+            for (Future<Number> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(((Number) kv.getValue("counter").orElseThrow().value()).longValue()).isEqualTo(20L);
+        assertThat(kv.increment("counter", -5)).isEqualTo(15L);
+    }
+
+    @Test
+    void shouldCompareAndSet() throws IOException, ResourceExpiredException {
+        InternalKVStore kv = kv();
+
+        assertThat(kv.compareAndSet(TEST_KV_KEY, null, new KVValueAndMetadata(null, "first"))).isTrue();
+        assertThat(kv.compareAndSet(TEST_KV_KEY, null, new KVValueAndMetadata(null, "other"))).isFalse();
+        assertThat(kv.compareAndSet(TEST_KV_KEY, 1, new KVValueAndMetadata(null, "second"))).isTrue();
+        assertThat(kv.compareAndSet(TEST_KV_KEY, 1, new KVValueAndMetadata(null, "other"))).isFalse();
+
+        assertThat(kv.getValue(TEST_KV_KEY)).contains(new KVValue("second"));
+    }
+
+    @Test
+    void shouldGetMultipleValues() throws IOException, ResourceExpiredException {
+        InternalKVStore kv = kv();
+        kv.putAll(Map.of("a", new KVValueAndMetadata(null, "1"), "b", new KVValueAndMetadata(null, "2")));
+
+        Map<String, KVValue> values = kv.getValues(List.of("a", "b", "missing"));
+
+        assertThat(values).containsOnly(Map.entry("a", new KVValue("1")), Map.entry("b", new KVValue("2")));
+    }
+
+    @Test
+    void shouldPutAllAsNewVersions() throws IOException, ResourceExpiredException {
+        final String namespaceId = "io.kestra." + IdUtils.create();
+        InternalKVStore kv = kvStoreService.kvStore(MAIN_TENANT, namespaceId);
+        kv.put("small", new KVValueAndMetadata(null, "first"));
+
+        kv.putAll(Map.of(
+            "small", new KVValueAndMetadata(new KVMetadata("updated", (Instant) null), "second"),
+            "large", new KVValueAndMetadata(null, "x".repeat(2048))
+        ));
+
+        PersistedKvMetadata small = kvMetadataRepository.findByName(MAIN_TENANT, namespaceId, "small").orElseThrow();
+        assertThat(small.getVersion()).isEqualTo(2);
+        assertThat(small.getDescription()).isEqualTo("updated");
+        assertThat(kv.getValue("small")).contains(new KVValue("second"));
+        assertThat(kv.list()).hasSize(2);
+
+        // values too large to be inlined are still written to the storage
+        assertThat(storageInterface.exists(MAIN_TENANT, namespaceId, kv.storageUri("large", 1))).isTrue();
+        assertThat(kv.getValue("large")).contains(new KVValue("x".repeat(2048)));
+    }
+
     private InternalKVStore kv() {
         final String namespaceId = "io.kestra." + IdUtils.create();
         return new InternalKVStore(MAIN_TENANT, namespaceId, storageInterface, kvMetadataRepository);
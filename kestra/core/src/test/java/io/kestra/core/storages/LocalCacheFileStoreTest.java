@@ -0,0 +1,82 @@
+package io.kestra.core.storages;
+
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MicronautTest
+class LocalCacheFileStoreTest {
+    private static final String NAMESPACE = "io.kestra.tests";
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Inject
+    private LocalCacheFileStore localCacheFileStore;
+
+    @Test
+    void shouldServeUnchangedFileLocally() throws IOException {
+        URI uri = URI.create("/" + IdUtils.create() + "/cache.zip");
+        storageInterface.put(MAIN_TENANT, NAMESPACE, uri, new ByteArrayInputStream("first".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(read(uri)).isEqualTo("first");
+
+        // the local copy is used while the stored file is unchanged, even if it's removed from the storage
+        FileAttributes attributes = storageInterface.getAttributes(MAIN_TENANT, NAMESPACE, uri);
+        storageInterface.delete(MAIN_TENANT, NAMESPACE, uri);
+        try (InputStream inputStream = localCacheFileStore.get(MAIN_TENANT, NAMESPACE, uri, attributes)) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("first");
+        }
+    }
+
+    @Test
+    void shouldDownloadChangedFile() throws IOException {
+        URI uri = URI.create("/" + IdUtils.create() + "/cache.zip");
+        storageInterface.put(MAIN_TENANT, NAMESPACE, uri, new ByteArrayInputStream("first".getBytes(StandardCharsets.UTF_8)));
+        assertThat(read(uri)).isEqualTo("first");
+
+        storageInterface.put(MAIN_TENANT, NAMESPACE, uri, new ByteArrayInputStream("second value".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(read(uri)).isEqualTo("second value");
+    }
+
+    @Test
+    void shouldKeepUploadedFileLocally() throws IOException {
+        URI uri = URI.create("/" + IdUtils.create() + "/cache.zip");
+        Path file = Files.createTempFile("cache", ".zip");
+        Files.writeString(file, "uploaded");
+
+        localCacheFileStore.put(MAIN_TENANT, NAMESPACE, uri, file, () -> {
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                URI uploaded = storageInterface.put(MAIN_TENANT, NAMESPACE, uri, inputStream);
+                Files.delete(file);
+                return uploaded;
+            }
+        });
+
+        FileAttributes attributes = storageInterface.getAttributes(MAIN_TENANT, NAMESPACE, uri);
+        storageInterface.delete(MAIN_TENANT, NAMESPACE, uri);
+        try (InputStream inputStream = localCacheFileStore.get(MAIN_TENANT, NAMESPACE, uri, attributes)) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("uploaded");
+        }
+    }
+
+    private String read(URI uri) throws IOException {
+        FileAttributes attributes = storageInterface.getAttributes(MAIN_TENANT, NAMESPACE, uri);
+        try (InputStream inputStream = localCacheFileStore.get(MAIN_TENANT, NAMESPACE, uri, attributes)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
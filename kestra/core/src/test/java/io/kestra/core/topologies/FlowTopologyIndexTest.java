@@ -0,0 +1,86 @@
+package io.kestra.core.topologies;
+
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.models.property.Property;
+import io.kestra.plugin.core.condition.ExecutionFlow;
+import io.kestra.plugin.core.condition.ExecutionStatus;
+import io.kestra.plugin.core.debug.Return;
+import io.kestra.plugin.core.flow.Subflow;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlowTopologyIndexTest {
+    @Test
+    void candidates() {
+        FlowWithSource parent = flow("parent", List.of(Subflow.builder()
+            .id("launch")
+            .type(Subflow.class.getName())
+            .namespace("io.kestra.ee")
+            .flowId("child")
+            .build()
+        ), null);
+        FlowWithSource child = flow("child", List.of(returnTask()), null);
+        FlowWithSource listener = flow("listener", List.of(returnTask()), List.of(
+            io.kestra.plugin.core.trigger.Flow.builder()
+                .id("upstream")
+                .type(io.kestra.plugin.core.trigger.Flow.class.getName())
+                .conditions(List.of(
+                    ExecutionFlow.builder()
+                        .namespace(Property.ofValue("io.kestra.ee"))
+                        .flowId(Property.ofValue("child"))
+                        .build()
+                ))
+                .build()
+        ));
+        FlowWithSource anyListener = flow("any-listener", List.of(returnTask()), List.of(
+            io.kestra.plugin.core.trigger.Flow.builder()
+                .id("any")
+                .type(io.kestra.plugin.core.trigger.Flow.class.getName())
+                .conditions(List.of(
+                    ExecutionStatus.builder()
+                        .in(Property.ofValue(List.of(State.Type.SUCCESS)))
+                        .build()
+                ))
+                .build()
+        ));
+        FlowWithSource unrelated = flow("unrelated", List.of(returnTask()), null);
+
+        FlowTopologyIndex index = new FlowTopologyIndex();
+        index.initialize(List.of(parent, child, listener, anyListener, unrelated));
+
+        assertThat(index.candidates(child)).extracting(FlowWithSource::getId).containsExactlyInAnyOrder("parent", "listener", "any-listener");
+        assertThat(index.candidates(parent)).extracting(FlowWithSource::getId).containsExactlyInAnyOrder("child", "any-listener");
+        assertThat(index.candidates(listener)).extracting(FlowWithSource::getId).containsExactlyInAnyOrder("child", "any-listener");
+        assertThat(index.candidates(anyListener)).extracting(FlowWithSource::getId).containsExactlyInAnyOrder("parent", "child", "listener", "unrelated");
+
+        // a deletion removes the flow and its relations
+        index.update(parent.toBuilder().revision(2).deleted(true).build());
+        assertThat(index.candidates(child)).extracting(FlowWithSource::getId).containsExactlyInAnyOrder("listener", "any-listener");
+
+        // an older revision doesn't override a more recent one
+        index.initialize(List.of(parent));
+        assertThat(index.candidates(child)).extracting(FlowWithSource::getId).containsExactlyInAnyOrder("listener", "any-listener");
+    }
+
+    private static FlowWithSource flow(String id, List<io.kestra.core.models.tasks.Task> tasks, List<io.kestra.core.models.triggers.AbstractTrigger> triggers) {
+        return FlowWithSource.builder()
+            .namespace("io.kestra.ee")
+            .id(id)
+            .revision(1)
+            .tasks(tasks)
+            .triggers(triggers)
+            .build();
+    }
+
+    private static Return returnTask() {
+        return Return.builder()
+            .id("return")
+            .type(Return.class.getName())
+            .format(Property.ofValue("ok"))
+            .build();
+    }
+}
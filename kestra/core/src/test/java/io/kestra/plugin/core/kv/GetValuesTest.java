@@ -0,0 +1,68 @@
+package io.kestra.plugin.core.kv;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.core.utils.IdUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@KestraTest
+class GetValuesTest {
+
+    @Inject
+    TestRunContextFactory runContextFactory;
+
+    @Test
+    void shouldGetExistingKeys() throws Exception {
+        // Given
+        String namespaceId = "io.kestra." + IdUtils.create();
+        RunContext runContext = this.runContextFactory.of(namespaceId, Map.of());
+
+        GetValues getValues = GetValues.builder()
+            .id(GetValues.class.getSimpleName())
+            .type(GetValues.class.getName())
+            .keys(Property.ofValue(List.of("host", "port", "missing")))
+            .build();
+
+        final KVStore kv = runContext.namespaceKv(namespaceId);
+
+        // When
+        kv.putAll(Map.of(
+            "host", new KVValueAndMetadata(null, "localhost"),
+            "port", new KVValueAndMetadata(null, 8080)
+        ));
+
+        // Then
+        GetValues.Output run = getValues.run(runContext);
+        assertThat(run.getValues()).containsExactly(Map.entry("host", "localhost"), Map.entry("port", 8080));
+    }
+
+    @Test
+    void shouldFailGivenMissingKeyAndErrorOnMissingTrue() {
+        // Given
+        String namespaceId = "io.kestra." + IdUtils.create();
+        RunContext runContext = this.runContextFactory.of(namespaceId, Map.of());
+
+        GetValues getValues = GetValues.builder()
+            .id(GetValues.class.getSimpleName())
+            .type(GetValues.class.getName())
+            .keys(Property.ofValue(List.of("missing")))
+            .errorOnMissing(Property.ofValue(true))
+            .build();
+
+        // When - Then
+        NoSuchElementException exception = Assertions.assertThrows(NoSuchElementException.class, () -> getValues.run(runContext));
+        assertThat(exception.getMessage()).isEqualTo("No value found for keys [missing] in namespace '" + namespaceId + "' and `errorOnMissing` is set to true");
+    }
+}
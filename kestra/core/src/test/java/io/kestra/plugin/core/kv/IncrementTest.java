@@ -0,0 +1,120 @@
+package io.kestra.plugin.core.kv;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVStoreException;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@KestraTest
+class IncrementTest {
+
+    @Inject
+    TestRunContextFactory runContextFactory;
+
+    @Test
+    void shouldIncrementGivenMissingKey() throws Exception {
+        // Given
+        Increment increment = Increment.builder()
+            .id(Increment.class.getSimpleName())
+            .type(Increment.class.getName())
+            .key(Property.ofExpression("{{ inputs.key }}"))
+            .build();
+
+        String key = IdUtils.create();
+        final RunContext runContext = TestsUtils.mockRunContext(this.runContextFactory, increment, Map.of("key", key));
+
+        // When
+        Increment.Output first = increment.run(runContext);
+        Increment.Output second = increment.toBuilder().by(Property.ofValue(5)).build().run(runContext);
+
+        // Then
+        assertThat(first.getValue()).isEqualTo(1L);
+        assertThat(second.getValue()).isEqualTo(6L);
+        final KVStore kv = runContext.namespaceKv(runContext.flowInfo().namespace());
+        assertThat(kv.getValue(key)).isPresent().get().extracting(KVValue::value).isEqualTo(6);
+    }
+
+    @Test
+    void shouldIncrementGivenDecimalDelta() throws Exception {
+        // Given
+        Increment increment = Increment.builder()
+            .id(Increment.class.getSimpleName())
+            .type(Increment.class.getName())
+            .key(Property.ofExpression("{{ inputs.key }}"))
+            .by(Property.ofValue(0.5))
+            .build();
+
+        String key = IdUtils.create();
+        final RunContext runContext = TestsUtils.mockRunContext(this.runContextFactory, increment, Map.of("key", key));
+        runContext.namespaceKv(runContext.flowInfo().namespace()).put(key, new KVValueAndMetadata(null, 2));
+
+        // When
+        Increment.Output output = increment.run(runContext);
+
+        // Then
+        assertThat(output.getValue()).isEqualTo(new BigDecimal("2.5"));
+    }
+
+    @Test
+    void shouldIncrementConcurrently() throws Exception {
+        // Given
+        Increment increment = Increment.builder()
+            .id(Increment.class.getSimpleName())
+            .type(Increment.class.getName())
+            .key(Property.ofExpression("{{ inputs.key }}"))
+            .build();
+
+        String key = IdUtils.create();
+        final RunContext runContext = TestsUtils.mockRunContext(this.runContextFactory, increment, Map.of("key", key));
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            var futures = IntStream.range(0, 10)
+                .mapToObj(i -> executor.submit(() -> increment.run(runContext)))
+                .toList();
+            for (Future<Increment.Output> future : futures) {
+                future.get();
+            }
+        }
+
+        // Then no increment is lost
+        final KVStore kv = runContext.namespaceKv(runContext.flowInfo().namespace());
+        assertThat(kv.getValue(key)).isPresent().get().extracting(KVValue::value).isEqualTo(10);
+    }
+
+    @Test
+    void shouldFailGivenNonNumericValue() throws Exception {
+        // Given
+        Increment increment = Increment.builder()
+            .id(Increment.class.getSimpleName())
+            .type(Increment.class.getName())
+            .key(Property.ofExpression("{{ inputs.key }}"))
+            .build();
+
+        String key = IdUtils.create();
+        final RunContext runContext = TestsUtils.mockRunContext(this.runContextFactory, increment, Map.of("key", key));
+        runContext.namespaceKv(runContext.flowInfo().namespace()).put(key, new KVValueAndMetadata(null, "not a number"));
+
+        // When - Then
+        KVStoreException exception = Assertions.assertThrows(KVStoreException.class, () -> increment.run(runContext));
+        assertThat(exception.getMessage()).isEqualTo("Cannot increment key '%s' as its value is not a number.".formatted(key));
+    }
+}
@@ -201,6 +201,43 @@ class SetTest {
         assertThat(exception.getMessage()).isEqualTo("Cannot set value for key '%s'. Key already exists and `overwrite` is set to `false`.".formatted(key));
     }
 
+    @Test
+    void shouldSetKVOnlyGivenExpectedVersion() throws Exception {
+        // Given
+        String key = IdUtils.create();
+        final RunContext runContext = TestsUtils.mockRunContext(this.runContextFactory, Set.builder()
+            .id(Set.class.getSimpleName())
+            .type(Set.class.getName())
+            .build(), Map.of("key", key));
+        final KVStore kv = runContext.namespaceKv(runContext.flowInfo().namespace());
+
+        // When - Then
+        // 0 expects the key to not exist
+        expectedVersionSet("first", 0).run(runContext);
+        assertThat(kv.getValue(key)).isPresent().get().isEqualTo(new KVValue("first"));
+        assertThat(kv.get(key)).isPresent().get().extracting(KVEntry::version).isEqualTo(1);
+
+        KVStoreException exception = Assertions.assertThrows(KVStoreException.class, () -> expectedVersionSet("second", 0).run(runContext));
+        assertThat(exception.getMessage()).isEqualTo("Cannot set value for key '%s'. The current version is not the expected version 0.".formatted(key));
+
+        expectedVersionSet("second", 1).run(runContext);
+        assertThat(kv.getValue(key)).isPresent().get().isEqualTo(new KVValue("second"));
+
+        // the key has been modified in-between
+        Assertions.assertThrows(KVStoreException.class, () -> expectedVersionSet("third", 1).run(runContext));
+        assertThat(kv.getValue(key)).isPresent().get().isEqualTo(new KVValue("second"));
+    }
+
+    private static Set expectedVersionSet(String value, int expectedVersion) {
+        return Set.builder()
+            .id(Set.class.getSimpleName())
+            .type(Set.class.getName())
+            .key(Property.ofExpression("{{ inputs.key }}"))
+            .value(Property.ofValue(value))
+            .expectedVersion(Property.ofValue(expectedVersion))
+            .build();
+    }
+
     @Test
     void typeSpecified() throws Exception {
         String key = "specified_key";
@@ -6,7 +6,9 @@ import io.kestra.core.models.flows.FlowWithException;
 import io.kestra.core.models.flows.FlowWithSource;
 import io.kestra.core.models.triggers.AbstractTrigger;
 import io.kestra.core.models.triggers.multipleflows.MultipleCondition;
+import io.kestra.core.models.triggers.multipleflows.MultipleConditionExpiryThrottle;
 import io.kestra.core.models.triggers.multipleflows.MultipleConditionStorageInterface;
+import io.kestra.core.models.triggers.multipleflows.MultipleConditionStorageSnapshot;
 import io.kestra.core.models.triggers.multipleflows.MultipleConditionWindow;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.services.ConditionService;
@@ -17,6 +19,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.function.Predicate;
@@ -25,6 +28,9 @@ import java.util.stream.Stream;
 
 @Singleton
 public class FlowTriggerService {
+    // expired windows are also skipped when evaluated, so they are only purged every 10 seconds per tenant
+    private final MultipleConditionExpiryThrottle expiryThrottle = new MultipleConditionExpiryThrottle(Duration.ofSeconds(10));
+
     private final ConditionService conditionService;
     private final RunContextFactory runContextFactory;
     private final FlowService flowService;
@@ -85,7 +91,7 @@ public class FlowTriggerService {
      * It only computes those depending on multiple conditions and preconditions, so it must be used
      * in conjunction with {@link #computeExecutionsFromFlowTriggerConditions(Execution, Flow)}.
      */
-    public List<Execution> computeExecutionsFromFlowTriggerPreconditions(Execution execution, Flow flow, MultipleConditionStorageInterface multipleConditionStorage) {
+    public List<Execution> computeExecutionsFromFlowTriggerPreconditions(Execution execution, Flow flow, MultipleConditionStorageInterface storage) {
         List<FlowWithFlowTrigger> flowWithFlowTriggers = computeFlowTriggers(execution, flow)
             .stream()
             // we must filter on multiple conditions or preconditions to avoid evaluating two times triggers that only have standard conditions
@@ -97,6 +103,9 @@ public class FlowTriggerService {
             return Collections.emptyList();
         }
 
+        // windows are read several times while evaluating the triggers, only fetch them once
+        MultipleConditionStorageInterface multipleConditionStorage = new MultipleConditionStorageSnapshot(storage);
+
         List<FlowWithFlowTriggerAndMultipleCondition> flowWithMultipleConditionsToEvaluate = flowWithFlowTriggers.stream()
             .flatMap(flowWithFlowTrigger -> flowTriggerMultipleConditions(flowWithFlowTrigger)
                 .map(multipleCondition -> new FlowWithFlowTriggerAndMultipleCondition(
@@ -128,7 +137,7 @@ public class FlowTriggerService {
             .filter(e -> !e.getValue().getResults().isEmpty())
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
-        // persist results
+        // persist results, the snapshot skips the windows that haven't changed
         multipleConditionStorage.save(new ArrayList<>(multipleConditionWindowsByFlow.values()));
 
         // compute all executions to create from flow triggers now that multiple conditions storage is populated
@@ -172,7 +181,7 @@ public class FlowTriggerService {
                     e.getKey().getConditions().size() == Optional.ofNullable(e.getValue().getResults()).map(Map::size).orElse(0)
                 )
                 .map(Map.Entry::getValue),
-            multipleConditionStorage.expired(execution.getTenantId()).stream()
+            expiryThrottle.expired(multipleConditionStorage, execution.getTenantId()).stream()
         ).forEach(multipleConditionStorage::delete);
 
         return executions;
@@ -41,4 +41,10 @@ public class H2ExecutionRepository extends AbstractJdbcExecutionRepository {
     @Override
     protected Field<Date> formatDateField(String dateField, DateUtils.GroupType groupType) {
         return H2RepositoryUtils.formatDateField(dateField, groupType);    }
+
+    @Override
+    protected Field<Long> durationMillisField() {
+        // state_duration holds the duration in seconds
+        return DSL.round(field("state_duration", Double.class).mul(1000)).cast(Long.class);
+    }
 }
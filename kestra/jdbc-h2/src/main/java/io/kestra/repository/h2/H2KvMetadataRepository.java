@@ -1,6 +1,7 @@
 package io.kestra.repository.h2;
 
 import io.kestra.core.models.kv.PersistedKvMetadata;
+import io.kestra.jdbc.JdbcTableConfig;
 import io.kestra.jdbc.repository.AbstractJdbcKvMetadataRepository;
 import io.micronaut.context.ApplicationContext;
 import jakarta.inject.Inject;
@@ -12,8 +13,8 @@ import org.jooq.Condition;
 @H2RepositoryEnabled
 public class H2KvMetadataRepository extends AbstractJdbcKvMetadataRepository {
     @Inject
-    public H2KvMetadataRepository(@Named("kvMetadata") H2Repository<PersistedKvMetadata> repository, ApplicationContext applicationContext) {
-        super(repository);
+    public H2KvMetadataRepository(@Named("kvMetadata") H2Repository<PersistedKvMetadata> repository, @Named("kvmetadatalocks") JdbcTableConfig lockTableConfig, ApplicationContext applicationContext) {
+        super(repository, lockTableConfig);
     }
 
 
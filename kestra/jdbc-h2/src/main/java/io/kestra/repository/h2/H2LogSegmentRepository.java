@@ -0,0 +1,16 @@
+package io.kestra.repository.h2;
+
+import io.kestra.core.models.executions.LogSegment;
+import io.kestra.jdbc.repository.AbstractJdbcLogSegmentRepository;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+@Singleton
+@H2RepositoryEnabled
+public class H2LogSegmentRepository extends AbstractJdbcLogSegmentRepository {
+    @Inject
+    public H2LogSegmentRepository(@Named("logsegments") H2Repository<LogSegment> repository) {
+        super(repository);
+    }
+}
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS log_segments (
+    "key" VARCHAR(250) NOT NULL PRIMARY KEY,
+    "value" TEXT NOT NULL,
+    "tenant_id" VARCHAR(250) GENERATED ALWAYS AS (JQ_STRING("value", '.tenantId')),
+    "namespace" VARCHAR(150) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.namespace')),
+    "flow_id" VARCHAR(150) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.flowId')),
+    "execution_id" VARCHAR(150) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.executionId')),
+    "start_date" TIMESTAMP NOT NULL GENERATED ALWAYS AS (PARSEDATETIME(JQ_STRING("value", '.startDate'), 'yyyy-MM-dd''T''HH:mm:ss.SSSSSS''Z''')),
+    "end_date" TIMESTAMP NOT NULL GENERATED ALWAYS AS (PARSEDATETIME(JQ_STRING("value", '.endDate'), 'yyyy-MM-dd''T''HH:mm:ss.SSSSSS''Z'''))
+);
+
+CREATE INDEX IF NOT EXISTS log_segments_execution_id ON log_segments ("tenant_id", "execution_id", "start_date");
+CREATE INDEX IF NOT EXISTS log_segments_namespace_flow ON log_segments ("tenant_id", "namespace", "flow_id", "start_date");
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS execution_statistics (
+    "key" VARCHAR(250) NOT NULL PRIMARY KEY,
+    "tenant_id" VARCHAR(250),
+    "namespace" VARCHAR(150) NOT NULL,
+    "flow_id" VARCHAR(150) NOT NULL,
+    "state_current" VARCHAR(50) NOT NULL,
+    "start_hour" TIMESTAMP NOT NULL,
+    "execution_count" BIGINT NOT NULL,
+    "duration_sum" BIGINT NOT NULL,
+    "duration_min" BIGINT NOT NULL,
+    "duration_max" BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS execution_statistics_start_hour ON execution_statistics ("tenant_id", "start_hour");
+CREATE INDEX IF NOT EXISTS execution_statistics_namespace_flow ON execution_statistics ("tenant_id", "namespace", "flow_id", "start_hour");
@@ -0,0 +1,152 @@
+package io.kestra.repository.h2;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.statistics.DailyExecutionStatistics;
+import io.kestra.core.models.executions.statistics.ExecutionCount;
+import io.kestra.core.models.executions.statistics.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.DateUtils;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MicronautTest(transactional = false)
+@Property(name = "kestra.jdbc.execution-statistics.enabled", value = "true")
+class H2ExecutionStatisticsRollupTest {
+    private static final String NAMESPACE = "io.kestra.rollup";
+
+    @Inject
+    private H2ExecutionRepository executionRepository;
+
+    @Test
+    void shouldReadTerminatedExecutionsFromRollup() {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        Instant startHour = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(Duration.ofHours(5));
+
+        Execution success = executionRepository.save(execution(tenant, startHour.plusSeconds(60), State.Type.SUCCESS));
+        Execution failed = executionRepository.save(execution(tenant, startHour.plus(Duration.ofHours(1)), State.Type.FAILED));
+        executionRepository.save(execution(tenant, startHour.plus(Duration.ofHours(2)), State.Type.RUNNING));
+        // started in the current hour, read from the executions
+        executionRepository.save(execution(tenant, Instant.now().minusSeconds(1), State.Type.SUCCESS));
+
+        assertThat(count(tenant, null)).isEqualTo(4L);
+        assertThat(count(tenant, List.of(State.Type.SUCCESS))).isEqualTo(2L);
+        assertThat(statistics(tenant, State.Type.SUCCESS)).isEqualTo(2L);
+        assertThat(statistics(tenant, State.Type.FAILED)).isEqualTo(1L);
+        assertThat(statistics(tenant, State.Type.RUNNING)).isEqualTo(1L);
+        // durations are in the same unit whether they are read from the rollup or from the executions
+        assertThat(durations(tenant)).hasSize(2).allSatisfy(duration -> {
+            assertThat(duration.getMin()).isEqualTo(Duration.ofSeconds(3));
+            assertThat(duration.getMax()).isEqualTo(Duration.ofSeconds(3));
+            assertThat(duration.getSum()).isEqualTo(Duration.ofSeconds(3));
+        });
+
+        // a restarted execution leaves its terminated bucket
+        executionRepository.save(failed.withState(State.Type.RESTARTED));
+        assertThat(count(tenant, List.of(State.Type.FAILED))).isZero();
+        assertThat(statistics(tenant, State.Type.RESTARTED)).isEqualTo(1L);
+
+        // as well as a deleted or purged one
+        executionRepository.delete(success);
+        assertThat(count(tenant, List.of(State.Type.SUCCESS))).isEqualTo(1L);
+
+        Execution purged = executionRepository.save(execution(tenant, startHour.plusSeconds(120), State.Type.WARNING));
+        assertThat(count(tenant, List.of(State.Type.WARNING))).isEqualTo(1L);
+        executionRepository.purge(Execution.builder().id(purged.getId()).tenantId(tenant).namespace(NAMESPACE).flowId("flow").build());
+        assertThat(count(tenant, List.of(State.Type.WARNING))).isZero();
+
+        // the bucket is found from the columns of the executions table, even with dates more precise than them
+        Execution precise = executionRepository.save(execution(tenant, startHour.plusSeconds(180).plusNanos(123_456_789), State.Type.SUCCESS));
+        assertThat(count(tenant, List.of(State.Type.SUCCESS))).isEqualTo(2L);
+        executionRepository.purge(List.of(Execution.builder().id(precise.getId()).tenantId(tenant).namespace(NAMESPACE).flowId("flow").build()));
+        assertThat(count(tenant, List.of(State.Type.SUCCESS))).isEqualTo(1L);
+
+        // a rebuild gives the same statistics
+        executionRepository.rebuildStatistics();
+        assertThat(count(tenant, null)).isEqualTo(3L);
+        assertThat(statistics(tenant, State.Type.SUCCESS)).isEqualTo(1L);
+        assertThat(statistics(tenant, State.Type.RESTARTED)).isEqualTo(1L);
+        assertThat(durations(tenant)).hasSize(1).allSatisfy(duration -> assertThat(duration.getSum()).isEqualTo(Duration.ofSeconds(3)));
+    }
+
+    private long count(String tenant, List<State.Type> states) {
+        return executionRepository.executionCounts(
+                tenant,
+                List.of(new Flow(NAMESPACE, "flow")),
+                states,
+                ZonedDateTime.now().minusDays(1),
+                ZonedDateTime.now(),
+                null
+            )
+            .stream()
+            .mapToLong(ExecutionCount::getCount)
+            .sum();
+    }
+
+    private long statistics(String tenant, State.Type state) {
+        return executionRepository.dailyStatistics(
+                null,
+                tenant,
+                null,
+                NAMESPACE,
+                null,
+                ZonedDateTime.now().minusDays(1),
+                ZonedDateTime.now(),
+                DateUtils.GroupType.HOUR,
+                null
+            )
+            .stream()
+            .map(DailyExecutionStatistics::getExecutionCounts)
+            .mapToLong(counts -> counts.getOrDefault(state, 0L))
+            .sum();
+    }
+
+    private List<DailyExecutionStatistics.Duration> durations(String tenant) {
+        return executionRepository.dailyStatistics(
+                null,
+                tenant,
+                null,
+                NAMESPACE,
+                null,
+                ZonedDateTime.now().minusDays(1),
+                ZonedDateTime.now(),
+                DateUtils.GroupType.HOUR,
+                List.of(State.Type.SUCCESS)
+            )
+            .stream()
+            .map(DailyExecutionStatistics::getDuration)
+            .filter(duration -> duration.getCount() > 0)
+            .toList();
+    }
+
+    private static Execution execution(String tenant, Instant startDate, State.Type state) {
+        List<State.History> histories = new ArrayList<>(List.of(
+            new State.History(State.Type.CREATED, startDate),
+            new State.History(State.Type.RUNNING, startDate.plusSeconds(1))
+        ));
+        if (state.isTerminated()) {
+            histories.add(new State.History(state, startDate.plusSeconds(3)));
+        }
+
+        return Execution.builder()
+            .id(IdUtils.create())
+            .tenantId(tenant)
+            .namespace(NAMESPACE)
+            .flowId("flow")
+            .flowRevision(1)
+            .state(State.of(state, histories))
+            .build();
+    }
+}
@@ -0,0 +1,81 @@
+package io.kestra.runner.h2;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.flows.FlowInterface;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.jdbc.runner.JdbcQueueCompression;
+import io.kestra.plugin.core.debug.Return;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@KestraTest
+@io.micronaut.context.annotation.Property(name = "kestra.jdbc.queues.compression.enabled", value = "true")
+@io.micronaut.context.annotation.Property(name = "kestra.jdbc.queues.compression.threshold", value = "1024")
+class H2QueueCompressionTest {
+    @Inject
+    @Named(QueueFactoryInterface.FLOW_NAMED)
+    private QueueInterface<FlowInterface> flowQueue;
+
+    @Inject
+    private JdbcQueueCompression compression;
+
+    @Test
+    void shouldCompressLargeMessages() throws Exception {
+        String value = "{\"value\":\"" + "a".repeat(2048) + "\"}";
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(compression.compress("{}".getBytes(StandardCharsets.UTF_8))).isEqualTo("{}".getBytes(StandardCharsets.UTF_8));
+
+        String compressed = new String(compression.compress(bytes), StandardCharsets.UTF_8);
+        assertThat(compressed).startsWith("{\"_gzip\":").hasSizeLessThan(256);
+        assertThat(compression.decompress(compressed)).isEqualTo(value);
+        assertThat(compression.decompress(value)).isEqualTo(value);
+
+        // the JSON columns of some databases reformat the stored document
+        assertThat(compression.decompress(compressed.replace("\":\"", "\": \""))).isEqualTo(value);
+    }
+
+    @Test
+    void shouldReceiveCompressedMessages() throws Exception {
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        AtomicReference<FlowInterface> received = new AtomicReference<>();
+        String description = "d".repeat(4096);
+        String id = IdUtils.create();
+
+        Flux<FlowInterface> receive = TestsUtils.receive(flowQueue, either -> {
+            if (either.isLeft() && either.getLeft().getId().equals(id)) {
+                received.set(either.getLeft());
+                countDownLatch.countDown();
+            }
+        });
+
+        flowQueue.emit(FlowWithSource.builder()
+            .id(id)
+            .namespace("io.kestra.tests")
+            .description(description)
+            .tasks(Collections.singletonList(Return.builder().id("test").type(Return.class.getName()).format(Property.ofValue("test")).build()))
+            .build()
+        );
+
+        assertTrue(countDownLatch.await(5, TimeUnit.SECONDS));
+        receive.blockLast();
+
+        assertThat(received.get().getDescription()).isEqualTo(description);
+    }
+}
@@ -1,6 +1,7 @@
 package io.kestra.repository.mysql;
 
 import io.kestra.core.models.kv.PersistedKvMetadata;
+import io.kestra.jdbc.JdbcTableConfig;
 import io.kestra.jdbc.repository.AbstractJdbcKvMetadataRepository;
 import io.micronaut.context.ApplicationContext;
 import jakarta.inject.Inject;
@@ -17,8 +18,9 @@ import java.util.List;
 public class MysqlKvMetadataRepository extends AbstractJdbcKvMetadataRepository {
     @Inject
     public MysqlKvMetadataRepository(
-        @Named("kvMetadata") MysqlRepository<PersistedKvMetadata> repository) {
-        super(repository);
+        @Named("kvMetadata") MysqlRepository<PersistedKvMetadata> repository,
+        @Named("kvmetadatalocks") JdbcTableConfig lockTableConfig) {
+        super(repository, lockTableConfig);
     }
 
     @Override
@@ -0,0 +1,16 @@
+package io.kestra.repository.mysql;
+
+import io.kestra.core.models.executions.LogSegment;
+import io.kestra.jdbc.repository.AbstractJdbcLogSegmentRepository;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+@Singleton
+@MysqlRepositoryEnabled
+public class MysqlLogSegmentRepository extends AbstractJdbcLogSegmentRepository {
+    @Inject
+    public MysqlLogSegmentRepository(@Named("logsegments") MysqlRepository<LogSegment> repository) {
+        super(repository);
+    }
+}
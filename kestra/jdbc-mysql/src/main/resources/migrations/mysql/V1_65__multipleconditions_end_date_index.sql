@@ -0,0 +1 @@
+CREATE INDEX ix_tenant_id__end_date ON multipleconditions (tenant_id, end_date);
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS execution_statistics (
+    `key` VARCHAR(250) NOT NULL PRIMARY KEY,
+    `tenant_id` VARCHAR(250),
+    `namespace` VARCHAR(150) NOT NULL,
+    `flow_id` VARCHAR(150) NOT NULL,
+    `state_current` VARCHAR(50) NOT NULL,
+    `start_hour` DATETIME(6) NOT NULL,
+    `execution_count` BIGINT NOT NULL,
+    `duration_sum` BIGINT NOT NULL,
+    `duration_min` BIGINT NOT NULL,
+    `duration_max` BIGINT NOT NULL,
+    INDEX ix_execution_statistics_start_hour (tenant_id, start_hour),
+    INDEX ix_execution_statistics_namespace_flow (tenant_id, namespace, flow_id, start_hour)
+) ENGINE INNODB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
@@ -0,0 +1,8 @@
+package io.kestra.repository.mysql;
+
+import io.kestra.core.repositories.AbstractLogSegmentRepositoryTest;
+import io.micronaut.context.annotation.Property;
+
+@Property(name = "kestra.logs.segments.enabled", value = "true")
+public class MysqlLogSegmentRepositoryTest extends AbstractLogSegmentRepositoryTest {
+}
@@ -49,4 +49,10 @@ public class PostgresExecutionRepository extends AbstractJdbcExecutionRepository
     protected Field<Date> formatDateField(String dateField, DateUtils.GroupType groupType) {
         return PostgresRepositoryUtils.formatDateField(dateField, groupType);
     }
+
+    @Override
+    protected Field<Long> durationMillisField() {
+        // state_duration only holds the milliseconds of the seconds field of the duration, without minutes and hours
+        return DSL.field("CAST(ROUND(EXTRACT(EPOCH FROM ({0} - {1})) * 1000) AS BIGINT)", Long.class, field("end_date"), field("start_date"));
+    }
 }
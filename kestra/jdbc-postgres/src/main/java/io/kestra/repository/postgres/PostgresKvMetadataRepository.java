@@ -1,6 +1,7 @@
 package io.kestra.repository.postgres;
 
 import io.kestra.core.models.kv.PersistedKvMetadata;
+import io.kestra.jdbc.JdbcTableConfig;
 import io.kestra.jdbc.repository.AbstractJdbcKvMetadataRepository;
 import io.micronaut.context.ApplicationContext;
 import jakarta.inject.Inject;
@@ -17,9 +18,10 @@ import java.util.List;
 public class PostgresKvMetadataRepository extends AbstractJdbcKvMetadataRepository {
     @Inject
     public PostgresKvMetadataRepository(
-        @Named("kvMetadata") PostgresRepository<PersistedKvMetadata> repository
+        @Named("kvMetadata") PostgresRepository<PersistedKvMetadata> repository,
+        @Named("kvmetadatalocks") JdbcTableConfig lockTableConfig
     ) {
-        super(repository);
+        super(repository, lockTableConfig);
     }
 
     @Override
@@ -0,0 +1,16 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.core.models.executions.LogSegment;
+import io.kestra.jdbc.repository.AbstractJdbcLogSegmentRepository;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+@Singleton
+@PostgresRepositoryEnabled
+public class PostgresLogSegmentRepository extends AbstractJdbcLogSegmentRepository {
+    @Inject
+    public PostgresLogSegmentRepository(@Named("logsegments") PostgresRepository<LogSegment> repository) {
+        super(repository);
+    }
+}
@@ -7,8 +7,10 @@ import io.kestra.jdbc.JdbcTableConfig;
 import io.kestra.jdbc.JooqDSLContextWrapper;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.data.model.Pageable;
 import jakarta.inject.Inject;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
@@ -20,7 +22,9 @@ import org.jooq.RecordMapper;
 import org.jooq.Result;
 import org.jooq.SelectConditionStep;
 import org.jooq.impl.DSL;
+import org.postgresql.PGConnection;
 
+import java.io.StringReader;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +37,11 @@ import static io.kestra.jdbc.repository.AbstractJdbcRepository.VALUE_FIELD;
 @EachBean(JdbcTableConfig.class)
 public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository<T> {
 
+    // batches of at least this size are persisted with a COPY instead of a batch of upserts, 0 to disable it
+    @Setter
+    @Value("${kestra.jdbc.postgres.copy-threshold:100}")
+    protected int copyThreshold;
+
     @Inject
     public PostgresRepository(@Parameter JdbcTableConfig jdbcTableConfig,
                               JooqDSLContextWrapper dslContextWrapper) {
@@ -76,6 +85,65 @@ public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository
             .execute();
     }
 
+    @Override
+    public int persistBatch(List<T> items) {
+        if (copyThreshold <= 0 || items.size() < copyThreshold) {
+            return super.persistBatch(items);
+        }
+
+        return this.copyBatch(items);
+    }
+
+    /**
+     * Persists the items with a {@code COPY ... FROM STDIN} into a temporary staging table, then merges them
+     * with a single set-based upsert. This avoids the per-statement overhead of a batch of upserts for large batches.
+     *
+     * @return the number of inserted or updated rows.
+     */
+    public int copyBatch(List<T> items) {
+        String tableName = table.getName();
+        String stagingName = tableName + "_staging";
+
+        return dslContextWrapper.transactionResult(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            // the staging table lives as long as the connection, and is emptied at each commit
+            context.execute("CREATE TEMPORARY TABLE IF NOT EXISTS " + stagingName + " (" +
+                "ord BIGINT GENERATED ALWAYS AS IDENTITY, " +
+                "key VARCHAR(250) NOT NULL, " +
+                "value JSONB NOT NULL" +
+                ") ON COMMIT DELETE ROWS");
+
+            String csv = this.toCsv(items);
+            context.connection(connection -> connection.unwrap(PGConnection.class)
+                .getCopyAPI()
+                .copyIn("COPY " + stagingName + " (key, value) FROM STDIN WITH (FORMAT csv)", new StringReader(csv))
+            );
+
+            // the last item wins when the same key is present multiple times, like with a batch of upserts
+            return context.execute("INSERT INTO " + tableName + " (key, value) " +
+                "SELECT DISTINCT ON (key) key, value FROM " + stagingName + " ORDER BY key, ord DESC " +
+                "ON CONFLICT (key) DO UPDATE SET value = EXCLUDED.value");
+        });
+    }
+
+    @SneakyThrows
+    private String toCsv(List<T> items) {
+        StringBuilder csv = new StringBuilder();
+        for (T item : items) {
+            csv.append(csvQuote(key(item)))
+                .append(',')
+                .append(csvQuote(MAPPER.writeValueAsString(item)))
+                .append('\n');
+        }
+
+        return csv.toString();
+    }
+
+    private static String csvQuote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
     @Override
     protected InsertOnDuplicateSetMoreStep<Record> buildInsertRequest(T entity, Map<Field<Object>, Object> fields,
         DSLContext dslContext) {
@@ -1,6 +1,5 @@
 package io.kestra.runner.postgres;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.kestra.core.exceptions.DeserializationException;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.utils.Either;
@@ -101,12 +100,6 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
     @Override
     protected List<Either<T, DeserializationException>> map(Result<Record> fetch) {
         return fetch
-            .map(record -> {
-                try {
-                    return Either.left(MAPPER.readValue(record.get("value", JSONB.class).data(), cls));
-                } catch (JsonProcessingException e) {
-                    return Either.right(new DeserializationException(e, record.get("value", String.class)));
-                }
-            });
+            .map(record -> this.deserialize(record.get("value", JSONB.class).data()));
     }
 }
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS log_segments (
+    key VARCHAR(250) NOT NULL PRIMARY KEY,
+    value JSONB NOT NULL,
+    tenant_id VARCHAR(250) GENERATED ALWAYS AS (value ->> 'tenantId') STORED,
+    namespace VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'namespace') STORED,
+    flow_id VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'flowId') STORED,
+    execution_id VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'executionId') STORED,
+    start_date TIMESTAMPTZ NOT NULL GENERATED ALWAYS AS (PARSE_ISO8601_DATETIME(value ->> 'startDate')) STORED,
+    end_date TIMESTAMPTZ NOT NULL GENERATED ALWAYS AS (PARSE_ISO8601_DATETIME(value ->> 'endDate')) STORED
+);
+
+CREATE INDEX IF NOT EXISTS log_segments_execution_id ON log_segments (tenant_id, execution_id, start_date);
+CREATE INDEX IF NOT EXISTS log_segments_namespace_flow ON log_segments (tenant_id, namespace, flow_id, start_date);
@@ -0,0 +1,3 @@
+CREATE TABLE IF NOT EXISTS kv_metadata_locks (
+    key VARCHAR(768) NOT NULL PRIMARY KEY
+);
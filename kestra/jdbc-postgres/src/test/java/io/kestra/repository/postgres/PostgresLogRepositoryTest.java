@@ -1,7 +1,31 @@
 package io.kestra.repository.postgres;
 
+import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.repositories.AbstractLogRepositoryTest;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class PostgresLogRepositoryTest extends AbstractLogRepositoryTest {
+    @Test
+    void shouldSaveLargeBatchWithCopy() {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        String executionId = IdUtils.create();
+        List<LogEntry> logs = IntStream.range(0, 250)
+            .mapToObj(i -> logEntry(tenant, Level.INFO, executionId).message("message \"" + i + "\"\nwith, special\tcharacters").build())
+            .toList();
+
+        int saved = logRepository.saveBatch(logs);
 
+        assertThat(saved).isEqualTo(250);
+        List<LogEntry> found = logRepository.findByExecutionId(tenant, executionId, Level.TRACE);
+        assertThat(found).hasSize(250);
+        assertThat(found).extracting(LogEntry::getMessage).contains("message \"42\"\nwith, special\tcharacters");
+    }
 }
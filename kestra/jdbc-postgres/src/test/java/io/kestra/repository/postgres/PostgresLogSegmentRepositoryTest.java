@@ -0,0 +1,8 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.core.repositories.AbstractLogSegmentRepositoryTest;
+import io.micronaut.context.annotation.Property;
+
+@Property(name = "kestra.logs.segments.enabled", value = "true")
+public class PostgresLogSegmentRepositoryTest extends AbstractLogSegmentRepositoryTest {
+}
@@ -12,6 +12,7 @@ import io.kestra.core.models.secret.NamespaceSecret;
 import io.kestra.core.models.dashboards.Dashboard;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.executions.LogSegment;
 import io.kestra.core.models.executions.MetricEntry;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.sla.SLAMonitor;
@@ -51,6 +52,12 @@ public class JdbcTableConfigsFactory {
         return new InstantiableJdbcTableConfig("executions", Execution.class, "executions");
     }
 
+    @Bean
+    @Named("executionstatistics")
+    public InstantiableJdbcTableConfig executionStatistics() {
+        return new InstantiableJdbcTableConfig("executionstatistics", null, "execution_statistics");
+    }
+
     @Bean
     @Named("templates")
     public InstantiableJdbcTableConfig templates() {
@@ -147,6 +154,12 @@ public class JdbcTableConfigsFactory {
         return new InstantiableJdbcTableConfig("kvmetadata", PersistedKvMetadata.class, "kv_metadata");
     }
 
+    @Bean
+    @Named("kvmetadatalocks")
+    public InstantiableJdbcTableConfig kvMetadataLocks() {
+        return new InstantiableJdbcTableConfig("kvmetadatalocks", null, "kv_metadata_locks");
+    }
+
     @Bean
     @Named("namespacefilemetadata")
     public InstantiableJdbcTableConfig namespaceFileMetadata() {
@@ -171,6 +184,12 @@ public class JdbcTableConfigsFactory {
         return new InstantiableJdbcTableConfig("bindings", Binding.class, "bindings");
     }
 
+    @Bean
+    @Named("logsegments")
+    public InstantiableJdbcTableConfig logSegments() {
+        return new InstantiableJdbcTableConfig("logsegments", LogSegment.class, "log_segments");
+    }
+
     @Bean
     @Named("auditlogs")
     public InstantiableJdbcTableConfig auditLogs() {
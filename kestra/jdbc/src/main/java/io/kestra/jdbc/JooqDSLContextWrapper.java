@@ -4,12 +4,18 @@ import io.kestra.core.models.tasks.retrys.Random;
 import io.kestra.core.utils.RetryUtils;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
-import org.jooq.DSLContext;
-import org.jooq.TransactionalCallable;
-import org.jooq.TransactionalRunnable;
+import org.jooq.*;
+import org.jooq.Record;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConnectionProvider;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 @Singleton
@@ -64,4 +70,58 @@ public class JooqDSLContextWrapper {
             () -> dslContext.transactionResult(transactional)
         );
     }
+
+    /**
+     * Streams the records of a query from a database cursor.
+     * <p>
+     * The records are fetched by batches of {@code fetchSize} as they are requested downstream, so the memory used
+     * doesn't depend on the number of records. The query runs in a read-only transaction holding a connection
+     * until the stream completes, fails or is cancelled.
+     */
+    public <R extends Record> Flux<R> stream(Function<DSLContext, ResultQuery<R>> query, int fetchSize) {
+        ConnectionProvider connectionProvider = dslContext.configuration().connectionProvider();
+
+        return Flux.using(
+                () -> {
+                    Connection connection = connectionProvider.acquire();
+                    try {
+                        connection.setReadOnly(true);
+                        // Postgres only uses a cursor for a fetch size inside a transaction
+                        connection.setAutoCommit(false);
+                    } catch (SQLException | RuntimeException e) {
+                        connectionProvider.release(connection);
+                        throw e;
+                    }
+                    return connection;
+                },
+                connection -> Flux.<R, Cursor<R>>generate(
+                    () -> query
+                        .apply(DSL.using(dslContext.configuration().derive(new DefaultConnectionProvider(connection))))
+                        .fetchSize(fetchSize)
+                        .fetchLazy(),
+                    (cursor, sink) -> {
+                        if (cursor.hasNext()) {
+                            sink.next(cursor.fetchNext());
+                        } else {
+                            sink.complete();
+                        }
+                        return cursor;
+                    },
+                    Cursor::close
+                ),
+                connection -> {
+                    try {
+                        connection.rollback();
+                        connection.setAutoCommit(true);
+                        connection.setReadOnly(false);
+                    } catch (SQLException e) {
+                        throw new DataAccessException("Unable to end the streaming transaction", e);
+                    } finally {
+                        connectionProvider.release(connection);
+                    }
+                }
+            )
+            // fetching from the cursor is blocking
+            .subscribeOn(Schedulers.boundedElastic());
+    }
 }
@@ -8,7 +8,6 @@ import org.jooq.*;
 import org.jooq.Record;
 import org.jooq.impl.DSL;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.FluxSink;
 
 import java.util.List;
 import java.util.Map;
@@ -220,7 +219,7 @@ public abstract class AbstractJdbcCrudRepository<T> extends AbstractJdbcReposito
 
     /**
      * Find all items that match the condition and return a reactive stream.
-     * To avoid any potential issues with databases that load all the resultset in memory, it batches the results by <code>FETCH_SIZE</code>.
+     * To avoid any potential issues with databases that load all the resultset in memory, it fetches the results from a cursor by batches of <code>FETCH_SIZE</code> as they are requested.
      *
      * @see #find(String, Condition, OrderField...)
      * @see #findPage(Pageable, String, Condition, OrderField...)
@@ -232,7 +231,7 @@ public abstract class AbstractJdbcCrudRepository<T> extends AbstractJdbcReposito
 
     /**
      * Find all items that match the condition and return a reactive stream.
-     * To avoid any potential issues with databases that load all the resultset in memory, it batches the results by <code>FETCH_SIZE</code>.
+     * To avoid any potential issues with databases that load all the resultset in memory, it fetches the results from a cursor by batches of <code>FETCH_SIZE</code> as they are requested.
      * You can use <code>allowDeleted</code> to decide whether deleted items should be included or not.
      *
      * @see #find(String, Condition, boolean, OrderField...)
@@ -245,18 +244,16 @@ public abstract class AbstractJdbcCrudRepository<T> extends AbstractJdbcReposito
 
     /**
      * Find all items that match the condition and return a reactive stream.
-     * To avoid any potential issues with databases that load all the resultset in memory, it batches the results by <code>FETCH_SIZE</code>.
+     * To avoid any potential issues with databases that load all the resultset in memory, it fetches the results from a cursor by batches of <code>FETCH_SIZE</code> as they are requested.
      *
      * @see #find(Condition, Condition, OrderField...)
      * @see #findPage(Pageable, Condition, Condition, OrderField...)
      */
     @SafeVarargs
     protected final <F> Flux<T> findAsync(Condition defaultFilter, Condition condition, OrderField<F>... orderByFields) {
-        return Flux.create(emitter -> this.jdbcRepository
+        return this.jdbcRepository
             .getDslContextWrapper()
-            .transaction(configuration -> {
-                DSLContext context = DSL.using(configuration);
-
+            .stream(context -> {
                 var select = context
                     .select(VALUE_FIELD)
                     .from(this.jdbcRepository.getTable())
@@ -267,13 +264,9 @@ public abstract class AbstractJdbcCrudRepository<T> extends AbstractJdbcReposito
                     select.orderBy(orderByFields);
                 }
 
-                try (var stream = select.fetchSize(FETCH_SIZE).stream()){
-                    stream.map((Record record) -> jdbcRepository.map(record))
-                        .forEach(emitter::next);
-                } finally {
-                    emitter.complete();
-                }
-            }), FluxSink.OverflowStrategy.BUFFER);
+                return select;
+            }, FETCH_SIZE)
+            .map((Record record) -> jdbcRepository.map(record));
     }
 
     /**
@@ -356,7 +349,7 @@ public abstract class AbstractJdbcCrudRepository<T> extends AbstractJdbcReposito
 
     /**
      * Find all items and return a reactive stream.
-     * To avoid any potential issues with databases that load all the resultset in memory, it batches the results by <code>FETCH_SIZE</code>.
+     * To avoid any potential issues with databases that load all the resultset in memory, it fetches the results from a cursor by batches of <code>FETCH_SIZE</code> as they are requested.
      *
      * @see #findAll(String)
      */
@@ -366,28 +359,18 @@ public abstract class AbstractJdbcCrudRepository<T> extends AbstractJdbcReposito
 
     /**
      * Find all items and return a reactive stream.
-     * To avoid any potential issues with databases that load all the resultset in memory, it batches the results by <code>FETCH_SIZE</code>.
+     * To avoid any potential issues with databases that load all the resultset in memory, it fetches the results from a cursor by batches of <code>FETCH_SIZE</code> as they are requested.
      *
      * @see #findAll(Condition)
      */
     protected Flux<T> findAllAsync(Condition defaultFilter) {
-        return Flux.create(emitter -> this.jdbcRepository
+        return this.jdbcRepository
             .getDslContextWrapper()
-            .transaction(configuration -> {
-                DSLContext context = DSL.using(configuration);
-
-                var select = context
-                    .select(VALUE_FIELD)
-                    .from(this.jdbcRepository.getTable())
-                    .where(defaultFilter);
-
-                try (var stream = select.fetchSize(FETCH_SIZE).stream()){
-                    stream.map((Record record) -> jdbcRepository.map(record))
-                        .forEach(emitter::next);
-                } finally {
-                    emitter.complete();
-                }
-            }), FluxSink.OverflowStrategy.BUFFER);
+            .stream(context -> context
+                .select(VALUE_FIELD)
+                .from(this.jdbcRepository.getTable())
+                .where(defaultFilter), FETCH_SIZE)
+            .map((Record record) -> jdbcRepository.map(record));
     }
 
     /**
@@ -17,6 +17,7 @@ import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.*;
 import org.jooq.impl.DSL;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
 import java.time.Instant;
@@ -125,17 +126,24 @@ public abstract class AbstractJdbcDashboardRepository extends AbstractJdbcCrudRe
 
     @Override
     public <F extends Enum<F>> ArrayListTotal<Map<String, Object>> generate(String tenantId, DataChart<?, DataFilter<F, ? extends ColumnDescriptor<F>>> dataChart, ZonedDateTime startDate, ZonedDateTime endDate, Pageable pageable) throws IOException {
-        @SuppressWarnings("unchecked")
-        QueryBuilderInterface<F> queryBuilder = (QueryBuilderInterface<F>) queryBuilderByHandledFields.computeIfAbsent(
-            dataChart.getData().repositoryClass(),
+        return this.queryBuilder(dataChart.getData()).fetchData(tenantId, dataChart.getData(), startDate, endDate, pageable);
+    }
+
+    @Override
+    public <F extends Enum<F>> Flux<Map<String, Object>> stream(String tenantId, DataChart<?, DataFilter<F, ? extends ColumnDescriptor<F>>> dataChart, ZonedDateTime startDate, ZonedDateTime endDate, Pageable pageable) {
+        return this.queryBuilder(dataChart.getData()).streamData(tenantId, dataChart.getData(), startDate, endDate, pageable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <F extends Enum<F>> QueryBuilderInterface<F> queryBuilder(DataFilter<F, ? extends ColumnDescriptor<F>> dataFilter) {
+        return (QueryBuilderInterface<F>) queryBuilderByHandledFields.computeIfAbsent(
+            dataFilter.repositoryClass(),
             clazz -> queryBuilders
                 .stream()
                 .filter(b -> clazz.isAssignableFrom(b.getClass()))
                 .findFirst()
                 .orElseThrow(() -> new UnsupportedOperationException("No query builder found for " + clazz))
         );
-
-        return queryBuilder.fetchData(tenantId, dataChart.getData(), startDate, endDate, pageable);
     }
 
     @Override
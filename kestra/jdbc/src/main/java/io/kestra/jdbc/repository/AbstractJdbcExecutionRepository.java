@@ -47,6 +47,7 @@ import reactor.core.publisher.FluxSink;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
@@ -63,11 +64,14 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
     private static final Field<String> STATE_CURRENT_FIELD = field("state_current", String.class);
     private static final Field<String> NAMESPACE_FIELD = field("namespace", String.class);
     private static final Field<Object> START_DATE_FIELD = field("start_date");
+    private static final Field<String> TENANT_ID_FIELD = field("tenant_id", String.class);
+    private static final Field<String> FLOW_ID_FIELD = field("flow_id", String.class);
     private static final Condition NORMAL_KIND_CONDITION = field("kind").isNull().or(field("kind").eq(ExecutionKind.NORMAL.name()));
 
     private final ApplicationEventPublisher<CrudEvent<Execution>> eventPublisher;
     private final ApplicationContext applicationContext;
     protected final AbstractJdbcExecutorStateStorage executorStateStorage;
+    private final ExecutionStatisticsRollup executionStatistics;
 
     private QueueInterface<Execution> executionQueue;
     private final KestraConfig kestraConfig;
@@ -108,6 +112,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         this.executorStateStorage = executorStateStorage;
         this.eventPublisher = applicationContext.getBean(ApplicationEventPublisher.class);
         this.kestraConfig = applicationContext.getBean(KestraConfig.class);
+        this.executionStatistics = applicationContext.getBean(ExecutionStatisticsRollup.class);
 
         // we inject ApplicationContext in order to get the ExecutionQueue lazy to avoid StackOverflowError
         this.applicationContext = applicationContext;
@@ -234,6 +239,45 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         );
     }
 
+    @Override
+    public Flux<Execution> findForPurge(
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .stream(
+                // only select the identifying columns, the value is not needed to purge an execution
+                context -> this.findSelect(
+                    context.select(KEY_FIELD, TENANT_ID_FIELD, NAMESPACE_FIELD, FLOW_ID_FIELD),
+                    null,
+                    tenantId,
+                    null,
+                    namespace,
+                    flowId,
+                    startDate,
+                    endDate,
+                    state,
+                    null,
+                    null,
+                    null,
+                    true
+                ),
+                FETCH_SIZE
+            )
+            .map(record -> Execution.builder()
+                .id(record.get(KEY_FIELD))
+                .tenantId(record.get(TENANT_ID_FIELD))
+                .namespace(record.get(NAMESPACE_FIELD))
+                .flowId(record.get(FLOW_ID_FIELD))
+                .build()
+            );
+    }
+
     private Condition computeFindCondition(@Nullable List<QueryFilter> filters) {
         boolean hasKindFilter = filters != null && filters.stream()
             .anyMatch(f -> KIND.value().equalsIgnoreCase(f.field().name()) );
@@ -256,10 +300,25 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         @Nullable ChildFilter childFilter,
         boolean deleted
     ) {
-        var select = context
-            .select(
-                VALUE_FIELD
-            )
+        return this.findSelect(context.select(VALUE_FIELD), query, tenantId, scope, namespace, flowId, startDate, endDate, state, labels, triggerExecutionId, childFilter, deleted);
+    }
+
+    private <T extends Record> SelectConditionStep<T> findSelect(
+        SelectSelectStep<T> selectStep,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable List<FlowScope> scope,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable Map<String, String> labels,
+        @Nullable String triggerExecutionId,
+        @Nullable ChildFilter childFilter,
+        boolean deleted
+    ) {
+        var select = selectStep
             .from(this.jdbcRepository.getTable())
             .where(this.defaultFilter(tenantId, deleted));
 
@@ -307,11 +366,18 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         ZonedDateTime finalStartDate = startDate == null ? ZonedDateTime.now().minusDays(30) : startDate;
         ZonedDateTime finalEndDate = endDate == null ? ZonedDateTime.now() : endDate;
 
-        Results results = dailyStatisticsQueryForAllTenants(
+        Optional<Pair<ZonedDateTime, ZonedDateTime>> rollupRange = this.dailyStatisticsRollupRange(query, finalStartDate, finalEndDate, groupBy);
+        Condition defaultFilter = rollupRange
+            .map(range -> this.defaultFilter().and(this.notRolledUpCondition(range)))
+            .orElse(this.defaultFilter());
+
+        Results results = dailyStatisticsQuery(
+            defaultFilter,
             List.of(
                 STATE_CURRENT_FIELD
             ),
             query,
+            null,
             namespace,
             flowId,
             null,
@@ -321,10 +387,20 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
             null
         );
 
+        List<Record> records = new ArrayList<>(results.resultsOrRows().getFirst().result());
+        rollupRange.ifPresent(range -> records.addAll(dailyStatisticsRollupQuery(
+            DSL.trueCondition(),
+            null,
+            namespace,
+            flowId,
+            range,
+            Duration.between(finalStartDate, finalEndDate),
+            groupBy,
+            null
+        )));
+
         return dailyStatisticsQueryMapRecord(
-            results.resultsOrRows()
-                .getFirst()
-                .result(),
+            records,
             finalStartDate,
             finalEndDate,
             groupBy
@@ -346,12 +422,17 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         ZonedDateTime finalStartDate = startDate == null ? ZonedDateTime.now().minusDays(30) : startDate;
         ZonedDateTime finalEndDate = endDate == null ? ZonedDateTime.now() : endDate;
 
+        Optional<Pair<ZonedDateTime, ZonedDateTime>> rollupRange = this.dailyStatisticsRollupRange(query, finalStartDate, finalEndDate, groupBy);
+        Condition defaultFilter = rollupRange
+            .map(range -> this.defaultFilter(tenantId).and(this.notRolledUpCondition(range)))
+            .orElse(this.defaultFilter(tenantId));
+
         Results results = dailyStatisticsQuery(
+            defaultFilter,
             List.of(
                 STATE_CURRENT_FIELD
             ),
             query,
-            tenantId,
             scope,
             namespace,
             flowId,
@@ -362,18 +443,128 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
             states
         );
 
+        List<Record> records = new ArrayList<>(results.resultsOrRows().getFirst().result());
+        rollupRange.ifPresent(range -> records.addAll(dailyStatisticsRollupQuery(
+            this.buildTenantCondition(tenantId),
+            scope,
+            namespace,
+            flowId,
+            range,
+            Duration.between(finalStartDate, finalEndDate),
+            groupBy,
+            states
+        )));
+
         return dailyStatisticsQueryMapRecord(
-            results.resultsOrRows()
-                .getFirst()
-                .result(),
+            records,
             finalStartDate,
             finalEndDate,
             groupBy
         );
     }
 
+    /**
+     * Returns the range of the statistics that can be read from the rollup: the hours fully covered by the requested range,
+     * or empty if the rollup is disabled, the range covers no full hour or the statistics need a finer granularity or a full-text query.
+     */
+    private Optional<Pair<ZonedDateTime, ZonedDateTime>> dailyStatisticsRollupRange(
+        @Nullable String query,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate,
+        @Nullable DateUtils.GroupType groupBy
+    ) {
+        DateUtils.GroupType groupByType = groupBy != null ? groupBy : DateUtils.groupByType(Duration.between(startDate, endDate));
+        if (query != null || groupByType == DateUtils.GroupType.MINUTE) {
+            return Optional.empty();
+        }
+
+        return this.rollupRange(startDate, endDate);
+    }
+
+    private Optional<Pair<ZonedDateTime, ZonedDateTime>> rollupRange(ZonedDateTime startDate, ZonedDateTime endDate) {
+        if (!executionStatistics.isEnabled()) {
+            return Optional.empty();
+        }
+
+        // the rollup is bucketed by UTC hours
+        ZonedDateTime utcStartDate = startDate.withZoneSameInstant(ZoneOffset.UTC);
+        ZonedDateTime rollupStartDate = utcStartDate.truncatedTo(ChronoUnit.HOURS);
+        if (rollupStartDate.isBefore(utcStartDate)) {
+            rollupStartDate = rollupStartDate.plusHours(1);
+        }
+        ZonedDateTime rollupEndDate = endDate.withZoneSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+
+        return rollupStartDate.isBefore(rollupEndDate) ? Optional.of(Pair.of(rollupStartDate, rollupEndDate)) : Optional.empty();
+    }
+
+    /**
+     * The executions that are not read from the rollup for the given range: the ones that are not terminated
+     * and the ones starting outside the range.
+     */
+    private Condition notRolledUpCondition(Pair<ZonedDateTime, ZonedDateTime> rollupRange) {
+        return DSL.or(
+            DSL.not(this.statesFilter(State.Type.terminatedTypes())),
+            START_DATE_FIELD.lessThan(rollupRange.getLeft().toOffsetDateTime()),
+            START_DATE_FIELD.greaterOrEqual(rollupRange.getRight().toOffsetDateTime())
+        );
+    }
+
+    private Condition rollupRangeCondition(Pair<ZonedDateTime, ZonedDateTime> rollupRange) {
+        return ExecutionStatisticsRollup.START_HOUR_FIELD.greaterOrEqual(rollupRange.getLeft().toOffsetDateTime())
+            .and(ExecutionStatisticsRollup.START_HOUR_FIELD.lessThan(rollupRange.getRight().toOffsetDateTime()))
+            // a bucket is emptied when its executions are restarted or deleted
+            .and(ExecutionStatisticsRollup.COUNT_FIELD.greaterThan(0L));
+    }
+
+    private List<Record> dailyStatisticsRollupQuery(
+        Condition tenantFilter,
+        @Nullable List<FlowScope> scope,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        Pair<ZonedDateTime, ZonedDateTime> rollupRange,
+        Duration duration,
+        @Nullable DateUtils.GroupType groupBy,
+        @Nullable List<State.Type> state
+    ) {
+        String dateField = ExecutionStatisticsRollup.START_HOUR_FIELD.getName();
+        List<Field<?>> dateFields = new ArrayList<>(groupByFields(duration, dateField, groupBy));
+        List<Field<?>> selectFields = new ArrayList<>(List.of(
+            STATE_CURRENT_FIELD,
+            DSL.sum(ExecutionStatisticsRollup.COUNT_FIELD).as("count"),
+            DSL.min(ExecutionStatisticsRollup.DURATION_MIN_FIELD).as("duration_min"),
+            DSL.max(ExecutionStatisticsRollup.DURATION_MAX_FIELD).as("duration_max"),
+            DSL.sum(ExecutionStatisticsRollup.DURATION_SUM_FIELD).as("duration_sum")
+        ));
+        selectFields.addAll(groupByFields(duration, dateField, groupBy, true));
+
+        return jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                SelectConditionStep<Record> select = DSL.using(configuration)
+                    .select(selectFields)
+                    .from(executionStatistics.getTable())
+                    .where(tenantFilter)
+                    .and(this.rollupRangeCondition(rollupRange));
+
+                select = filteringQuery(select, scope, namespace, flowId, null, null, null, null, null);
+
+                if (state != null) {
+                    // the rollup stores the state as a string on all databases
+                    select = select.and(STATE_CURRENT_FIELD.in(state.stream().map(Enum::name).toList()));
+                }
+
+                List<Field<?>> groupFields = new ArrayList<>();
+                groupFields.add(STATE_CURRENT_FIELD);
+                groupFields.addAll(dateFields);
+
+                return select
+                    .groupBy(groupFields)
+                    .fetch();
+            });
+    }
+
     private List<DailyExecutionStatistics> dailyStatisticsQueryMapRecord(
-        Result<Record> records,
+        List<Record> records,
         ZonedDateTime startDate,
         ZonedDateTime endDate,
         @Nullable DateUtils.GroupType groupType
@@ -400,60 +591,6 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
             .toList(), startDate, endDate);
     }
 
-    private Results dailyStatisticsQueryForAllTenants(
-        List<Field<?>> fields,
-        @Nullable String query,
-        @Nullable String namespace,
-        @Nullable String flowId,
-        List<FlowFilter> flows,
-        ZonedDateTime startDate,
-        ZonedDateTime endDate,
-        @Nullable DateUtils.GroupType groupBy,
-        @Nullable List<State.Type> state
-    ) {
-        return dailyStatisticsQuery(
-            this.defaultFilter(),
-            fields,
-            query,
-            null,
-            namespace,
-            flowId,
-            flows,
-            startDate,
-            endDate,
-            groupBy,
-            state
-        );
-    }
-
-    private Results dailyStatisticsQuery(
-        List<Field<?>> fields,
-        @Nullable String query,
-        @Nullable String tenantId,
-        @Nullable List<FlowScope> scope,
-        @Nullable String namespace,
-        @Nullable String flowId,
-        List<FlowFilter> flows,
-        ZonedDateTime startDate,
-        ZonedDateTime endDate,
-        @Nullable DateUtils.GroupType groupBy,
-        @Nullable List<State.Type> state
-    ) {
-        return dailyStatisticsQuery(
-            this.defaultFilter(tenantId),
-            fields,
-            query,
-            scope,
-            namespace,
-            flowId,
-            flows,
-            startDate,
-            endDate,
-            groupBy,
-            state
-        );
-    }
-
     private Results dailyStatisticsQuery(
         Condition defaultFilter,
         List<Field<?>> fields,
@@ -471,9 +608,9 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         List<Field<?>> selectFields = new ArrayList<>(fields);
         selectFields.addAll(List.of(
             DSL.count().as("count"),
-            DSL.min(field("state_duration", Long.class)).as("duration_min"),
-            DSL.max(field("state_duration", Long.class)).as("duration_max"),
-            DSL.sum(field("state_duration", Long.class)).as("duration_sum")
+            DSL.min(this.durationMillisField()).as("duration_min"),
+            DSL.max(this.durationMillisField()).as("duration_max"),
+            DSL.sum(this.durationMillisField()).as("duration_sum")
         ));
         selectFields.addAll(groupByFields(Duration.between(startDate, endDate), fieldsMapping.get(dateFilterField()), groupBy, true));
 
@@ -639,10 +776,11 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
             )
             .build();
 
+        // the statistics of a state may come from both the executions and the rollup
         result.forEach(record -> build.getExecutionCounts()
             .compute(
                 State.Type.valueOf(record.getStateCurrent()),
-                (type, current) -> record.getCount()
+                (type, current) -> current == null ? record.getCount() : current + record.getCount()
             ));
 
         return build;
@@ -659,7 +797,12 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         ZonedDateTime finalStartDate = startDate == null ? ZonedDateTime.now().minusDays(30) : startDate;
         ZonedDateTime finalEndDate = endDate == null ? ZonedDateTime.now() : endDate;
 
-        List<ExecutionCount> result = this.jdbcRepository
+        Optional<Pair<ZonedDateTime, ZonedDateTime>> rollupRange = this.rollupRange(finalStartDate, finalEndDate);
+        Condition defaultFilter = rollupRange
+            .map(range -> this.defaultFilter(tenantId).and(this.notRolledUpCondition(range)))
+            .orElse(this.defaultFilter(tenantId));
+
+        List<ExecutionCount> executionCounts = this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext dslContext = DSL.using(configuration);
@@ -671,7 +814,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
                         DSL.count().as("count")
                     ))
                     .from(this.jdbcRepository.getTable())
-                    .where(this.defaultFilter(tenantId))
+                    .where(defaultFilter)
                     .and(NORMAL_KIND_CONDITION);
 
                 select = select.and(START_DATE_FIELD.greaterOrEqual(finalStartDate.toOffsetDateTime()));
@@ -681,24 +824,8 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
                     select = select.and(this.statesFilter(states));
                 }
 
-                List<Condition> orConditions = new ArrayList<>();
-                orConditions.addAll(ListUtils.emptyOnNull(flows)
-                    .stream()
-                    .map(flow -> DSL.and(
-                        field("namespace").eq(flow.getNamespace()),
-                        field("flow_id").eq(flow.getFlowId())
-                    ))
-                    .toList());
-
-                orConditions.addAll(
-                    ListUtils.emptyOnNull(namespaces)
-                        .stream()
-                        .map(np -> field("namespace").eq(np))
-                        .toList()
-                );
-
                 // add flows filters
-                select = select.and(DSL.or(orConditions));
+                select = select.and(this.executionCountsFlowsCondition(flows, namespaces));
 
                 // map result to flow
                 return select
@@ -719,6 +846,21 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
                     .toList();
             });
 
+        // add the terminated executions read from the rollup
+        List<ExecutionCount> result = rollupRange
+            .map(range -> Stream.concat(executionCounts.stream(), this.executionCountsRollupQuery(tenantId, flows, states, namespaces, range).stream())
+                .collect(Collectors.groupingBy(
+                    executionCount -> Pair.of(executionCount.getNamespace(), executionCount.getFlowId()),
+                    LinkedHashMap::new,
+                    Collectors.summingLong(ExecutionCount::getCount)
+                ))
+                .entrySet()
+                .stream()
+                .map(entry -> new ExecutionCount(entry.getKey().getLeft(), entry.getKey().getRight(), entry.getValue()))
+                .toList()
+            )
+            .orElse(executionCounts);
+
         List<ExecutionCount> counts = new ArrayList<>();
         // fill missing with count at 0
         if (!ListUtils.isEmpty(flows)) {
@@ -755,6 +897,64 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         return counts;
     }
 
+    private Condition executionCountsFlowsCondition(@Nullable List<Flow> flows, @Nullable List<String> namespaces) {
+        List<Condition> orConditions = new ArrayList<>();
+        orConditions.addAll(ListUtils.emptyOnNull(flows)
+            .stream()
+            .map(flow -> DSL.and(
+                field("namespace").eq(flow.getNamespace()),
+                field("flow_id").eq(flow.getFlowId())
+            ))
+            .toList());
+
+        orConditions.addAll(
+            ListUtils.emptyOnNull(namespaces)
+                .stream()
+                .map(np -> field("namespace").eq(np))
+                .toList()
+        );
+
+        return DSL.or(orConditions);
+    }
+
+    private List<ExecutionCount> executionCountsRollupQuery(
+        @Nullable String tenantId,
+        @Nullable List<Flow> flows,
+        @Nullable List<State.Type> states,
+        @Nullable List<String> namespaces,
+        Pair<ZonedDateTime, ZonedDateTime> rollupRange
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                SelectConditionStep<?> select = DSL.using(configuration)
+                    .select(
+                        NAMESPACE_FIELD,
+                        FLOW_ID_FIELD,
+                        DSL.sum(ExecutionStatisticsRollup.COUNT_FIELD).as("count")
+                    )
+                    .from(executionStatistics.getTable())
+                    .where(this.buildTenantCondition(tenantId))
+                    .and(this.rollupRangeCondition(rollupRange))
+                    .and(this.executionCountsFlowsCondition(flows, namespaces));
+
+                if (!ListUtils.isEmpty(states)) {
+                    select = select.and(STATE_CURRENT_FIELD.in(states.stream().map(Enum::name).toList()));
+                }
+
+                return select
+                    .groupBy(NAMESPACE_FIELD, FLOW_ID_FIELD)
+                    .fetch()
+                    .stream()
+                    .map(record -> new ExecutionCount(
+                        record.getValue(NAMESPACE_FIELD),
+                        record.getValue(FLOW_ID_FIELD),
+                        record.getValue("count", Long.class)
+                    ))
+                    .toList();
+            });
+    }
+
     @Override
     public List<Execution> lastExecutions(
         String tenantId,
@@ -803,6 +1003,57 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
             });
     }
 
+    @Override
+    public Execution save(Execution execution) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> this.save(DSL.using(configuration), execution));
+    }
+
+    @Override
+    public Execution save(DSLContext context, Execution execution) {
+        // only look up the persisted revision when it may have been rolled up
+        if (executionStatistics.isEnabled() && ExecutionStatisticsRollup.mayBeRolledUp(execution)) {
+            Optional<Execution> previous = this.jdbcRepository.fetchOne(context
+                .select(VALUE_FIELD)
+                .from(this.jdbcRepository.getTable())
+                .where(KEY_FIELD.eq(execution.getId()))
+                .forUpdate()
+            );
+
+            executionStatistics.update(context, previous.orElse(null), execution);
+        }
+
+        return super.save(context, execution);
+    }
+
+    /**
+     * Recomputes the execution statistics rollup from all the executions.
+     * <p>
+     * Executions saved while the rollup is rebuilt can be counted twice or not at all, so it must only be called
+     * while no executor nor webserver is running.
+     *
+     * @return the number of rolled up buckets.
+     */
+    public int rebuildStatistics() {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                var select = context
+                    .select(VALUE_FIELD)
+                    .from(this.jdbcRepository.getTable())
+                    .where(this.defaultFilter())
+                    .and(NORMAL_KIND_CONDITION)
+                    .and(this.statesFilter(State.Type.terminatedTypes()));
+
+                try (Stream<Execution> executions = select.fetchSize(FETCH_SIZE).stream().map(this.jdbcRepository::map)) {
+                    return executionStatistics.rebuild(context, executions);
+                }
+            });
+    }
+
     @SneakyThrows
     @Override
     public Execution delete(Execution execution) {
@@ -814,7 +1065,17 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         Execution deleted = execution.toDeleted();
 
         Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(deleted);
-        this.jdbcRepository.persist(deleted, fields);
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                if (executionStatistics.isEnabled()) {
+                    executionStatistics.update(context, revision.get(), deleted);
+                }
+
+                this.jdbcRepository.persist(deleted, context, fields);
+            });
 
         executionQueue().emit(deleted);
 
@@ -825,7 +1086,14 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
 
     @Override
     public Integer purge(Execution execution) {
-        int delete = this.jdbcRepository.delete(execution);
+        int delete = this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+                this.removeFromStatistics(context, List.of(execution.getId()));
+
+                return this.jdbcRepository.delete(context, execution);
+            });
         eventPublisher.publishEvent(CrudEvent.delete(execution));
         return delete;
     }
@@ -836,16 +1104,28 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
+                List<String> executionIds = executions.stream().map(Execution::getId).toList();
 
                 // we send the event before to be sure that if sending the event crash, we would not delete the exec
                 executions.forEach(execution -> eventPublisher.publishEvent(CrudEvent.delete(execution)));
 
+                this.removeFromStatistics(context, executionIds);
+
                 return context.delete(this.jdbcRepository.getTable())
-                    .where(KEY_FIELD.in(executions.stream().map(Execution::getId).toList()))
+                    .where(KEY_FIELD.in(executionIds))
                     .execute();
             });
     }
 
+    private void removeFromStatistics(DSLContext context, List<String> executionIds) {
+        if (!executionStatistics.isEnabled()) {
+            return;
+        }
+
+        // the persisted revision is needed to find its statistics bucket
+        executionStatistics.remove(context, this.jdbcRepository.getTable(), executionIds);
+    }
+
     public Executor lock(String executionId, Function<Pair<Execution, ExecutorState>, Pair<Executor, ExecutorState>> function) {
         return this.jdbcRepository
             .getDslContextWrapper()
@@ -870,6 +1150,10 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
                 Pair<Executor, ExecutorState> pair = function.apply(Pair.of(execution.get(), executorState));
 
                 if (pair != null) {
+                    if (executionStatistics.isEnabled()) {
+                        executionStatistics.update(context, execution.get(), pair.getKey().getExecution());
+                    }
+
                     this.jdbcRepository.persist(pair.getKey().getExecution(), context, null);
                     this.executorStateStorage.save(context, pair.getRight());
 
@@ -905,51 +1189,71 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
     ) {
         return this.jdbcRepository
             .getDslContextWrapper()
-            .transactionResult(configuration -> {
-                DSLContext context = DSL.using(configuration);
+            .transactionResult(configuration -> fetchSeekStep(
+                this.fetchDataQuery(DSL.using(configuration), tenantId, descriptors, startDate, endDate),
+                pageable
+            ));
+    }
 
-                Map<String, ? extends ColumnDescriptor<Executions.Fields>> columnsWithoutDate = descriptors.getColumns().entrySet().stream()
-                    .filter(entry -> entry.getValue().getField() == null || !dateFields().contains(entry.getValue().getField()))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-                boolean hasAgg = descriptors.getColumns().entrySet().stream().anyMatch(col -> col.getValue().getAgg() != null);
-                // Generate custom fields for date as they probably need formatting
-                // If they don't have aggs, we format datetime to minutes
-                List<Field<Date>> dateFields = generateDateFields(descriptors, fieldsMapping, startDate, endDate, dateFields(), hasAgg ? null : DateUtils.GroupType.MINUTE);
-
-                // Init request
-                SelectConditionStep<Record> selectConditionStep = select(
-                    context,
-                    filterService,
-                    columnsWithoutDate,
-                    dateFields,
-                    this.getFieldsMapping(),
-                    this.jdbcRepository.getTable(),
-                    tenantId
-                );
+    @Override
+    public Flux<Map<String, Object>> streamData(
+        String tenantId,
+        DataFilter<Executions.Fields, ? extends ColumnDescriptor<Executions.Fields>> descriptors,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate,
+        Pageable pageable
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .stream(context -> paginate(this.fetchDataQuery(context, tenantId, descriptors, startDate, endDate), pageable), FETCH_SIZE)
+            .map(Record::intoMap);
+    }
 
-                // Apply Where filter
-                selectConditionStep = where(selectConditionStep, filterService, descriptors.getWhere(), fieldsMapping)
-                    .and(NORMAL_KIND_CONDITION);
+    private SelectSeekStepN<Record> fetchDataQuery(
+        DSLContext context,
+        String tenantId,
+        DataFilter<Executions.Fields, ? extends ColumnDescriptor<Executions.Fields>> descriptors,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate
+    ) {
+        Map<String, ? extends ColumnDescriptor<Executions.Fields>> columnsWithoutDate = descriptors.getColumns().entrySet().stream()
+            .filter(entry -> entry.getValue().getField() == null || !dateFields().contains(entry.getValue().getField()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        boolean hasAgg = descriptors.getColumns().entrySet().stream().anyMatch(col -> col.getValue().getAgg() != null);
+        // Generate custom fields for date as they probably need formatting
+        // If they don't have aggs, we format datetime to minutes
+        List<Field<Date>> dateFields = generateDateFields(descriptors, fieldsMapping, startDate, endDate, dateFields(), hasAgg ? null : DateUtils.GroupType.MINUTE);
+
+        // Init request
+        SelectConditionStep<Record> selectConditionStep = select(
+            context,
+            filterService,
+            columnsWithoutDate,
+            dateFields,
+            this.getFieldsMapping(),
+            this.jdbcRepository.getTable(),
+            tenantId
+        );
 
-                List<? extends ColumnDescriptor<Executions.Fields>> columnsWithoutDateWithOutAggs = columnsWithoutDate.values().stream()
-                    .filter(column -> column.getAgg() == null)
-                    .toList();
+        // Apply Where filter
+        selectConditionStep = where(selectConditionStep, filterService, descriptors.getWhere(), fieldsMapping)
+            .and(NORMAL_KIND_CONDITION);
 
-                // Apply GroupBy for aggregation
-                SelectHavingStep<Record> selectHavingStep = groupBy(
-                    selectConditionStep,
-                    columnsWithoutDateWithOutAggs,
-                    dateFields,
-                    fieldsMapping
-                );
+        List<? extends ColumnDescriptor<Executions.Fields>> columnsWithoutDateWithOutAggs = columnsWithoutDate.values().stream()
+            .filter(column -> column.getAgg() == null)
+            .toList();
 
-                // Apply OrderBy
-                SelectSeekStepN<Record> selectSeekStep = orderBy(selectHavingStep, descriptors);
+        // Apply GroupBy for aggregation
+        SelectHavingStep<Record> selectHavingStep = groupBy(
+            selectConditionStep,
+            columnsWithoutDateWithOutAggs,
+            dateFields,
+            fieldsMapping
+        );
 
-                // Fetch and paginate if provided
-                return fetchSeekStep(selectSeekStep, pageable);
-            });
+        // Apply OrderBy
+        return orderBy(selectHavingStep, descriptors);
     }
 
     public Double fetchValue(String tenantId, DataFilterKPI<Executions.Fields, ? extends ColumnDescriptor<Executions.Fields>> dataFilter, ZonedDateTime startDate, ZonedDateTime endDate, boolean numeratorFilter) {
@@ -1098,4 +1402,12 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
     }
 
     abstract protected Field<Date> formatDateField(String dateField, DateUtils.GroupType groupType);
+
+    /**
+     * The duration of the executions in milliseconds, the unit of the durations of the statistics rollup.
+     * The generated state_duration column only holds milliseconds on some databases.
+     */
+    protected Field<Long> durationMillisField() {
+        return field("state_duration", Long.class);
+    }
 }
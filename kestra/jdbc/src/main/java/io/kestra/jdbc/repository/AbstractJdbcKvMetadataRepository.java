@@ -6,23 +6,32 @@ import io.kestra.core.models.TenantAndNamespace;
 import io.kestra.core.models.kv.PersistedKvMetadata;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.KvMetadataRepositoryInterface;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTableConfig;
 import io.micronaut.data.model.Pageable;
 import jakarta.annotation.Nullable;
 import org.jooq.*;
 import org.jooq.Record;
+import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public abstract class AbstractJdbcKvMetadataRepository extends AbstractJdbcCrudRepository<PersistedKvMetadata> implements KvMetadataRepositoryInterface {
+    private static final int COMPUTE_MAX_ATTEMPTS = 3;
+
+    private final Table<Record> lockTable;
 
     public AbstractJdbcKvMetadataRepository(
-        io.kestra.jdbc.AbstractJdbcRepository<PersistedKvMetadata> jdbcRepository
+        io.kestra.jdbc.AbstractJdbcRepository<PersistedKvMetadata> jdbcRepository,
+        JdbcTableConfig lockTableConfig
     ) {
         super(jdbcRepository);
+        this.lockTable = DSL.table(lockTableConfig.table());
     }
 
     private static Condition lastCondition(boolean isLast) {
@@ -48,6 +57,111 @@ public abstract class AbstractJdbcKvMetadataRepository extends AbstractJdbcCrudR
         return findOne(tenantId, condition, true);
     }
 
+    @Override
+    public List<PersistedKvMetadata> findByNames(String tenantId, String namespace, List<String> names) {
+        if (names.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        var condition = field("namespace").eq(namespace)
+            .and(field("name").in(names))
+            .and(lastCondition());
+        return find(tenantId, condition, true);
+    }
+
+    @Override
+    public Optional<PersistedKvMetadata> compute(String tenantId, String namespace, String name, Function<Optional<PersistedKvMetadata>, PersistedKvMetadata> remapping) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return this.jdbcRepository
+                    .getDslContextWrapper()
+                    .transactionResult(configuration -> {
+                        DSLContext context = DSL.using(configuration);
+
+                        this.lock(context, tenantId, namespace, name);
+                        Optional<PersistedKvMetadata> maybePrevious = this.fetchLast(context, tenantId, namespace, name);
+
+                        PersistedKvMetadata computed = remapping.apply(maybePrevious);
+                        if (computed == null) {
+                            return Optional.empty();
+                        }
+
+                        if (maybePrevious.isPresent()) {
+                            PersistedKvMetadata previousAsNotLast = maybePrevious.get().toBuilder().last(false).build();
+                            this.jdbcRepository.persist(previousAsNotLast, context, this.jdbcRepository.persistFields(previousAsNotLast));
+                        }
+
+                        PersistedKvMetadata kvMetadataToPersist = computed.asLast().toBuilder()
+                            .version(maybePrevious.map(PersistedKvMetadata::getVersion).orElse(0) + 1)
+                            .build();
+
+                        // a plain insert, so two computations creating the same first version can't both succeed
+                        context
+                            .insertInto(this.jdbcRepository.getTable())
+                            .set(KEY_FIELD, this.jdbcRepository.key(kvMetadataToPersist))
+                            .set(this.jdbcRepository.persistFields(kvMetadataToPersist))
+                            .execute();
+
+                        return Optional.of(kvMetadataToPersist);
+                    });
+            } catch (DataAccessException e) {
+                if (attempt >= COMPUTE_MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Lock the key for the duration of the current transaction.
+     * The latest version can't be used as a lock as it is replaced by each write, so a waiter on it would find no
+     * latest version once the lock is released. Instead, we lock a per-key row that is created on first use and
+     * deleted once all the versions of the key are purged.
+     * Only computations take it, plain saves don't pay for the extra statements.
+     */
+    private void lock(DSLContext context, String tenantId, String namespace, String name) {
+        String lockKey = lockKey(tenantId, namespace, name);
+
+        // same select/insert pattern as the concurrency limit: H2 can't ignore duplicates and Postgres aborts the
+        // transaction on a constraint violation
+        boolean exists = context.fetchExists(context.selectOne().from(this.lockTable).where(KEY_FIELD.eq(lockKey)));
+        if (!exists) {
+            try {
+                var insert = context.insertInto(this.lockTable).set(KEY_FIELD, lockKey);
+                if (context.configuration().dialect().supports(SQLDialect.POSTGRES)) {
+                    insert.onDuplicateKeyIgnore().execute();
+                } else {
+                    insert.execute();
+                }
+            } catch (DataAccessException e) {
+                // we ignore any constraint violation, another transaction created the lock row
+            }
+        }
+
+        context.select(KEY_FIELD)
+            .from(this.lockTable)
+            .where(KEY_FIELD.eq(lockKey))
+            .forUpdate()
+            .fetch();
+    }
+
+    private static String lockKey(String tenantId, String namespace, String name) {
+        return IdUtils.fromParts(tenantId, namespace, name);
+    }
+
+    private Optional<PersistedKvMetadata> fetchLast(DSLContext context, String tenantId, String namespace, String name) {
+        // a locking read, so we see the latest committed version even under MySQL repeatable read
+        return this.jdbcRepository.fetchOne(context
+            .select(VALUE_FIELD)
+            .from(this.jdbcRepository.getTable())
+            .where(this.defaultFilter(tenantId, true))
+            .and(field("namespace").eq(namespace))
+            .and(field("name").eq(name))
+            .and(lastCondition())
+            .forUpdate()
+        );
+    }
+
     private Condition findSelect(
         @Nullable List<QueryFilter> filters,
         boolean allowExpired,
@@ -101,12 +215,75 @@ public abstract class AbstractJdbcKvMetadataRepository extends AbstractJdbcCrudR
                     }
 
                     int deletedAmount = deleteCondition.execute();
+                    this.deleteLocks(context, e.getKey(), e.getValue().stream().map(PersistedKvMetadata::getName).distinct().toList());
 
                     return totalForTenantNamespace + deletedAmount;
                 }, Integer::sum);
             });
     }
 
+    /**
+     * Deletes the lock rows of the keys that no longer have any version.
+     */
+    private void deleteLocks(DSLContext context, TenantAndNamespace tenantAndNamespace, List<String> names) {
+        Set<String> remaining = new HashSet<>(context
+            .selectDistinct(field("name", String.class))
+            .from(this.jdbcRepository.getTable())
+            .where(this.defaultFilter(tenantAndNamespace.tenantId(), true))
+            .and(field("namespace").eq(tenantAndNamespace.namespace()))
+            .and(field("name").in(names))
+            .and(field("last").in(true, false))
+            .fetch(field("name", String.class)));
+
+        List<String> lockKeys = names.stream()
+            .filter(name -> !remaining.contains(name))
+            .map(name -> lockKey(tenantAndNamespace.tenantId(), tenantAndNamespace.namespace(), name))
+            .toList();
+
+        if (!lockKeys.isEmpty()) {
+            context.deleteFrom(this.lockTable).where(KEY_FIELD.in(lockKeys)).execute();
+        }
+    }
+
+    @Override
+    public List<PersistedKvMetadata> saveAll(List<PersistedKvMetadata> kvMetadata) {
+        Map<TenantAndNamespace, List<PersistedKvMetadata>> byTenantNamespace = kvMetadata.stream().collect(Collectors.groupingBy(
+            metadata -> new TenantAndNamespace(metadata.getTenantId(), metadata.getNamespace()),
+            LinkedHashMap::new,
+            Collectors.toList()
+        ));
+
+        // the previous versions are read with a single query by namespace, then all the writes are sent as a single batch
+        List<PersistedKvMetadata> saved = new ArrayList<>();
+        List<PersistedKvMetadata> toPersist = new ArrayList<>();
+        byTenantNamespace.forEach((tenantAndNamespace, metadataList) -> {
+            Map<String, PersistedKvMetadata> previousByName = this.findByNames(
+                    tenantAndNamespace.tenantId(),
+                    tenantAndNamespace.namespace(),
+                    metadataList.stream().map(PersistedKvMetadata::getName).toList()
+                )
+                .stream()
+                .collect(Collectors.toMap(PersistedKvMetadata::getName, Function.identity()));
+
+            metadataList.forEach(metadata -> {
+                Optional<PersistedKvMetadata> maybePrevious = Optional.ofNullable(previousByName.get(metadata.getName()));
+                maybePrevious.ifPresent(previous -> toPersist.add(previous.toBuilder().last(false).build()));
+
+                PersistedKvMetadata kvMetadataToPersist = metadata.asLast().toBuilder()
+                    .version(maybePrevious.map(PersistedKvMetadata::getVersion).orElse(0) + 1)
+                    .build();
+                toPersist.add(kvMetadataToPersist);
+                saved.add(kvMetadataToPersist);
+            });
+        });
+
+        if (!toPersist.isEmpty()) {
+            this.jdbcRepository.persistBatch(toPersist);
+        }
+
+        return saved;
+    }
+
     @Override
     public PersistedKvMetadata save(PersistedKvMetadata kvMetadata) {
         return this.jdbcRepository
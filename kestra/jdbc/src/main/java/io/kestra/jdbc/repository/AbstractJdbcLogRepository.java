@@ -11,12 +11,14 @@ import io.kestra.core.models.executions.ExecutionKind;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.LogRepositoryInterface;
+import io.kestra.core.storages.LogSegmentStore;
 import io.kestra.core.utils.DateUtils;
 import io.kestra.core.utils.ListUtils;
 import io.kestra.jdbc.services.JdbcFilterService;
 import io.kestra.plugin.core.dashboard.data.Logs;
 import io.micronaut.data.model.Pageable;
 import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
 import lombok.Getter;
 import org.jooq.*;
 import org.jooq.Record;
@@ -24,9 +26,14 @@ import org.jooq.impl.DSL;
 import org.slf4j.event.Level;
 import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudRepository<LogEntry> implements LogRepositoryInterface {
 
@@ -49,6 +56,9 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
     @Getter
     protected final JdbcFilterService filterService;
 
+    @Inject
+    protected LogSegmentStore logSegmentStore;
+
     protected Map<Logs.Fields, String> getFieldsMapping() {
       return Map.of(
           Logs.Fields.DATE, DATE_COLUMN,
@@ -108,33 +118,89 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
     }
 
     private List<LogEntry> findByExecutionId(String tenantId, String executionId, Level minLevel, boolean withAccessControl) {
-        return this.query(
-            tenantId,
-            field("execution_id").eq(executionId),
-            minLevel,
-            withAccessControl
+        return this.withSegments(
+            this.query(
+                tenantId,
+                field("execution_id").eq(executionId),
+                minLevel,
+                withAccessControl
+            ),
+            tenantId, executionId, minLevel, null, null, logEntry -> true
         );
     }
 
+    @Override
+    public Flux<LogEntry> findByExecutionIdAsync(String tenantId,
+                                                 String executionId,
+                                                 Level minLevel,
+                                                 @Nullable String taskRunId,
+                                                 @Nullable List<String> taskIds,
+                                                 @Nullable Integer attempt,
+                                                 boolean withAccessControl) {
+        Condition condition = field("execution_id").eq(executionId);
+        if (minLevel != null) {
+            condition = condition.and(minLevel(minLevel));
+        }
+        if (taskRunId != null) {
+            condition = condition.and(field("taskrun_id").eq(taskRunId));
+        }
+        if (taskIds != null) {
+            condition = condition.and(field("task_id").in(taskIds));
+        }
+        if (attempt != null) {
+            condition = condition.and(field("attempt_number").eq(attempt));
+        }
+
+        var defaultFilter = withAccessControl ? this.defaultFilter(tenantId) : this.defaultFilterWithNoACL(tenantId);
+        Flux<LogEntry> logs = this.findAsync(defaultFilter, condition, field(DATE_COLUMN).asc());
+        if (!logSegmentStore.isEnabled()) {
+            return logs;
+        }
+
+        return Flux.defer(() -> {
+            List<Flux<LogEntry>> sources = new ArrayList<>();
+            sources.add(logs);
+            sources.addAll(logSegmentStore.stream(
+                tenantId,
+                executionId,
+                minLevel,
+                taskIds != null && taskIds.size() == 1 ? taskIds.getFirst() : null,
+                taskRunId,
+                logEntry -> (taskIds == null || taskIds.contains(logEntry.getTaskId())) &&
+                    (attempt == null || attempt.equals(logEntry.getAttemptNumber()))
+            ));
+
+            // the database rows and each segment are ordered by timestamp, so they are merged without being sorted in memory
+            return Flux.mergeComparing(
+                Comparator.comparing(LogEntry::getTimestamp, Comparator.nullsFirst(Comparator.naturalOrder())),
+                sources.toArray(Flux[]::new)
+            );
+        });
+    }
+
     @Override
     public ArrayListTotal<LogEntry> findByExecutionId(String tenantId, String executionId, Level minLevel, Pageable pageable) {
-        return this.query(
+        return this.queryWithSegments(
             tenantId,
             field("execution_id").eq(executionId),
             minLevel,
-            pageable
+            pageable,
+            executionId, null, null, logEntry -> true
         );
     }
 
     @Override
     public List<LogEntry> findByExecutionId(String tenantId, String namespace, String flowId, String executionId, Level minLevel) {
-        return this.query(
-            tenantId,
-            field("execution_id").eq(executionId)
-                .and(field("namespace").eq(namespace))
-                .and(field("flow_id").eq(flowId)),
-            minLevel,
-            true
+        return this.withSegments(
+            this.query(
+                tenantId,
+                field("execution_id").eq(executionId)
+                    .and(field("namespace").eq(namespace))
+                    .and(field("flow_id").eq(flowId)),
+                minLevel,
+                true
+            ),
+            tenantId, executionId, minLevel, null, null, logEntry -> namespace.equals(logEntry.getNamespace()) && flowId.equals(logEntry.getFlowId())
         );
     }
 
@@ -149,36 +215,43 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
     }
 
     private List<LogEntry> findByExecutionIdAndTaskId(String tenantId, String executionId, String taskId, Level minLevel, boolean withAccessControl) {
-        return this.query(
-            tenantId,
-            field("execution_id").eq(executionId)
-                .and(field("task_id").eq(taskId)),
-            minLevel,
-            withAccessControl
+        return this.withSegments(
+            this.query(
+                tenantId,
+                field("execution_id").eq(executionId)
+                    .and(field("task_id").eq(taskId)),
+                minLevel,
+                withAccessControl
+            ),
+            tenantId, executionId, minLevel, taskId, null, logEntry -> true
         );
     }
 
     @Override
     public ArrayListTotal<LogEntry> findByExecutionIdAndTaskId(String tenantId, String executionId, String taskId, Level minLevel, Pageable pageable) {
-        return this.query(
+        return this.queryWithSegments(
             tenantId,
             field("execution_id").eq(executionId)
                 .and(field("task_id").eq(taskId)),
             minLevel,
-            pageable
+            pageable,
+            executionId, taskId, null, logEntry -> true
         );
     }
 
     @Override
     public List<LogEntry> findByExecutionIdAndTaskId(String tenantId, String namespace, String flowId, String executionId, String taskId, Level minLevel) {
-        return this.query(
-            tenantId,
-            field("execution_id").eq(executionId)
-                .and(field("namespace").eq(namespace))
-                .and(field("flow_id").eq(flowId))
-                .and(field("task_id").eq(taskId)),
-            minLevel,
-            true
+        return this.withSegments(
+            this.query(
+                tenantId,
+                field("execution_id").eq(executionId)
+                    .and(field("namespace").eq(namespace))
+                    .and(field("flow_id").eq(flowId))
+                    .and(field("task_id").eq(taskId)),
+                minLevel,
+                true
+            ),
+            tenantId, executionId, minLevel, taskId, null, logEntry -> namespace.equals(logEntry.getNamespace()) && flowId.equals(logEntry.getFlowId())
         );
     }
 
@@ -193,23 +266,27 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
     }
 
     private List<LogEntry> findByExecutionIdAndTaskRunId(String tenantId, String executionId, String taskRunId, Level minLevel, boolean withAccessControl) {
-        return this.query(
-            tenantId,
-            field("execution_id").eq(executionId)
-                .and(field("taskrun_id").eq(taskRunId)),
-            minLevel,
-            withAccessControl
+        return this.withSegments(
+            this.query(
+                tenantId,
+                field("execution_id").eq(executionId)
+                    .and(field("taskrun_id").eq(taskRunId)),
+                minLevel,
+                withAccessControl
+            ),
+            tenantId, executionId, minLevel, null, taskRunId, logEntry -> true
         );
     }
 
     @Override
     public ArrayListTotal<LogEntry> findByExecutionIdAndTaskRunId(String tenantId, String executionId, String taskRunId, Level minLevel, Pageable pageable) {
-        return this.query(
+        return this.queryWithSegments(
             tenantId,
             field("execution_id").eq(executionId)
                 .and(field("taskrun_id").eq(taskRunId)),
             minLevel,
-            pageable
+            pageable,
+            executionId, null, taskRunId, logEntry -> true
         );
     }
 
@@ -224,32 +301,36 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
     }
 
     private List<LogEntry> findByExecutionIdAndTaskRunIdAndAttempt(String tenantId, String executionId, String taskRunId, Level minLevel, Integer attempt, boolean withAccessControl) {
-        return this.query(
-            tenantId,
-            field("execution_id").eq(executionId)
-                .and(field("taskrun_id").eq(taskRunId))
-                .and(field("attempt_number").eq(attempt)),
-            minLevel,
-            withAccessControl
+        return this.withSegments(
+            this.query(
+                tenantId,
+                field("execution_id").eq(executionId)
+                    .and(field("taskrun_id").eq(taskRunId))
+                    .and(field("attempt_number").eq(attempt)),
+                minLevel,
+                withAccessControl
+            ),
+            tenantId, executionId, minLevel, null, taskRunId, logEntry -> Objects.equals(attempt, logEntry.getAttemptNumber())
         );
     }
 
 
     @Override
     public ArrayListTotal<LogEntry> findByExecutionIdAndTaskRunIdAndAttempt(String tenantId, String executionId, String taskRunId, Level minLevel, Integer attempt, Pageable pageable) {
-        return this.query(
+        return this.queryWithSegments(
             tenantId,
             field("execution_id").eq(executionId)
                 .and(field("taskrun_id").eq(taskRunId))
                 .and(field("attempt_number").eq(attempt)),
             minLevel,
-            pageable
+            pageable,
+            executionId, null, taskRunId, logEntry -> Objects.equals(attempt, logEntry.getAttemptNumber())
         );
     }
 
     @Override
     public Integer purge(Execution execution) {
-        return this.jdbcRepository
+        Integer deleted = this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
@@ -258,11 +339,13 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
                     .where(field("execution_id", String.class).eq(execution.getId()))
                     .execute();
             });
+
+        return logSegmentStore.isEnabled() ? deleted + logSegmentStore.purge(List.of(execution)) : deleted;
     }
 
     @Override
     public Integer purge(List<Execution> executions) {
-        return this.jdbcRepository
+        Integer deleted = this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
@@ -271,6 +354,23 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
                     .where(field("execution_id", String.class).in(executions.stream().map(Execution::getId).toList()))
                     .execute();
             });
+
+        return logSegmentStore.isEnabled() ? deleted + logSegmentStore.purge(executions) : deleted;
+    }
+
+    @Override
+    public int saveBatch(List<LogEntry> items) {
+        if (!logSegmentStore.isEnabled() || ListUtils.isEmpty(items)) {
+            return super.saveBatch(items);
+        }
+
+        try {
+            // logs not linked to an execution can't be stored in segments
+            List<LogEntry> remaining = logSegmentStore.write(items);
+            return items.size() - remaining.size() + super.saveBatch(remaining);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
@@ -303,6 +403,16 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
 
                 delete.execute();
             });
+
+        if (logSegmentStore.isEnabled()) {
+            List<Level> levels = LogEntry.findLevelsByMin(minLevel);
+            this.deleteFromSegments(tenantId, null, null, executionId, null, null, logEntry ->
+                (taskId == null || taskId.equals(logEntry.getTaskId())) &&
+                    (taskRunId == null || taskRunId.equals(logEntry.getTaskRunId())) &&
+                    levels.contains(logEntry.getLevel()) &&
+                    (attempt == null || attempt.equals(logEntry.getAttemptNumber()))
+            );
+        }
     }
 
     @Override
@@ -324,11 +434,29 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
 
                 delete.execute();
             });
+
+        // trigger logs are never stored in segments
+        if (logSegmentStore.isEnabled() && triggerId == null) {
+            this.deleteFromSegments(tenantId, namespace, flowId, null, null, null, logEntry -> true);
+        }
     }
 
     @Override
     public int deleteByQuery(String tenantId, String namespace, String flowId, String executionId, List<Level> logLevels, ZonedDateTime startDate, ZonedDateTime endDate) {
-        return this.jdbcRepository
+        int deletedFromSegments = 0;
+        if (logSegmentStore.isEnabled()) {
+            deletedFromSegments = this.deleteFromSegments(
+                tenantId, namespace, flowId, executionId,
+                startDate != null ? startDate.toInstant() : null,
+                endDate.toInstant(),
+                logEntry -> (logLevels == null || logLevels.contains(logEntry.getLevel())) &&
+                    logEntry.getTimestamp() != null &&
+                    !logEntry.getTimestamp().isAfter(endDate.toInstant()) &&
+                    (startDate == null || !logEntry.getTimestamp().isBefore(startDate.toInstant()))
+            );
+        }
+
+        return deletedFromSegments + this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
@@ -378,6 +506,39 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
             });
     }
 
+    private List<LogEntry> withSegments(List<LogEntry> logs, String tenantId, String executionId, Level minLevel, @Nullable String taskId, @Nullable String taskRunId, Predicate<LogEntry> filter) {
+        if (!logSegmentStore.isEnabled()) {
+            return logs;
+        }
+
+        List<LogEntry> fromSegments = logSegmentStore.find(tenantId, executionId, minLevel, taskId, taskRunId, filter);
+        if (fromSegments.isEmpty()) {
+            return logs;
+        }
+
+        return Stream.concat(logs.stream(), fromSegments.stream())
+            .sorted(Comparator.comparing(LogEntry::getTimestamp, Comparator.nullsFirst(Comparator.naturalOrder())))
+            .toList();
+    }
+
+    private ArrayListTotal<LogEntry> queryWithSegments(String tenantId, Condition condition, Level minLevel, Pageable pageable, String executionId, @Nullable String taskId, @Nullable String taskRunId, Predicate<LogEntry> filter) {
+        if (!logSegmentStore.isEnabled() || !logSegmentStore.exists(tenantId, executionId)) {
+            return this.query(tenantId, condition, minLevel, pageable);
+        }
+
+        // segments can't be paginated by the database, the page is computed from all the execution logs ordered by timestamp
+        List<LogEntry> logs = this.withSegments(this.query(tenantId, condition, minLevel, true), tenantId, executionId, minLevel, taskId, taskRunId, filter);
+        return pageable.isUnpaged() ? new ArrayListTotal<>(logs, logs.size()) : ArrayListTotal.of(pageable, logs);
+    }
+
+    private int deleteFromSegments(String tenantId, @Nullable String namespace, @Nullable String flowId, @Nullable String executionId, @Nullable Instant startDate, @Nullable Instant endDate, Predicate<LogEntry> predicate) {
+        try {
+            return logSegmentStore.delete(tenantId, namespace, flowId, executionId, startDate, endDate, predicate);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private ArrayListTotal<LogEntry> query(String tenantId, Condition condition, Level minLevel, Pageable pageable) {
         var theCondition = minLevel != null ? condition.and(minLevel(minLevel)) : condition;
         return findPage(pageable, tenantId, theCondition);
@@ -442,51 +603,71 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
     ) {
         return this.jdbcRepository
             .getDslContextWrapper()
-            .transactionResult(configuration -> {
-                DSLContext context = DSL.using(configuration);
+            .transactionResult(configuration -> fetchSeekStep(
+                this.fetchDataQuery(DSL.using(configuration), tenantId, descriptors, startDate, endDate),
+                pageable
+            ));
+    }
 
-                Map<String, ? extends ColumnDescriptor<Logs.Fields>> columnsWithoutDate = descriptors.getColumns().entrySet().stream()
-                    .filter(entry -> entry.getValue().getField() == null || !dateFields().contains(entry.getValue().getField()))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-                boolean hasAgg = descriptors.getColumns().entrySet().stream().anyMatch(col -> col.getValue().getAgg() != null);
-                // Generate custom fields for date as they probably need formatting
-                // If they don't have aggs, we format datetime to minutes
-                List<Field<Date>> dateFields = generateDateFields(descriptors, getFieldsMapping(), startDate, endDate, dateFields(), hasAgg ? null : DateUtils.GroupType.MINUTE);
-
-                // Init request
-                SelectConditionStep<Record> selectConditionStep = select(
-                    context,
-                    filterService,
-                    columnsWithoutDate,
-                    dateFields,
-                    this.getFieldsMapping(),
-                    this.jdbcRepository.getTable(),
-                    tenantId
-                );
-
-                // Apply Where filter
-                selectConditionStep = where(selectConditionStep, filterService, descriptors.getWhere(), getWhereMapping())
-                    .and(NORMAL_KIND_CONDITION);
-
-                List<? extends ColumnDescriptor<Logs.Fields>> columnsWithoutDateWithOutAggs = columnsWithoutDate.values().stream()
-                    .filter(column -> column.getAgg() == null)
-                    .toList();
-
-                // Apply GroupBy for aggregation
-                SelectHavingStep<Record> selectHavingStep = groupBy(
-                    selectConditionStep,
-                    columnsWithoutDateWithOutAggs,
-                    dateFields,
-                    getFieldsMapping()
-                );
-
-                // Apply OrderBy
-                SelectSeekStepN<Record> selectSeekStep = orderBy(selectHavingStep, descriptors);
-
-                // Fetch and paginate if provided
-                return fetchSeekStep(selectSeekStep, pageable);
-            });
+    @Override
+    public Flux<Map<String, Object>> streamData(
+        String tenantId,
+        DataFilter<Logs.Fields, ? extends ColumnDescriptor<Logs.Fields>> descriptors,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate,
+        Pageable pageable
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .stream(context -> paginate(this.fetchDataQuery(context, tenantId, descriptors, startDate, endDate), pageable), FETCH_SIZE)
+            .map(Record::intoMap);
+    }
+
+    private SelectSeekStepN<Record> fetchDataQuery(
+        DSLContext context,
+        String tenantId,
+        DataFilter<Logs.Fields, ? extends ColumnDescriptor<Logs.Fields>> descriptors,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate
+    ) {
+        Map<String, ? extends ColumnDescriptor<Logs.Fields>> columnsWithoutDate = descriptors.getColumns().entrySet().stream()
+            .filter(entry -> entry.getValue().getField() == null || !dateFields().contains(entry.getValue().getField()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        boolean hasAgg = descriptors.getColumns().entrySet().stream().anyMatch(col -> col.getValue().getAgg() != null);
+        // Generate custom fields for date as they probably need formatting
+        // If they don't have aggs, we format datetime to minutes
+        List<Field<Date>> dateFields = generateDateFields(descriptors, getFieldsMapping(), startDate, endDate, dateFields(), hasAgg ? null : DateUtils.GroupType.MINUTE);
+
+        // Init request
+        SelectConditionStep<Record> selectConditionStep = select(
+            context,
+            filterService,
+            columnsWithoutDate,
+            dateFields,
+            this.getFieldsMapping(),
+            this.jdbcRepository.getTable(),
+            tenantId
+        );
+
+        // Apply Where filter
+        selectConditionStep = where(selectConditionStep, filterService, descriptors.getWhere(), getWhereMapping())
+            .and(NORMAL_KIND_CONDITION);
+
+        List<? extends ColumnDescriptor<Logs.Fields>> columnsWithoutDateWithOutAggs = columnsWithoutDate.values().stream()
+            .filter(column -> column.getAgg() == null)
+            .toList();
+
+        // Apply GroupBy for aggregation
+        SelectHavingStep<Record> selectHavingStep = groupBy(
+            selectConditionStep,
+            columnsWithoutDateWithOutAggs,
+            dateFields,
+            getFieldsMapping()
+        );
+
+        // Apply OrderBy
+        return orderBy(selectHavingStep, descriptors);
     }
 
     @Override
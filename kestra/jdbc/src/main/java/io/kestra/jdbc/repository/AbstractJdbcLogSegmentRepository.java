@@ -0,0 +1,88 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.models.executions.LogSegment;
+import io.kestra.core.repositories.LogSegmentRepositoryInterface;
+import io.kestra.core.utils.ListUtils;
+import jakarta.annotation.Nullable;
+import org.jooq.Condition;
+import org.jooq.SortOrder;
+import org.jooq.impl.DSL;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+public abstract class AbstractJdbcLogSegmentRepository extends AbstractJdbcCrudRepository<LogSegment> implements LogSegmentRepositoryInterface {
+    public AbstractJdbcLogSegmentRepository(io.kestra.jdbc.AbstractJdbcRepository<LogSegment> jdbcRepository) {
+        super(jdbcRepository);
+    }
+
+    @Override
+    protected Condition defaultFilter(String tenantId) {
+        return buildTenantCondition(tenantId);
+    }
+
+    @Override
+    protected Condition defaultFilter() {
+        return DSL.trueCondition();
+    }
+
+    @Override
+    public List<LogSegment> findByExecutionId(@Nullable String tenantId, String executionId) {
+        return this.find(
+            this.defaultFilter(tenantId),
+            field("execution_id").eq(executionId),
+            field("start_date").sort(SortOrder.ASC)
+        );
+    }
+
+    @Override
+    public List<LogSegment> find(
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable String executionId,
+        @Nullable Instant startDate,
+        @Nullable Instant endDate
+    ) {
+        Condition condition = DSL.trueCondition();
+
+        if (namespace != null) {
+            condition = condition.and(field("namespace").eq(namespace));
+        }
+
+        if (flowId != null) {
+            condition = condition.and(field("flow_id").eq(flowId));
+        }
+
+        if (executionId != null) {
+            condition = condition.and(field("execution_id").eq(executionId));
+        }
+
+        // segments overlapping the requested time range
+        if (startDate != null) {
+            condition = condition.and(field("end_date").greaterOrEqual(startDate.atOffset(ZoneOffset.UTC)));
+        }
+
+        if (endDate != null) {
+            condition = condition.and(field("start_date").lessOrEqual(endDate.atOffset(ZoneOffset.UTC)));
+        }
+
+        return this.find(this.defaultFilter(tenantId), condition, field("start_date").sort(SortOrder.ASC));
+    }
+
+    @Override
+    public int delete(List<LogSegment> segments) {
+        if (ListUtils.isEmpty(segments)) {
+            return 0;
+        }
+
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> DSL.using(configuration)
+                .delete(this.jdbcRepository.getTable())
+                .where(KEY_FIELD.in(segments.stream().map(LogSegment::uid).toList()))
+                .execute()
+            );
+    }
+}
@@ -237,15 +237,19 @@ public abstract class AbstractJdbcRepository {
 
         int totalCount = DSL.using(selectSeekStep.configuration())
             .fetchCount(selectSeekStep);
-        var results = (pageable != null && pageable.getSize() != -1 ?
-            selectSeekStep.limit(pageable.getSize()).offset(pageable.getOffset() - pageable.getSize()) :
-            selectSeekStep
-        ).fetch()
+        var results = paginate(selectSeekStep, pageable)
+            .fetch()
             .intoMaps();
 
         return new ArrayListTotal<>(results, totalCount);
     }
 
+    protected Select<Record> paginate(SelectSeekStepN<Record> selectSeekStep, @Nullable Pageable pageable) {
+        return pageable != null && pageable.getSize() != -1 ?
+            selectSeekStep.limit(pageable.getSize()).offset(pageable.getOffset() - pageable.getSize()) :
+            selectSeekStep;
+    }
+
     protected <F extends Enum<F>> Field<?> columnToField(ColumnDescriptor<?> column, Map<F, String> fieldsMapping) {
         return column.getField() != null ? field(fieldsMapping.get(column.getField())) : null;
     }
@@ -0,0 +1,276 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.ExecutionKind;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTableConfig;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+import org.jooq.*;
+import org.jooq.Record;
+import org.jooq.impl.DSL;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the execution statistics rollup: the count and the durations of the terminated executions
+ * by tenant, namespace, flow, state and hour of their start date.
+ * <p>
+ * The rollup is updated in the same transaction as the execution it's computed from, so the statistics
+ * of the terminated executions can be read from it instead of aggregating the executions table.
+ * The executions that are not terminated change state too often to be rolled up, they must still be read from the executions table.
+ * <p>
+ * The minimum and maximum durations of a bucket are only widened: they are not recomputed when an execution
+ * is removed from it, they can then be wider than the actual ones until the rollup is rebuilt.
+ * <p>
+ * The rollup is only maintained and read once enabled with {@code kestra.jdbc.execution-statistics.enabled},
+ * the existing executions must then be rolled up with {@code kestra sys reindex --type execution-statistics}.
+ */
+@Singleton
+public class ExecutionStatisticsRollup {
+    static final Field<String> NAMESPACE_FIELD = AbstractJdbcRepository.field("namespace", String.class);
+    static final Field<String> FLOW_ID_FIELD = AbstractJdbcRepository.field("flow_id", String.class);
+    static final Field<String> STATE_CURRENT_FIELD = AbstractJdbcRepository.field("state_current", String.class);
+    static final Field<Object> START_HOUR_FIELD = AbstractJdbcRepository.field("start_hour");
+    static final Field<Long> COUNT_FIELD = AbstractJdbcRepository.field("execution_count", Long.class);
+    static final Field<Long> DURATION_SUM_FIELD = AbstractJdbcRepository.field("duration_sum", Long.class);
+    static final Field<Long> DURATION_MIN_FIELD = AbstractJdbcRepository.field("duration_min", Long.class);
+    static final Field<Long> DURATION_MAX_FIELD = AbstractJdbcRepository.field("duration_max", Long.class);
+
+    // the columns of the executions table a bucket is computed from
+    private static final Field<String> EXECUTION_KIND_FIELD = AbstractJdbcRepository.field("kind", String.class);
+    private static final Field<LocalDateTime> EXECUTION_START_DATE_FIELD = AbstractJdbcRepository.field("start_date", LocalDateTime.class);
+    private static final Field<LocalDateTime> EXECUTION_END_DATE_FIELD = AbstractJdbcRepository.field("end_date", LocalDateTime.class);
+
+    @Getter
+    private final Table<Record> table;
+
+    private final Configuration configuration;
+
+    // qualified with the table name as an upsert also references the inserted values on Postgres
+    private final Field<Long> qualifiedCount;
+    private final Field<Long> qualifiedDurationSum;
+    private final Field<Long> qualifiedDurationMin;
+    private final Field<Long> qualifiedDurationMax;
+
+    @Inject
+    public ExecutionStatisticsRollup(@Named("executionstatistics") JdbcTableConfig tableConfig, Configuration configuration) {
+        this.table = DSL.table(tableConfig.table());
+        this.configuration = configuration;
+
+        this.qualifiedCount = DSL.field(DSL.quotedName(tableConfig.table(), COUNT_FIELD.getName()), Long.class);
+        this.qualifiedDurationSum = DSL.field(DSL.quotedName(tableConfig.table(), DURATION_SUM_FIELD.getName()), Long.class);
+        this.qualifiedDurationMin = DSL.field(DSL.quotedName(tableConfig.table(), DURATION_MIN_FIELD.getName()), Long.class);
+        this.qualifiedDurationMax = DSL.field(DSL.quotedName(tableConfig.table(), DURATION_MAX_FIELD.getName()), Long.class);
+    }
+
+    public boolean isEnabled() {
+        return configuration.isEnabled();
+    }
+
+    /**
+     * Whether the persisted revision of an execution may be rolled up, meaning it must be looked up before
+     * the execution is updated. An execution that never reached a terminal state cannot be rolled up.
+     */
+    static boolean mayBeRolledUp(Execution execution) {
+        return execution.getState().getHistories()
+            .stream()
+            .anyMatch(history -> history.getState().isTerminated());
+    }
+
+    /**
+     * Moves an execution from the bucket of its previous revision to the bucket of its current one.
+     *
+     * @param previous the persisted revision of the execution, null if it was not persisted.
+     * @param current  the new revision of the execution, null if it's purged.
+     */
+    public void update(DSLContext context, @Nullable Execution previous, @Nullable Execution current) {
+        Optional<Bucket> previousBucket = Bucket.of(previous);
+        Optional<Bucket> currentBucket = Bucket.of(current);
+
+        if (previousBucket.equals(currentBucket)) {
+            return;
+        }
+
+        previousBucket.ifPresent(bucket -> this.decrement(context, bucket));
+        currentBucket.ifPresent(bucket -> this.increment(context, bucket, 1, bucket.duration(), bucket.duration(), bucket.duration()));
+    }
+
+    /**
+     * Removes purged executions from their bucket.
+     * Only the columns a bucket is computed from are read, not the value of the executions.
+     *
+     * @param executions   the executions table.
+     * @param executionIds the identifiers of the executions that are purged in the current transaction.
+     */
+    public void remove(DSLContext context, Table<Record> executions, List<String> executionIds) {
+        if (executionIds.isEmpty()) {
+            return;
+        }
+
+        context
+            .select(
+                AbstractJdbcRepository.TENANT_ID_FIELD,
+                NAMESPACE_FIELD,
+                FLOW_ID_FIELD,
+                EXECUTION_KIND_FIELD,
+                AbstractJdbcRepository.DELETED_FIELD,
+                STATE_CURRENT_FIELD,
+                EXECUTION_START_DATE_FIELD,
+                EXECUTION_END_DATE_FIELD
+            )
+            .from(executions)
+            .where(AbstractJdbcRepository.KEY_FIELD.in(executionIds))
+            .fetch()
+            .forEach(record -> Bucket.of(record).ifPresent(bucket -> this.decrement(context, bucket)));
+    }
+
+    /**
+     * Recomputes the whole rollup from the given executions.
+     * Concurrent updates are not excluded, it must run while no execution is saved.
+     *
+     * @return the number of buckets.
+     */
+    public int rebuild(DSLContext context, Stream<Execution> executions) {
+        Map<String, Aggregate> aggregates = new HashMap<>();
+        executions.forEach(execution -> Bucket.of(execution).ifPresent(bucket -> aggregates
+            .computeIfAbsent(bucket.key(), key -> new Aggregate(bucket))
+            .add(bucket.duration())
+        ));
+
+        context.deleteFrom(table).execute();
+        aggregates.values().forEach(aggregate -> this.increment(context, aggregate.bucket, aggregate.count, aggregate.durationSum, aggregate.durationMin, aggregate.durationMax));
+
+        return aggregates.size();
+    }
+
+    private void decrement(DSLContext context, Bucket bucket) {
+        context.update(table)
+            .set(COUNT_FIELD, COUNT_FIELD.minus(1))
+            .set(DURATION_SUM_FIELD, DURATION_SUM_FIELD.minus(bucket.duration()))
+            .where(AbstractJdbcRepository.KEY_FIELD.eq(bucket.key()))
+            .execute();
+    }
+
+    private void increment(DSLContext context, Bucket bucket, long count, long durationSum, long durationMin, long durationMax) {
+        InsertSetMoreStep<Record> insert = context.insertInto(table)
+            .set(AbstractJdbcRepository.KEY_FIELD, bucket.key())
+            .set(AbstractJdbcRepository.TENANT_ID_FIELD, bucket.tenantId())
+            .set(NAMESPACE_FIELD, bucket.namespace())
+            .set(FLOW_ID_FIELD, bucket.flowId())
+            .set(STATE_CURRENT_FIELD, bucket.state().name())
+            .set(START_HOUR_FIELD, bucket.startHour().atOffset(ZoneOffset.UTC))
+            .set(COUNT_FIELD, count)
+            .set(DURATION_SUM_FIELD, durationSum)
+            .set(DURATION_MIN_FIELD, durationMin)
+            .set(DURATION_MAX_FIELD, durationMax);
+
+        InsertOnDuplicateSetStep<Record> onDuplicate = context.configuration().dialect().supports(SQLDialect.POSTGRES) ?
+            insert.onConflict(AbstractJdbcRepository.KEY_FIELD).doUpdate() :
+            insert.onDuplicateKeyUpdate();
+
+        onDuplicate
+            .set(COUNT_FIELD, qualifiedCount.plus(count))
+            .set(DURATION_SUM_FIELD, qualifiedDurationSum.plus(durationSum))
+            .set(DURATION_MIN_FIELD, DSL.least(qualifiedDurationMin, DSL.val(durationMin)))
+            .set(DURATION_MAX_FIELD, DSL.greatest(qualifiedDurationMax, DSL.val(durationMax)))
+            .execute();
+    }
+
+    private record Bucket(String key, String tenantId, String namespace, String flowId, State.Type state, Instant startHour, long duration) {
+        static Optional<Bucket> of(@Nullable Execution execution) {
+            if (execution == null ||
+                execution.isDeleted() ||
+                (execution.getKind() != null && execution.getKind() != ExecutionKind.NORMAL) ||
+                !execution.getState().isTerminated()
+            ) {
+                return Optional.empty();
+            }
+
+            return Optional.of(of(
+                execution.getTenantId(),
+                execution.getNamespace(),
+                execution.getFlowId(),
+                execution.getState().getCurrent(),
+                execution.getState().getStartDate(),
+                execution.getState().getEndDate().orElseThrow()
+            ));
+        }
+
+        static Optional<Bucket> of(Record execution) {
+            String kind = execution.get(EXECUTION_KIND_FIELD);
+            State.Type state = State.Type.valueOf(execution.get(STATE_CURRENT_FIELD));
+            LocalDateTime endDate = execution.get(EXECUTION_END_DATE_FIELD);
+
+            if (Boolean.TRUE.equals(execution.get(AbstractJdbcRepository.DELETED_FIELD)) ||
+                (kind != null && !kind.equals(ExecutionKind.NORMAL.name())) ||
+                !state.isTerminated() ||
+                endDate == null
+            ) {
+                return Optional.empty();
+            }
+
+            return Optional.of(of(
+                execution.get(AbstractJdbcRepository.TENANT_ID_FIELD),
+                execution.get(NAMESPACE_FIELD),
+                execution.get(FLOW_ID_FIELD),
+                state,
+                execution.get(EXECUTION_START_DATE_FIELD).toInstant(ZoneOffset.UTC),
+                endDate.toInstant(ZoneOffset.UTC)
+            ));
+        }
+
+        private static Bucket of(String tenantId, String namespace, String flowId, State.Type state, Instant startDate, Instant endDate) {
+            Instant startHour = startDate.truncatedTo(ChronoUnit.HOURS);
+
+            return new Bucket(
+                // hashed as the namespace and the flow id alone can be longer than the key
+                IdUtils.from(String.join("|", String.valueOf(tenantId), namespace, flowId, state.name(), startHour.toString())),
+                tenantId,
+                namespace,
+                flowId,
+                state,
+                startHour,
+                // truncated to the milliseconds as the dates of the executions table are not more precise on every database,
+                // so the duration removed from a bucket on purge is the one that was added
+                Duration.between(startDate.truncatedTo(ChronoUnit.MILLIS), endDate.truncatedTo(ChronoUnit.MILLIS)).toMillis()
+            );
+        }
+    }
+
+    private static class Aggregate {
+        private final Bucket bucket;
+        private long count = 0;
+        private long durationSum = 0;
+        private long durationMin = Long.MAX_VALUE;
+        private long durationMax = Long.MIN_VALUE;
+
+        private Aggregate(Bucket bucket) {
+            this.bucket = bucket;
+        }
+
+        private void add(long duration) {
+            count++;
+            durationSum += duration;
+            durationMin = Math.min(durationMin, duration);
+            durationMax = Math.max(durationMax, duration);
+        }
+    }
+
+    @ConfigurationProperties("kestra.jdbc.execution-statistics")
+    @Getter
+    public static class Configuration {
+        boolean enabled = false;
+    }
+}
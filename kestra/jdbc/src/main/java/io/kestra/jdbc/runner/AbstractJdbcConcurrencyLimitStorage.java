@@ -1,5 +1,6 @@
 package io.kestra.jdbc.runner;
 
+import com.google.common.util.concurrent.Striped;
 import io.kestra.core.models.flows.FlowInterface;
 import io.kestra.core.runners.ConcurrencyLimit;
 import io.kestra.core.runners.ExecutionRunning;
@@ -12,14 +13,24 @@ import org.jooq.impl.DSL;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import java.util.concurrent.locks.Lock;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 @Slf4j
 public class AbstractJdbcConcurrencyLimitStorage extends AbstractJdbcRepository {
     protected io.kestra.jdbc.AbstractJdbcRepository<ConcurrencyLimit> jdbcRepository;
 
+    // serialize the executor threads of this node updating the same counter in memory,
+    // so they don't each hold a database connection while waiting for the row lock.
+    // The lock is held for the whole transaction, consumer included, so flows sharing a stripe wait for each other:
+    // stripes are lazily created weak locks so there can be many of them without keeping them all in memory.
+    // The row lock stays the only guarantee across executors.
+    private final Striped<Lock> flowLocks = Striped.lazyWeakLock(1024);
+
     public AbstractJdbcConcurrencyLimitStorage(io.kestra.jdbc.AbstractJdbcRepository<ConcurrencyLimit> jdbcRepository) {
         this.jdbcRepository = jdbcRepository;
     }
@@ -31,7 +42,7 @@ public class AbstractJdbcConcurrencyLimitStorage extends AbstractJdbcRepository
      * Note that to avoid a race when no concurrency limit counter exists, it first always tries to insert a 0 counter.
      */
     public ExecutionRunning countThenProcess(FlowInterface flow, BiFunction<DSLContext, ConcurrencyLimit, Pair<ExecutionRunning, ConcurrencyLimit>> consumer) {
-        return this.jdbcRepository
+        return this.withFlowLock(flow, () -> this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 var dslContext = DSL.using(configuration);
@@ -68,9 +79,11 @@ public class AbstractJdbcConcurrencyLimitStorage extends AbstractJdbcRepository
                 });
 
                 var pair = consumer.apply(dslContext, selected);
-                update(dslContext, pair.getRight());
+                if (!Objects.equals(pair.getRight().getRunning(), selected.getRunning())) {
+                    update(dslContext, pair.getRight());
+                }
                 return pair.getLeft();
-            });
+            }));
     }
 
     /**
@@ -78,7 +91,7 @@ public class AbstractJdbcConcurrencyLimitStorage extends AbstractJdbcRepository
      * Must only be called when a flow having concurrency limit ends.
      */
     public int decrement(FlowInterface flow) {
-        return this.jdbcRepository
+        return this.withFlowLock(flow, () -> this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 var dslContext = DSL.using(configuration);
@@ -90,61 +103,61 @@ public class AbstractJdbcConcurrencyLimitStorage extends AbstractJdbcRepository
                         return newLimit;
                     }
                 ).orElse(0);
-            });
+            }));
     }
 
     /**
-     * Atomically decrement the concurrency limit counter and pop a queued execution if available.
+     * Atomically decrement the concurrency limit counter and pop queued executions for all the free slots.
      * This ensures the decrement, limit check, and pop all happen within the same transaction,
      * preventing race conditions that could leave executions stuck in queue indefinitely.
+     * <p>
+     * As the limit may have been raised since the executions were queued, more than one execution can be popped at once.
      *
      * @param flow the flow to decrement the counter for
      * @param executionQueuedStorage the storage to pop from
-     * @param consumer the consumer to call with the popped execution (only called if pop succeeds and limit allows)
+     * @param consumer the consumer to call with the popped executions (only called if at least one execution has been popped)
      */
     public void decrementAndPop(FlowInterface flow, AbstractJdbcExecutionQueuedStorage executionQueuedStorage,
-                                BiConsumer<DSLContext, io.kestra.core.models.executions.Execution> consumer) {
-        this.jdbcRepository
+                                BiConsumer<DSLContext, List<io.kestra.core.models.executions.Execution>> consumer) {
+        this.withFlowLock(flow, () -> this.jdbcRepository
             .getDslContextWrapper()
-            .transaction(configuration -> {
+            .transactionResult(configuration -> {
                 var dslContext = DSL.using(configuration);
 
-                // Decrement the counter
-                int newLimit = fetchOne(dslContext, flow).map(
-                    concurrencyLimit -> {
-                        int decremented = concurrencyLimit.getRunning() == 0 ? 0 : concurrencyLimit.getRunning() - 1;
-                        update(dslContext, concurrencyLimit.withRunning(decremented));
-                        return decremented;
-                    }
-                ).orElse(0);
+                Optional<ConcurrencyLimit> maybeConcurrencyLimit = fetchOne(dslContext, flow);
+                if (maybeConcurrencyLimit.isEmpty()) {
+                    return null;
+                }
+
+                ConcurrencyLimit concurrencyLimit = maybeConcurrencyLimit.get();
+                int running = concurrencyLimit.getRunning() == 0 ? 0 : concurrencyLimit.getRunning() - 1;
 
                 // Only pop if we're below the limit
-                if (newLimit < flow.getConcurrency().getLimit()) {
-                    executionQueuedStorage.pop(
+                int freeSlots = flow.getConcurrency().getLimit() - running;
+                if (freeSlots > 0) {
+                    List<io.kestra.core.models.executions.Execution> popped = executionQueuedStorage.pop(
                         dslContext,
                         flow.getTenantId(),
                         flow.getNamespace(),
                         flow.getId(),
-                        (ctx, queued) -> {
-                            // Increment the counter for the newly running execution
-                            increment(ctx, flow);
-                            // Call the consumer
-                            consumer.accept(ctx, queued);
-                        }
+                        freeSlots
                     );
+
+                    if (!popped.isEmpty()) {
+                        consumer.accept(dslContext, popped);
+                        running += popped.size();
+                    }
                 } else {
-                    log.error("Concurrency limit reached for flow {}.{} after decrementing the execution running count. No new executions will be dequeued.", flow.getNamespace(), flow.getId());                }
-            });
-    }
+                    log.error("Concurrency limit reached for flow {}.{} after decrementing the execution running count. No new executions will be dequeued.", flow.getNamespace(), flow.getId());
+                }
 
-    /**
-     * Increment the concurrency limit counter.
-     * Must only be called when a queued execution is popped, other use cases must pass thought the standard process of creating an execution.
-     */
-    public void increment(DSLContext dslContext, FlowInterface flow) {
-        fetchOne(dslContext, flow).ifPresent(
-            concurrencyLimit -> update(dslContext, concurrencyLimit.withRunning(concurrencyLimit.getRunning() + 1))
-        );
+                // when the popped executions take the place of the ended one, the counter is left unchanged
+                if (running != concurrencyLimit.getRunning()) {
+                    update(dslContext, concurrencyLimit.withRunning(running));
+                }
+
+                return null;
+            }));
     }
 
     /**
@@ -191,6 +204,16 @@ public class AbstractJdbcConcurrencyLimitStorage extends AbstractJdbcRepository
         this.jdbcRepository.persist(concurrencyLimit, dslContext, fields);
     }
 
+    private <T> T withFlowLock(FlowInterface flow, Supplier<T> supplier) {
+        Lock lock = flowLocks.get(flow.getTenantId() + "|" + flow.getNamespace() + "|" + flow.getId());
+        lock.lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public Optional<ConcurrencyLimit> findById(String tenantId, String namespace, String flowId) {
         return jdbcRepository
             .getDslContextWrapper()
@@ -11,7 +11,6 @@ import org.jooq.impl.DSL;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.BiConsumer;
 
 public abstract class AbstractJdbcExecutionQueuedStorage extends AbstractJdbcRepository {
@@ -27,27 +26,35 @@ public abstract class AbstractJdbcExecutionQueuedStorage extends AbstractJdbcRep
     }
 
     /**
-     * Pop the next queued execution.
+     * Pop the next queued executions, up to the given maximum, in the order they were queued.
      * This method is intended to be part of a larger transaction,
      * see {@link AbstractJdbcConcurrencyLimitStorage#decrementAndPop(FlowInterface, AbstractJdbcExecutionQueuedStorage, BiConsumer)}
+     *
+     * @return the popped executions.
      */
-    public void pop(DSLContext dslContext, String tenantId, String namespace, String flowId, BiConsumer<DSLContext, Execution> consumer) {
+    public List<Execution> pop(DSLContext dslContext, String tenantId, String namespace, String flowId, int max) {
         var select = dslContext
-            .select(VALUE_FIELD)
+            .select(KEY_FIELD, VALUE_FIELD)
             .from(this.jdbcRepository.getTable())
             .where(buildTenantCondition(tenantId))
             .and(field("namespace").eq(namespace))
             .and(field("flow_id").eq(flowId))
             .orderBy(field("date").asc())
-            .limit(1)
+            .limit(max)
             .forUpdate()
             .skipLocked();
 
-        Optional<ExecutionQueued> maybeExecution = this.jdbcRepository.fetchOne(select);
-        if (maybeExecution.isPresent()) {
-            consumer.accept(dslContext, maybeExecution.get().getExecution());
-            this.jdbcRepository.delete(maybeExecution.get());
+        List<ExecutionQueued> popped = this.jdbcRepository.fetch(select);
+        if (popped.isEmpty()) {
+            return List.of();
         }
+
+        dslContext
+            .deleteFrom(this.jdbcRepository.getTable())
+            .where(KEY_FIELD.in(popped.stream().map(this.jdbcRepository::key).toList()))
+            .execute();
+
+        return popped.stream().map(ExecutionQueued::getExecution).toList();
     }
 
     /**
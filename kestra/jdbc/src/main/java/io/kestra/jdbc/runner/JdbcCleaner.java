@@ -17,6 +17,7 @@ import org.jooq.*;
 import org.jooq.Record;
 import org.jooq.impl.DSL;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.Temporal;
@@ -34,17 +35,20 @@ public class JdbcCleaner {
     private final JooqDSLContextWrapper dslContextWrapper;
     private final Configuration configuration;
     private final JdbcCleanerService jdbcCleanerService;
+    private final JdbcQueueClaimCheck claimCheck;
     private final Table<Record> queueTable;
 
     @Inject
     public JdbcCleaner(@Named("queues") JdbcTableConfig jdbcTableConfig,
                        JooqDSLContextWrapper dslContextWrapper,
                        Configuration configuration,
-                       JdbcCleanerService jdbcCleanerService
+                       JdbcCleanerService jdbcCleanerService,
+                       JdbcQueueClaimCheck claimCheck
     ) {
         this.dslContextWrapper = dslContextWrapper;
         this.configuration = configuration;
         this.jdbcCleanerService = jdbcCleanerService;
+        this.claimCheck = claimCheck;
 
         this.queueTable = DSL.table(jdbcTableConfig.table());
     }
@@ -71,6 +75,19 @@ public class JdbcCleaner {
             totalDeleted.add(deleted);
         });
 
+        // offloaded messages can only be deleted once no queue row of any type can reference them anymore
+        Duration maxRetention = ListUtils.emptyOnNull(configuration.getTypes()).stream()
+            .map(Configuration.TypeConfiguration::getRetention)
+            .reduce(this.configuration.getRetention(), (first, second) -> first.compareTo(second) >= 0 ? first : second);
+        try {
+            int deletedBuckets = claimCheck.purge(maxRetention);
+            if (deletedBuckets > 0) {
+                log.info("Cleaned {} buckets of offloaded messages", deletedBuckets);
+            }
+        } catch (IOException e) {
+            log.warn("Unable to clean offloaded messages", e);
+        }
+
         return totalDeleted.longValue();
     }
 
@@ -31,6 +31,7 @@ import io.kestra.core.server.ServiceStateChangeEvent;
 import io.kestra.core.server.ServiceType;
 import io.kestra.core.services.*;
 import io.kestra.core.storages.StorageContext;
+import io.kestra.core.topologies.FlowTopologyIndex;
 import io.kestra.core.topologies.FlowTopologyService;
 import io.kestra.core.trace.Tracer;
 import io.kestra.core.trace.TracerFactory;
@@ -171,6 +172,8 @@ public class JdbcExecutor implements ExecutorInterface {
 
     protected List<FlowWithSource> allFlows;
 
+    private final FlowTopologyIndex flowTopologyIndex = new FlowTopologyIndex();
+
     @Inject
     private WorkerGroupService workerGroupService;
 
@@ -195,6 +198,9 @@ public class JdbcExecutor implements ExecutorInterface {
     @Inject
     private VariablesService variablesService;
 
+    @Inject
+    private WorkerTaskVariablesStore workerTaskVariablesStore;
+
     @Value("${kestra.jdbc.executor.clean.execution-queue:true}")
     private boolean cleanExecutionQueue;
 
@@ -293,8 +299,10 @@ public class JdbcExecutor implements ExecutorInterface {
         }
         flowListeners.run();
         flowListeners.listen(flows -> this.allFlows = flows);
+        flowListeners.listen((flow, previous) -> flowTopologyIndex.update(flow));
 
         Await.until(() -> this.allFlows != null, Duration.ofMillis(100), Duration.ofMinutes(5));
+        flowTopologyIndex.initialize(this.allFlows);
 
         this.receiveCancellations.addFirst(((JdbcQueue<Execution>) this.executionQueue).receiveBatch(
             Executor.class,
@@ -321,15 +329,67 @@ public class JdbcExecutor implements ExecutorInterface {
         this.receiveCancellations.addFirst(((JdbcQueue<WorkerTaskResult>) this.workerTaskResultQueue).receiveBatch(
             Executor.class,
             workerTaskResults -> {
-                List<CompletableFuture<Void>> futures = workerTaskResults.stream()
-                    .map(workerTaskResult -> CompletableFuture.runAsync(() -> workerTaskResultQueue(workerTaskResult), workerTaskResultExecutorService))
+                // coalesce worker task results by executionId so each execution is locked and persisted only once per poll
+                List<CompletableFuture<Void>> perExecutionFutures = workerTaskResults.stream()
+                    .filter(Either::isLeft)
+                    .map(Either::getLeft)
+                    .filter(this::isWorkerTaskResultAllowed)
+                    .collect(Collectors.groupingBy(workerTaskResult -> workerTaskResult.getTaskRun().getExecutionId(), LinkedHashMap::new, Collectors.toList()))
+                    .entrySet()
+                    .stream()
+                    .map(entry -> CompletableFuture.runAsync(() -> workerTaskResultQueue(entry.getKey(), entry.getValue()), workerTaskResultExecutorService))
                     .toList();
-                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+                // directly process deserialization issues as most of the time there will be none
+                workerTaskResults.stream()
+                    .filter(Either::isRight)
+                    .forEach(either -> log.error("Unable to deserialize a worker task result: {}", either.getRight().getMessage(), either.getRight()));
+
+                CompletableFuture.allOf(perExecutionFutures.toArray(CompletableFuture[]::new)).join();
+            }
+        ));
+        this.receiveCancellations.addFirst(((JdbcQueue<ExecutionKilled>) this.killQueue).receiveBatch(
+            Executor.class,
+            killeds -> killeds.forEach(this::killQueue)
+        ));
+        this.receiveCancellations.addFirst(((JdbcQueue<SubflowExecutionResult>) this.subflowExecutionResultQueue).receiveBatch(
+            Executor.class,
+            subflowExecutionResults -> {
+                // coalesce subflow execution results by parent execution so each parent is locked and persisted only once per poll
+                List<CompletableFuture<Void>> perExecutionFutures = subflowExecutionResults.stream()
+                    .filter(Either::isLeft)
+                    .map(Either::getLeft)
+                    .filter(this::isSubflowExecutionResultAllowed)
+                    .collect(Collectors.groupingBy(message -> message.getParentTaskRun().getExecutionId(), LinkedHashMap::new, Collectors.toList()))
+                    .entrySet()
+                    .stream()
+                    .map(entry -> CompletableFuture.runAsync(() -> subflowExecutionResultQueue(entry.getKey(), entry.getValue()), workerTaskResultExecutorService))
+                    .toList();
+
+                // directly process deserialization issues as most of the time there will be none
+                subflowExecutionResults.stream()
+                    .filter(Either::isRight)
+                    .forEach(either -> log.error("Unable to deserialize a subflow execution result: {}", either.getRight().getMessage()));
+
+                CompletableFuture.allOf(perExecutionFutures.toArray(CompletableFuture[]::new)).join();
+            }
+        ));
+        this.receiveCancellations.addFirst(((JdbcQueue<SubflowExecutionEnd>) this.subflowExecutionEndQueue).receiveBatch(
+            Executor.class,
+            subflowExecutionEnds -> {
+                // group subflow execution ends by parent execution so each parent is locked only once per poll
+                subflowExecutionEnds.stream()
+                    .filter(Either::isLeft)
+                    .map(Either::getLeft)
+                    .filter(this::isSubflowExecutionEndAllowed)
+                    .collect(Collectors.groupingBy(SubflowExecutionEnd::getParentExecutionId, LinkedHashMap::new, Collectors.toList()))
+                    .forEach(this::subflowExecutionEndQueue);
+
+                subflowExecutionEnds.stream()
+                    .filter(Either::isRight)
+                    .forEach(either -> log.error("Unable to deserialize a subflow execution end: {}", either.getRight().getMessage()));
             }
         ));
-        this.receiveCancellations.addFirst(this.killQueue.receive(Executor.class, this::killQueue));
-        this.receiveCancellations.addFirst(this.subflowExecutionResultQueue.receive(Executor.class, this::subflowExecutionResultQueue));
-        this.receiveCancellations.addFirst(this.subflowExecutionEndQueue.receive(Executor.class, this::subflowExecutionEndQueue));
         this.receiveCancellations.addFirst(this.multipleConditionEventQueue.receive(Executor.class, this::multipleConditionEventQueue));
         this.receiveCancellations.addFirst(maintenanceService.listen(new MaintenanceService.MaintenanceListener() {
             @Override
@@ -414,14 +474,16 @@ public class JdbcExecutor implements ExecutorInterface {
                 }
 
                 try {
+                    FlowWithSource flowWithDefaults = flow.isDeleted() ? null : pluginDefaultService.injectVersionDefaults(flow, true);
                     flowTopologyRepository.save(
                         flow,
                         (flow.isDeleted() ?
                             Stream.<FlowTopology>empty() :
                             flowTopologyService
                                 .topology(
-                                    pluginDefaultService.injectVersionDefaults(flow, true),
-                                    this.allFlows.stream().filter(f -> Objects.equals(f.getTenantId(), flow.getTenantId())).toList()
+                                    flowWithDefaults,
+                                    // only its direct neighbors can be related to it
+                                    flowTopologyIndex.candidates(flowWithDefaults)
                                 )
                         )
                             .distinct()
@@ -665,10 +727,10 @@ public class JdbcExecutor implements ExecutorInterface {
                                                     .orElse(null);
                                                 if (workerTask.getTask() instanceof WorkingDirectory) {
                                                     // WorkingDirectory is a flowable so it will be moved to RUNNING a few lines under
-                                                    workerJobQueue.emit(workerGroupKey, workerTask);
+                                                    workerJobQueue.emit(workerGroupKey, workerTaskVariablesStore.offload(workerTask));
                                                 } else {
                                                     TaskRun taskRun = workerTask.getTaskRun().withState(State.Type.SUBMITTED);
-                                                    workerJobQueue.emit(workerGroupKey, workerTask.withTaskRun(taskRun));
+                                                    workerJobQueue.emit(workerGroupKey, workerTaskVariablesStore.offload(workerTask.withTaskRun(taskRun)));
                                                     workerTaskResults.add(new WorkerTaskResult(taskRun));
                                                 }
                                             }
@@ -786,62 +848,70 @@ public class JdbcExecutor implements ExecutorInterface {
         return failedExecution.execution().getState().isFailed() ? failedExecution.execution() : failedExecution.execution().withState(State.Type.FAILED);
     }
 
-    private void workerTaskResultQueue(Either<WorkerTaskResult, DeserializationException> either) {
-        if (either.isRight()) {
-            log.error("Unable to deserialize a worker task result: {}", either.getRight().getMessage(), either.getRight());
-            return;
-        }
-
-        WorkerTaskResult message = either.getLeft();
+    private boolean isWorkerTaskResultAllowed(WorkerTaskResult message) {
         EvaluationType evaluationType = killSwitchService.evaluate(message.getTaskRun());
         if (evaluationType != EvaluationType.PASS) {
             handleKillSwitchedWorkerTaskResult(evaluationType, message);
-            return;
+            return false;
         }
 
+        return true;
+    }
+
+    /**
+     * Apply all the worker task results of a single execution, in order, under one execution lock,
+     * so the execution is persisted and processed once whatever the number of results.
+     */
+    private void workerTaskResultQueue(String executionId, List<WorkerTaskResult> messages) {
         if (log.isDebugEnabled()) {
-            executorService.log(log, true, message);
+            messages.forEach(message -> executorService.log(log, true, message));
         }
 
-        Executor executor = executionRepository.lock(message.getTaskRun().getExecutionId(), pair -> {
+        Executor executor = executionRepository.lock(executionId, pair -> {
             Execution execution = pair.getLeft();
-            Executor current = new Executor(execution, null);
 
             if (execution == null) {
-                throw new IllegalStateException("Execution state don't exist for " + message.getTaskRun().getExecutionId() + ", receive " + message);
+                throw new IllegalStateException("Execution state don't exist for " + executionId + ", receive " + messages);
             }
 
-            if (execution.hasTaskRunJoinable(message.getTaskRun())) {
+            Executor current = new Executor(execution, null);
+            // the flow is only resolved once for all the results of the execution
+            AtomicReference<FlowWithSource> flow = new AtomicReference<>();
+            boolean joined = false;
+
+            for (WorkerTaskResult message : messages) {
+                if (!current.getExecution().hasTaskRunJoinable(message.getTaskRun())) {
+                    continue;
+                }
+
+                joined = true;
                 try {
                     // process worker task result
-                    executorService.addWorkerTaskResult(current, throwSupplier(() -> findFlowOrThrow(execution)), message);
-                    // join worker result
-                    return Pair.of(
-                        current,
-                        pair.getRight()
-                    );
+                    executorService.addWorkerTaskResult(current, throwSupplier(() -> {
+                        if (flow.get() == null) {
+                            flow.set(findFlowOrThrow(execution));
+                        }
+                        return flow.get();
+                    }), message);
                 } catch (InternalException e) {
-                    return Pair.of(
-                        handleFailedExecutionFromExecutor(current, e),
-                        pair.getRight()
-                    );
+                    current = handleFailedExecutionFromExecutor(current, e);
                 } catch (FlowNotFoundException e) {
                     // avoid infinite loop
                     if (!current.getExecution().getState().getCurrent().isFailed()) {
-                        return Pair.of(
-                            handleFailedExecutionFromExecutor(current, e),
-                            pair.getRight()
-                        );
+                        current = handleFailedExecutionFromExecutor(current, e);
                     }
                 }
+            }
 
-                return Pair.of(
-                    current,
-                    pair.getRight()
-                );
+            if (!joined) {
+                return null;
             }
 
-            return null;
+            // join worker results
+            return Pair.of(
+                current,
+                pair.getRight()
+            );
         });
 
         if (executor != null) {
@@ -849,184 +919,204 @@ public class JdbcExecutor implements ExecutorInterface {
         }
     }
 
-    private void subflowExecutionResultQueue(Either<SubflowExecutionResult, DeserializationException> either) {
-        if (either.isRight()) {
-            log.error("Unable to deserialize a subflow execution result: {}", either.getRight().getMessage());
-            return;
-        }
-
-        SubflowExecutionResult message = either.getLeft();
-
+    private boolean isSubflowExecutionResultAllowed(SubflowExecutionResult message) {
         // we filter all messages for which there is a kill switch as the kill switch will apply to the child execution anyway
         if (killSwitchService.evaluate(message.getExecutionId()) != EvaluationType.PASS) {
             log.warn("Ignoring subflow execution result for child execution {} as there is a kill switch in it", message.getExecutionId());
-            return;
+            return false;
         }
         // we filter all messages for which there is a kill switch as the kill switch will apply to the parent execution anyway
         if (killSwitchService.evaluate(message.getParentTaskRun()) != EvaluationType.PASS) {
             log.warn("Ignoring subflow execution result for parent execution {} as there is a kill switch in it", message.getParentTaskRun().getExecutionId());
-            return;
+            return false;
         }
 
+        return true;
+    }
+
+    /**
+     * Join all the subflow execution results of a single parent execution, in order, under one execution lock.
+     * Iterations of iterative tasks like ForEachItem are then folded in memory and the parent execution is persisted once.
+     */
+    private void subflowExecutionResultQueue(String parentExecutionId, List<SubflowExecutionResult> messages) {
         if (log.isDebugEnabled()) {
-            executorService.log(log, true, message);
+            messages.forEach(message -> executorService.log(log, true, message));
         }
 
-        Executor executor = executionRepository.lock(message.getParentTaskRun().getExecutionId(), pair -> {
+        Executor executor = executionRepository.lock(parentExecutionId, pair -> {
             Execution execution = pair.getLeft();
-            Executor current = new Executor(execution, null);
 
             if (execution == null) {
-                throw new IllegalStateException("Execution state don't exist for " + message.getParentTaskRun().getExecutionId() + ", receive " + message);
+                throw new IllegalStateException("Execution state don't exist for " + parentExecutionId + ", receive " + messages);
             }
 
-            if (execution.hasTaskRunJoinable(message.getParentTaskRun())) { // TODO if we remove this check, we can avoid adding 'iteration' on the 'isSame()' method
-                try {
-                    FlowWithSource flow = findFlowOrThrow(execution);
-                    Task task = flow.findTaskByTaskId(message.getParentTaskRun().getTaskId());
-                    TaskRun taskRun;
-
-                    // iterative tasks
-                    if (task instanceof ForEachItem.ForEachItemExecutable forEachItem) {
-                        // For iterative tasks, we need to get the taskRun from the execution,
-                        // move it to the state of the child flow, and merge the outputs.
-                        // This is important to avoid races such as RUNNING that arrives after the first SUCCESS/FAILED.
-                        RunContext runContext = runContextFactory.of(flow, task, current.getExecution(), message.getParentTaskRun());
-                        taskRun = execution.findTaskRunByTaskRunId(message.getParentTaskRun().getId());
-                        if (taskRun.getState().getCurrent() != message.getState()) {
-                            taskRun = taskRun.withState(message.getState());
-                        }
-                        Map<String, Object> outputs = MapUtils.deepMerge(taskRun.getOutputs(), message.getParentTaskRun().getOutputs());
-                        Variables variables = variablesService.of(StorageContext.forTask(taskRun), outputs);
-                        taskRun = taskRun.withOutputs(variables);
-                        taskRun = ExecutableUtils.manageIterations(
-                            runContext.storage(),
-                            taskRun,
-                            current.getExecution(),
-                            forEachItem.getTransmitFailed(),
-                            forEachItem.isAllowFailure(),
-                            forEachItem.isAllowWarning()
-                        );
-                    } else {
-                        taskRun = message.getParentTaskRun();
+            Executor current = new Executor(execution, null);
+            // the flow is only resolved once for all the results of the parent execution
+            AtomicReference<FlowWithSource> flow = new AtomicReference<>();
+            boolean joined = false;
+            for (SubflowExecutionResult message : messages) {
+                Executor joinedExecutor = this.joinSubflowExecutionResult(current, () -> {
+                    if (flow.get() == null) {
+                        flow.set(findFlowOrThrow(execution));
                     }
+                    return flow.get();
+                }, message);
+                if (joinedExecutor != null) {
+                    current = joinedExecutor;
+                    joined = true;
+                }
+            }
 
-                    Execution newExecution = current.getExecution().withTaskRun(taskRun);
-
-                    // If the worker task result is killed, we must check if it has a parents to also kill them if not already done.
-                    // Running flowable tasks that have child tasks running in the worker will be killed thanks to that.
-                    if (taskRun.getState().getCurrent() == State.Type.KILLED && taskRun.getParentTaskRunId() != null) {
-                        newExecution = executionService.killParentTaskruns(taskRun, newExecution);
-                    }
+            if (!joined) {
+                return null;
+            }
 
-                    current = current.withExecution(newExecution, "joinSubflowExecutionResult");
+            return Pair.of(
+                current,
+                pair.getRight()
+            );
+        });
 
-                    // send metrics on parent taskRun terminated
-                    if (taskRun.getState().isTerminated()) {
-                        metricRegistry
-                            .counter(MetricRegistry.METRIC_EXECUTOR_TASKRUN_ENDED_COUNT, MetricRegistry.METRIC_EXECUTOR_TASKRUN_ENDED_COUNT_DESCRIPTION, metricRegistry.tags(message))
-                            .increment();
+        if (executor != null) {
+            this.toExecution(executor);
+        }
+    }
 
-                        metricRegistry
-                            .timer(MetricRegistry.METRIC_EXECUTOR_TASKRUN_ENDED_DURATION, MetricRegistry.METRIC_EXECUTOR_TASKRUN_ENDED_DURATION_DESCRIPTION, metricRegistry.tags(message))
-                            .record(taskRun.getState().getDurationOrComputeIt());
+    private Executor joinSubflowExecutionResult(Executor current, SupplierChecked<FlowWithSource, FlowNotFoundException> flowSupplier, SubflowExecutionResult message) {
+        Execution execution = current.getExecution();
 
-                        log.trace("TaskRun terminated: {}", taskRun);
+        if (execution.hasTaskRunJoinable(message.getParentTaskRun())) { // TODO if we remove this check, we can avoid adding 'iteration' on the 'isSame()' method
+            try {
+                FlowWithSource flow = flowSupplier.get();
+                Task task = flow.findTaskByTaskId(message.getParentTaskRun().getTaskId());
+                TaskRun taskRun;
+
+                // iterative tasks
+                if (task instanceof ForEachItem.ForEachItemExecutable forEachItem) {
+                    // For iterative tasks, we need to get the taskRun from the execution,
+                    // move it to the state of the child flow, and merge the outputs.
+                    // This is important to avoid races such as RUNNING that arrives after the first SUCCESS/FAILED.
+                    RunContext runContext = runContextFactory.of(flow, task, current.getExecution(), message.getParentTaskRun());
+                    taskRun = execution.findTaskRunByTaskRunId(message.getParentTaskRun().getId());
+                    if (taskRun.getState().getCurrent() != message.getState()) {
+                        taskRun = taskRun.withState(message.getState());
                     }
-
-                    // join worker result
-                    return Pair.of(
-                        current,
-                        pair.getRight()
+                    Map<String, Object> outputs = MapUtils.deepMerge(taskRun.getOutputs(), message.getParentTaskRun().getOutputs());
+                    Variables variables = variablesService.of(StorageContext.forTask(taskRun), outputs);
+                    taskRun = taskRun.withOutputs(variables);
+                    taskRun = ExecutableUtils.manageIterations(
+                        runContext.storage(),
+                        taskRun,
+                        current.getExecution(),
+                        forEachItem.getTransmitFailed(),
+                        forEachItem.isAllowFailure(),
+                        forEachItem.isAllowWarning()
                     );
-                } catch (InternalException e) {
-                    return Pair.of(
-                        handleFailedExecutionFromExecutor(current, e),
-                        pair.getRight()
-                    );
-                } catch (FlowNotFoundException e) {
-                    // avoid infinite loop
-                    if (!current.getExecution().getState().getCurrent().isFailed()) {
-                        return Pair.of(
-                            handleFailedExecutionFromExecutor(current, e),
-                            pair.getRight()
-                        );
-                    }
+                } else {
+                    taskRun = message.getParentTaskRun();
                 }
 
-                return Pair.of(
-                    current,
-                    pair.getRight()
-                );
-            }
+                Execution newExecution = current.getExecution().withTaskRun(taskRun);
 
-            return null;
-        });
+                // If the worker task result is killed, we must check if it has a parents to also kill them if not already done.
+                // Running flowable tasks that have child tasks running in the worker will be killed thanks to that.
+                if (taskRun.getState().getCurrent() == State.Type.KILLED && taskRun.getParentTaskRunId() != null) {
+                    newExecution = executionService.killParentTaskruns(taskRun, newExecution);
+                }
 
-        if (executor != null) {
-            this.toExecution(executor);
-        }
-    }
+                current = current.withExecution(newExecution, "joinSubflowExecutionResult");
 
-    private void subflowExecutionEndQueue(Either<SubflowExecutionEnd, DeserializationException> either) {
-        if (either.isRight()) {
-            log.error("Unable to deserialize a subflow execution end: {}", either.getRight().getMessage());
-            return;
+                // send metrics on parent taskRun terminated
+                if (taskRun.getState().isTerminated()) {
+                    metricRegistry
+                        .counter(MetricRegistry.METRIC_EXECUTOR_TASKRUN_ENDED_COUNT, MetricRegistry.METRIC_EXECUTOR_TASKRUN_ENDED_COUNT_DESCRIPTION, metricRegistry.tags(message))
+                        .increment();
+
+                    metricRegistry
+                        .timer(MetricRegistry.METRIC_EXECUTOR_TASKRUN_ENDED_DURATION, MetricRegistry.METRIC_EXECUTOR_TASKRUN_ENDED_DURATION_DESCRIPTION, metricRegistry.tags(message))
+                        .record(taskRun.getState().getDurationOrComputeIt());
+
+                    log.trace("TaskRun terminated: {}", taskRun);
+                }
+
+                // join worker result
+                return current;
+            } catch (InternalException e) {
+                return handleFailedExecutionFromExecutor(current, e);
+            } catch (FlowNotFoundException e) {
+                // avoid infinite loop
+                if (!current.getExecution().getState().getCurrent().isFailed()) {
+                    return handleFailedExecutionFromExecutor(current, e);
+                }
+            }
+
+            return current;
         }
 
-        SubflowExecutionEnd message = either.getLeft();
+        return null;
+    }
 
+    private boolean isSubflowExecutionEndAllowed(SubflowExecutionEnd message) {
         // we filter all messages for which there is a kill switch as the kill switch will apply to the child execution anyway
         if (killSwitchService.evaluate(message.getChildExecution()) != EvaluationType.PASS) {
             log.warn("Ignoring subflow execution end for child execution {} as there is a kill switch in it", message.getChildExecution().getId());
-            return;
+            return false;
         }
         // we filter all messages for which there is a kill switch as the kill switch will apply to the parent execution anyway
         if (killSwitchService.evaluate(message.getParentExecutionId()) != EvaluationType.PASS) {
             log.warn("Ignoring subflow execution end for parent execution {} as there is a kill switch in it", message.getParentExecutionId());
-            return;
+            return false;
         }
 
+        return true;
+    }
+
+    private void subflowExecutionEndQueue(String parentExecutionId, List<SubflowExecutionEnd> messages) {
         if (log.isDebugEnabled()) {
-            executorService.log(log, true, message);
+            messages.forEach(message -> executorService.log(log, true, message));
         }
 
-        executionRepository.lock(message.getParentExecutionId(), pair -> {
+        executionRepository.lock(parentExecutionId, pair -> {
             Execution execution = pair.getLeft();
 
             if (execution == null) {
-                throw new IllegalStateException("Execution state don't exist for " + message.getParentExecutionId() + ", receive " + message);
+                throw new IllegalStateException("Execution state don't exist for " + parentExecutionId + ", receive " + messages);
             }
 
-            try {
-                FlowWithSource flow = findFlowOrThrow(execution);
-                ExecutableTask<?> executableTask = (ExecutableTask<?>) flow.findTaskByTaskId(message.getTaskId());
-                if (!executableTask.waitForExecution()) {
-                    return null;
-                }
+            messages.forEach(message -> this.subflowExecutionEnd(execution, message));
 
-                TaskRun taskRun = execution.findTaskRunByTaskRunId(message.getTaskRunId()).withState(message.getState()).withOutputs(message.getOutputs());
-                FlowInterface childFlow = flowMetaStore.findByExecution(message.getChildExecution()).orElseThrow();
-                RunContext runContext = runContextFactory.of(
-                    childFlow,
-                    (Task) executableTask,
-                    message.getChildExecution(),
-                    taskRun
-                );
+            return null;
+        });
+    }
 
-                SubflowExecutionResult subflowExecutionResult = ExecutableUtils.subflowExecutionResultFromChildExecution(runContext, childFlow, message.getChildExecution(), executableTask, taskRun);
-                if (subflowExecutionResult != null) {
-                    try {
-                        this.subflowExecutionResultQueue.emit(subflowExecutionResult);
-                    } catch (QueueException ex) {
-                        log.error("Unable to emit the subflow execution result", ex);
-                    }
+    private void subflowExecutionEnd(Execution execution, SubflowExecutionEnd message) {
+        try {
+            FlowWithSource flow = findFlowOrThrow(execution);
+            ExecutableTask<?> executableTask = (ExecutableTask<?>) flow.findTaskByTaskId(message.getTaskId());
+            if (!executableTask.waitForExecution()) {
+                return;
+            }
+
+            TaskRun taskRun = execution.findTaskRunByTaskRunId(message.getTaskRunId()).withState(message.getState()).withOutputs(message.getOutputs());
+            FlowInterface childFlow = flowMetaStore.findByExecution(message.getChildExecution()).orElseThrow();
+            RunContext runContext = runContextFactory.of(
+                childFlow,
+                (Task) executableTask,
+                message.getChildExecution(),
+                taskRun
+            );
+
+            SubflowExecutionResult subflowExecutionResult = ExecutableUtils.subflowExecutionResultFromChildExecution(runContext, childFlow, message.getChildExecution(), executableTask, taskRun);
+            if (subflowExecutionResult != null) {
+                try {
+                    this.subflowExecutionResultQueue.emit(subflowExecutionResult);
+                } catch (QueueException ex) {
+                    log.error("Unable to emit the subflow execution result", ex);
                 }
-            } catch (InternalException | FlowNotFoundException e) {
-                log.error("Unable to process the subflow execution end", e);
             }
-            return null;
-        });
+        } catch (InternalException | FlowNotFoundException e) {
+            log.error("Unable to process the subflow execution end", e);
+        }
     }
 
     private void killQueue(Either<ExecutionKilled, DeserializationException> either) {
@@ -1232,18 +1322,23 @@ public class JdbcExecutor implements ExecutorInterface {
                         if (executor.getFlow().getConcurrency().getBehavior() == Concurrency.Behavior.QUEUE) {
                             var finalFlow = executor.getFlow();
 
-                            // Pop the next queued execution atomically with decrement/increment to avoid race conditions
+                            // Pop the next queued executions atomically with decrement/increment to avoid race conditions
                             // that could leave executions stuck in the queue indefinitely (see issue #13785)
                             concurrencyLimitStorage.decrementAndPop(
                                 finalFlow,
                                 executionQueuedStorage,
                                 throwBiConsumer((dslContext, queued) -> {
-                                    var newExecution = queued.withState(State.Type.RUNNING);
-                                    executionQueue.emit(newExecution);
-                                    metricRegistry.counter(MetricRegistry.METRIC_EXECUTOR_EXECUTION_POPPED_COUNT, MetricRegistry.METRIC_EXECUTOR_EXECUTION_POPPED_COUNT_DESCRIPTION, metricRegistry.tags(newExecution)).increment();
+                                    List<Execution> newExecutions = queued.stream()
+                                        .map(queuedExecution -> queuedExecution.withState(State.Type.RUNNING))
+                                        .toList();
+                                    executionQueue.emit(newExecutions);
 
-                                    // process flow triggers to allow listening on RUNNING state after a QUEUED state
-                                    processFlowTriggers(newExecution);
+                                    for (Execution newExecution : newExecutions) {
+                                        metricRegistry.counter(MetricRegistry.METRIC_EXECUTOR_EXECUTION_POPPED_COUNT, MetricRegistry.METRIC_EXECUTOR_EXECUTION_POPPED_COUNT_DESCRIPTION, metricRegistry.tags(newExecution)).increment();
+
+                                        // process flow triggers to allow listening on RUNNING state after a QUEUED state
+                                        processFlowTriggers(newExecution);
+                                    }
                                 })
                             );
                         } else {
@@ -32,9 +32,13 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -66,6 +70,10 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
     protected final MessageProtectionConfiguration messageProtectionConfiguration;
 
+    protected final JdbcQueueClaimCheck claimCheck;
+
+    protected final JdbcQueueCompression compression;
+
     private final MetricRegistry metricRegistry;
 
     protected final Table<Record> table;
@@ -77,7 +85,12 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
     private final AtomicBoolean isClosed = new AtomicBoolean(false);
     private final AtomicBoolean isPaused = new AtomicBoolean(false);
 
+    // poll size gauge holders by tags, a gauge can only be registered once so consumers started later reuse them
+    private final Map<List<String>, AtomicInteger> pollSizes = new ConcurrentHashMap<>();
+
     private final Counter bigMessageCounter;
+    private final Counter claimCheckCounter;
+    private final Counter produceCounter;
 
     public JdbcQueue(Class<T> cls, ApplicationContext applicationContext) {
         ExecutorsUtils executorsUtils = applicationContext.getBean(ExecutorsUtils.class);
@@ -89,6 +102,8 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         this.dslContextWrapper = applicationContext.getBean(JooqDSLContextWrapper.class);
         this.configuration = applicationContext.getBean(Configuration.class);
         this.messageProtectionConfiguration = applicationContext.getBean(MessageProtectionConfiguration.class);
+        this.claimCheck = applicationContext.getBean(JdbcQueueClaimCheck.class);
+        this.compression = applicationContext.getBean(JdbcQueueCompression.class);
         this.metricRegistry = applicationContext.getBean(MetricRegistry.class);
 
         JdbcTableConfigs jdbcTableConfigs = applicationContext.getBean(JdbcTableConfigs.class);
@@ -102,6 +117,10 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         // init metrics we can at post construct to avoid costly Metric.Id computation
         this.bigMessageCounter = metricRegistry
             .counter(MetricRegistry.METRIC_QUEUE_BIG_MESSAGE_COUNT, MetricRegistry.METRIC_QUEUE_BIG_MESSAGE_COUNT_DESCRIPTION, MetricRegistry.TAG_CLASS_NAME, queueType());
+        this.claimCheckCounter = metricRegistry
+            .counter(MetricRegistry.METRIC_QUEUE_CLAIM_CHECK_COUNT, MetricRegistry.METRIC_QUEUE_CLAIM_CHECK_COUNT_DESCRIPTION, MetricRegistry.TAG_QUEUE_TYPE, queueType());
+        this.produceCounter = metricRegistry
+            .counter(MetricRegistry.METRIC_QUEUE_PRODUCE_COUNT, MetricRegistry.METRIC_QUEUE_PRODUCE_COUNT_DESCRIPTION, MetricRegistry.TAG_QUEUE_TYPE, queueType());
     }
 
     protected Map<Field<Object>, Object> produceFields(String consumerGroup, String key, T message) throws QueueException {
@@ -112,6 +131,22 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
             throw new QueueException("Unable to serialize the message", e);
         }
 
+        // large messages are stored in the internal storage and only a reference goes through the queue
+        if (claimCheck.shouldOffload(bytes)) {
+            try {
+                bytes = claimCheck.offload(queueType(), bytes);
+            } catch (IOException e) {
+                throw new QueueException("Unable to offload the message to the internal storage", e);
+            }
+            this.claimCheckCounter.increment();
+        } else {
+            try {
+                bytes = compression.compress(bytes);
+            } catch (IOException e) {
+                throw new QueueException("Unable to compress the message", e);
+            }
+        }
+
         if (messageProtectionConfiguration.enabled && bytes.length >= messageProtectionConfiguration.limit) {
             this.bigMessageCounter.increment();
 
@@ -141,18 +176,25 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
         Map<Field<Object>, Object> fields = this.produceFields(consumerGroup, key, message);
 
+        this.insert(consumerGroup, List.of(message), List.of(fields), skipIndexer);
+    }
+
+    private void insert(String consumerGroup, List<T> messages, List<Map<Field<Object>, Object>> rows, Boolean skipIndexer) throws QueueException {
         try {
             dslContextWrapper.transaction(configuration -> {
                 DSLContext context = DSL.using(configuration);
 
                 if (!skipIndexer) {
-                    jdbcQueueIndexer.accept(context, message);
+                    messages.forEach(message -> jdbcQueueIndexer.accept(context, message));
                 }
 
-                context
+                var insert = context
                     .insertInto(table)
-                    .set(fields)
-                    .execute();
+                    .set(rows.getFirst());
+                for (Map<Field<Object>, Object> fields : rows.subList(1, rows.size())) {
+                    insert = insert.newRecord().set(fields);
+                }
+                insert.execute();
             });
         } catch (DataException e) { // The exception is from the data itself, not the database/network/driver so instead of fail fast, we throw a recoverable QueueException
             // Postgres refuses to store JSONB with the '\0000' codepoint as it has no textual representation.
@@ -163,11 +205,9 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
             throw new QueueException("Unable to emit a message to the queue", e);
         }
 
-        String[] tags = consumerGroup == null ? new String [] { MetricRegistry.TAG_QUEUE_TYPE, queueType() } :
-            new String [] { MetricRegistry.TAG_QUEUE_TYPE, queueType(), MetricRegistry.TAG_QUEUE_CONSUMER_GROUP, consumerGroup };
-        metricRegistry
-            .counter(MetricRegistry.METRIC_QUEUE_PRODUCE_COUNT, MetricRegistry.METRIC_QUEUE_PRODUCE_COUNT_DESCRIPTION, tags)
-            .increment();
+        Counter counter = consumerGroup == null ? produceCounter : metricRegistry
+            .counter(MetricRegistry.METRIC_QUEUE_PRODUCE_COUNT, MetricRegistry.METRIC_QUEUE_PRODUCE_COUNT_DESCRIPTION, MetricRegistry.TAG_QUEUE_TYPE, queueType(), MetricRegistry.TAG_QUEUE_CONSUMER_GROUP, consumerGroup);
+        counter.increment(rows.size());
     }
 
     @Override
@@ -180,6 +220,20 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         this.produce(consumerGroup, queueService.key(message), message, false);
     }
 
+    @Override
+    public void emit(String consumerGroup, List<T> messages) throws QueueException {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<Map<Field<Object>, Object>> rows = new ArrayList<>(messages.size());
+        for (T message : messages) {
+            rows.add(this.produceFields(consumerGroup, queueService.key(message), message));
+        }
+
+        this.insert(consumerGroup, messages, rows, false);
+    }
+
     @Override
     public void emitAsync(String consumerGroup, List<T> messages) throws QueueException {
         this.asyncPoolExecutor.submit(throwRunnable(() -> messages.forEach(throwConsumer(message -> this.emit(consumerGroup, message)))));
@@ -287,9 +341,7 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
     public Runnable receive(String consumerGroup, Consumer<Either<T, DeserializationException>> consumer, boolean forUpdate) {
         String[] tags = consumerGroup == null ? new String [] { MetricRegistry.TAG_QUEUE_TYPE, queueType() } :
             new String [] { MetricRegistry.TAG_QUEUE_TYPE, queueType(), MetricRegistry.TAG_QUEUE_CONSUMER_GROUP, consumerGroup };
-        AtomicInteger pollSize = new AtomicInteger();
-        this.metricRegistry
-            .gauge(MetricRegistry.METRIC_QUEUE_POLL_SIZE, MetricRegistry.METRIC_QUEUE_POLL_SIZE_DESCRIPTION, pollSize, tags);
+        AtomicInteger pollSize = this.pollSize(tags);
 
         AtomicInteger maxOffset = new AtomicInteger();
 
@@ -387,9 +439,7 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         String queueName = queueName(queueType);
         String[] tags = consumerGroup == null ? new String [] { MetricRegistry.TAG_QUEUE_TYPE, queueType(), MetricRegistry.TAG_QUEUE_CONSUMER, queueName } :
             new String [] { MetricRegistry.TAG_QUEUE_TYPE, queueType(), MetricRegistry.TAG_QUEUE_CONSUMER, queueName, MetricRegistry.TAG_QUEUE_CONSUMER_GROUP, consumerGroup };
-        AtomicInteger pollSize = new AtomicInteger();
-        this.metricRegistry
-            .gauge(MetricRegistry.METRIC_QUEUE_POLL_SIZE, MetricRegistry.METRIC_QUEUE_POLL_SIZE_DESCRIPTION, pollSize, tags);
+        AtomicInteger pollSize = this.pollSize(tags);
 
         Timer timer = this.metricRegistry
             .timer(MetricRegistry.METRIC_QUEUE_RECEIVE_DURATION, MetricRegistry.METRIC_QUEUE_RECEIVE_DURATION_DESCRIPTION, tags);
@@ -428,6 +478,13 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         }));
     }
 
+    private AtomicInteger pollSize(String[] tags) {
+        return this.pollSizes.computeIfAbsent(
+            List.of(tags),
+            ignored -> this.metricRegistry.gauge(MetricRegistry.METRIC_QUEUE_POLL_SIZE, MetricRegistry.METRIC_QUEUE_POLL_SIZE_DESCRIPTION, new AtomicInteger(), tags)
+        );
+    }
+
     protected String queueName(Class<?> queueType) {
         return CaseFormat.UPPER_CAMEL.to(
             CaseFormat.LOWER_UNDERSCORE,
@@ -435,67 +492,98 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         );
     }
 
-    @SuppressWarnings("BusyWait")
+    /**
+     * Polls the queue with the given runnable until the returned runnable is called.
+     * Stopping waits for the poll in progress to complete, so once it returns, no message is consumed anymore
+     * and a new consumer can be started without overlapping with this one.
+     */
     protected Runnable poll(Supplier<Integer> runnable) {
-        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch stopping = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        AtomicReference<Thread> pollThread = new AtomicReference<>();
 
         poolExecutor.execute(() -> {
-            List<Configuration.Step> steps = configuration.computeSteps();
-            Duration sleep = configuration.minPollInterval;
-            ZonedDateTime lastPoll = ZonedDateTime.now();
-            while (running.get() && !this.isClosed.get()) {
-                if (!this.isPaused.get()) {
-                    try {
-                        Integer count = runnable.get();
-                        if (count > 0) {
-                            lastPoll = ZonedDateTime.now();
-                            sleep = configuration.minPollInterval;
-                            if (immediateRepoll) {
-                                continue;
-                            } else if (count.equals(configuration.pollSize)) {
-                                // Note: this provides better latency on high throughput: when Kestra is a top capacity,
-                                // it will not do a sleep and immediately poll again.
-                                // We can even have better latency at even higher latency by continuing for positive count,
-                                // but at higher database cost.
-                                // Current impl balance database cost with latency.
-                                continue;
-                            }
-                        } else {
-                            ZonedDateTime finalLastPoll = lastPoll;
-                            // get all poll steps which duration is less than the duration between last poll and now
-                            List<Configuration.Step> selectedSteps = steps.stream()
-                                .takeWhile(step -> finalLastPoll.plus(step.switchInterval()).compareTo(ZonedDateTime.now()) < 0)
-                                .toList();
-                            // then select the last one (longest) or minPoll if all are beyond while means we are under the first interval
-                            sleep = selectedSteps.isEmpty() ? configuration.minPollInterval : selectedSteps.getLast().pollInterval();
-                        }
-                    } catch (CannotCreateTransactionException e) {
-                        if (log.isDebugEnabled()) {
-                            log.debug("Can't poll on receive", e);
-                        }
-                    }
-                }
+            pollThread.set(Thread.currentThread());
+            try {
+                this.pollLoop(runnable, stopping);
+            } finally {
+                stopped.countDown();
+            }
+        });
+
+        return () -> {
+            stopping.countDown();
 
+            // a consumer stopping itself can't wait for its own poll to complete
+            if (Thread.currentThread() != pollThread.get()) {
                 try {
-                    Thread.sleep(sleep);
+                    stopped.await();
                 } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    private void pollLoop(Supplier<Integer> runnable, CountDownLatch stopping) {
+        List<Configuration.Step> steps = configuration.computeSteps();
+        Duration sleep = configuration.minPollInterval;
+        ZonedDateTime lastPoll = ZonedDateTime.now();
+        while (stopping.getCount() > 0 && !this.isClosed.get()) {
+            if (!this.isPaused.get()) {
+                try {
+                    Integer count = runnable.get();
+                    if (count > 0) {
+                        lastPoll = ZonedDateTime.now();
+                        sleep = configuration.minPollInterval;
+                        if (immediateRepoll) {
+                            continue;
+                        } else if (count.equals(configuration.pollSize)) {
+                            // Note: this provides better latency on high throughput: when Kestra is a top capacity,
+                            // it will not do a sleep and immediately poll again.
+                            // We can even have better latency at even higher latency by continuing for positive count,
+                            // but at higher database cost.
+                            // Current impl balance database cost with latency.
+                            continue;
+                        }
+                    } else {
+                        ZonedDateTime finalLastPoll = lastPoll;
+                        // get all poll steps which duration is less than the duration between last poll and now
+                        List<Configuration.Step> selectedSteps = steps.stream()
+                            .takeWhile(step -> finalLastPoll.plus(step.switchInterval()).compareTo(ZonedDateTime.now()) < 0)
+                            .toList();
+                        // then select the last one (longest) or minPoll if all are beyond while means we are under the first interval
+                        sleep = selectedSteps.isEmpty() ? configuration.minPollInterval : selectedSteps.getLast().pollInterval();
+                    }
+                } catch (CannotCreateTransactionException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Can't poll on receive", e);
+                    }
                 }
             }
-        });
 
-        return () -> running.set(false);
+            try {
+                // wakes up as soon as the consumer is stopped
+                if (stopping.await(sleep.toMillis(), TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
     }
 
     protected List<Either<T, DeserializationException>> map(Result<Record> fetch) {
         return fetch
-            .map(record -> {
-                try {
-                    return Either.left(MAPPER.readValue(record.get("value", String.class), cls));
-                } catch (JsonProcessingException e) {
-                    return Either.right(new DeserializationException(e, record.get("value", String.class)));
-                }
-            });
+            .map(record -> this.deserialize(record.get("value", String.class)));
+    }
+
+    protected Either<T, DeserializationException> deserialize(String value) {
+        try {
+            return Either.left(MAPPER.readValue(compression.decompress(claimCheck.resolve(value)), cls));
+        } catch (IOException e) {
+            return Either.right(new DeserializationException(e, value));
+        }
     }
 
     protected void send(Result<Record> fetch, Consumer<Either<T, DeserializationException>> consumer) {
@@ -0,0 +1,151 @@
+package io.kestra.jdbc.runner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.kestra.core.storages.FileAttributes;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
+
+/**
+ * Claim-check for large queue messages.
+ * <p>
+ * When enabled, a message serialized above {@code kestra.jdbc.queues.claim-check.threshold} is stored compressed
+ * in the internal storage, and the queue row only carries a small reference to it that is transparently resolved on consumption.
+ * <p>
+ * Payloads are stored under an hourly bucket, so the {@link JdbcCleaner} can delete all the buckets older
+ * than the queue retention in a single call per bucket.
+ */
+@Singleton
+public class JdbcQueueClaimCheck {
+    static final String REFERENCE_FIELD = "_claimCheck";
+
+    private static final String STORAGE_DIRECTORY = "/_queues/";
+    private static final DateTimeFormatter BUCKET_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH").withZone(ZoneOffset.UTC);
+
+    // a reference is a tiny JSON object, there is no need to parse larger values to look for it
+    private static final int MAX_REFERENCE_LENGTH = 512;
+
+    private final Configuration configuration;
+
+    private final StorageInterface storageInterface;
+
+    @Inject
+    public JdbcQueueClaimCheck(Configuration configuration, StorageInterface storageInterface) {
+        this.configuration = configuration;
+        this.storageInterface = storageInterface;
+    }
+
+    /**
+     * @return whether the given serialized message must be offloaded to the internal storage.
+     */
+    public boolean shouldOffload(byte[] bytes) {
+        return configuration.enabled && bytes.length >= configuration.threshold;
+    }
+
+    /**
+     * Stores the serialized message in the internal storage.
+     *
+     * @return the serialized reference to be stored in the queue instead of the message.
+     */
+    public byte[] offload(String queueType, byte[] bytes) throws IOException {
+        URI uri = URI.create(STORAGE_DIRECTORY + BUCKET_FORMATTER.format(ZonedDateTime.now()) + "/" + queueType + "/" + IdUtils.create() + ".json.gz");
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (OutputStream outputStream = new GZIPOutputStream(compressed)) {
+            outputStream.write(bytes);
+        }
+
+        // queue messages are shared between all tenants, so they are stored in the main tenant storage
+        storageInterface.put(MAIN_TENANT, null, uri, new ByteArrayInputStream(compressed.toByteArray()));
+
+        return JdbcQueue.MAPPER.writeValueAsBytes(Map.of(REFERENCE_FIELD, uri.toString()));
+    }
+
+    /**
+     * Resolves the given queue value if it's a reference to an offloaded message.
+     *
+     * @return the serialized message.
+     */
+    public String resolve(String value) throws IOException {
+        if (value.length() > MAX_REFERENCE_LENGTH || !value.contains(REFERENCE_FIELD)) {
+            return value;
+        }
+
+        JsonNode reference = JdbcQueue.MAPPER.readTree(value);
+        if (reference.size() != 1 || !reference.has(REFERENCE_FIELD)) {
+            return value;
+        }
+
+        try (InputStream inputStream = new GZIPInputStream(storageInterface.get(MAIN_TENANT, null, URI.create(reference.get(REFERENCE_FIELD).asText())))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Deletes the offloaded messages of all the buckets older than the given retention.
+     * Buckets are purged even when the claim-check is disabled, as messages may have been offloaded before it was.
+     *
+     * @return the number of deleted buckets.
+     */
+    public int purge(Duration retention) throws IOException {
+        List<FileAttributes> buckets;
+        try {
+            buckets = storageInterface.list(MAIN_TENANT, null, URI.create(STORAGE_DIRECTORY));
+        } catch (FileNotFoundException e) {
+            return 0;
+        }
+
+        String limit = BUCKET_FORMATTER.format(ZonedDateTime.now().minus(retention));
+        int deleted = 0;
+        for (FileAttributes bucket : buckets) {
+            if (bucket.getType() != FileAttributes.FileType.Directory) {
+                continue;
+            }
+
+            try {
+                BUCKET_FORMATTER.parse(bucket.getFileName());
+            } catch (DateTimeParseException e) {
+                continue;
+            }
+
+            // the bucket holds messages up to the end of its hour, so it must be strictly older than the limit
+            if (bucket.getFileName().compareTo(limit) < 0) {
+                storageInterface.deleteByPrefix(MAIN_TENANT, null, URI.create(STORAGE_DIRECTORY + bucket.getFileName() + "/"));
+                deleted++;
+            }
+        }
+
+        return deleted;
+    }
+
+    @ConfigurationProperties("kestra.jdbc.queues.claim-check")
+    @Getter
+    public static class Configuration {
+        boolean enabled = false;
+
+        Integer threshold = 1024 * 1024;
+    }
+}
@@ -0,0 +1,96 @@
+package io.kestra.jdbc.runner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Optional compression of the queue messages.
+ * <p>
+ * When enabled, a message serialized above {@code kestra.jdbc.queues.compression.threshold} is stored gzip-compressed
+ * and base64-encoded inside a JSON envelope, so it still fits the JSON column of the queue table
+ * and can be mixed with uncompressed messages. Messages are transparently decompressed on consumption.
+ */
+@Singleton
+public class JdbcQueueCompression {
+    static final String COMPRESSED_FIELD = "_gzip";
+
+    private final Configuration configuration;
+
+    @Inject
+    public JdbcQueueCompression(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Compresses the given serialized message if it's above the configured threshold.
+     *
+     * @return the serialized envelope, or the same bytes if compression is disabled or not needed.
+     */
+    public byte[] compress(byte[] bytes) throws IOException {
+        if (!configuration.enabled || bytes.length < configuration.threshold) {
+            return bytes;
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (OutputStream outputStream = new LevelGZIPOutputStream(compressed, configuration.level)) {
+            outputStream.write(bytes);
+        }
+
+        return JdbcQueue.MAPPER.writeValueAsBytes(Map.of(COMPRESSED_FIELD, Base64.getEncoder().encodeToString(compressed.toByteArray())));
+    }
+
+    /**
+     * Decompresses the given queue value if it's a compressed envelope.
+     *
+     * @return the serialized message.
+     */
+    public String decompress(String value) throws IOException {
+        // an envelope always starts with its single field, there is no need to parse other values to look for it
+        int start = value.indexOf('"');
+        if (start < 0 || start > 2 || !value.startsWith(COMPRESSED_FIELD, start + 1)) {
+            return value;
+        }
+
+        JsonNode envelope = JdbcQueue.MAPPER.readTree(value);
+        if (envelope.size() != 1 || !envelope.has(COMPRESSED_FIELD)) {
+            return value;
+        }
+
+        byte[] compressed = Base64.getDecoder().decode(envelope.get(COMPRESSED_FIELD).asText());
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class LevelGZIPOutputStream extends GZIPOutputStream {
+        LevelGZIPOutputStream(OutputStream out, int level) throws IOException {
+            super(out);
+            this.def.setLevel(level);
+        }
+    }
+
+    @ConfigurationProperties("kestra.jdbc.queues.compression")
+    @Getter
+    public static class Configuration {
+        boolean enabled = false;
+
+        Integer threshold = 64 * 1024;
+
+        Integer level = Deflater.BEST_SPEED;
+    }
+}
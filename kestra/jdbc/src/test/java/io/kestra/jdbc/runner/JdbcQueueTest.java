@@ -18,11 +18,15 @@ import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @KestraTest
@@ -56,6 +60,35 @@ abstract public class JdbcQueueTest {
         assertThat(countDownLatch.getCount()).isEqualTo(0L);
     }
 
+    @Test
+    void stopWaitsForThePollInProgress() throws Exception {
+        CountDownLatch consuming = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean inConsumer = new AtomicBoolean();
+
+        Runnable cancellation = flowQueue.receive(null, either -> {
+            inConsumer.set(true);
+            consuming.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inConsumer.set(false);
+        }, false);
+
+        flowQueue.emit(builder("io.kestra.stop"));
+        assertTrue(consuming.await(5, TimeUnit.SECONDS));
+
+        // the consumer is still processing its poll, so stopping it must not return yet
+        CompletableFuture<Void> stop = CompletableFuture.runAsync(cancellation);
+        assertThrows(TimeoutException.class, () -> stop.get(200, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        stop.get(5, TimeUnit.SECONDS);
+        assertThat(inConsumer.get()).isFalse();
+    }
+
     @Test
     void withGroup() throws InterruptedException, QueueException {
         CountDownLatch countDownLatch = new CountDownLatch(2);
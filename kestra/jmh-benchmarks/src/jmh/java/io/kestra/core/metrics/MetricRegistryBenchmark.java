@@ -0,0 +1,63 @@
+package io.kestra.core.metrics;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.IdUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of incrementing an execution counter by registering it through Micrometer on each call,
+ * by looking it up in the {@link MetricRegistry} cache, and by keeping the counter handle.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MetricRegistryBenchmark {
+    private MeterRegistry meterRegistry;
+    private MetricRegistry metricRegistry;
+    private Execution execution;
+    private Counter counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        metricRegistry = new MetricRegistry(meterRegistry, new MetricConfig());
+
+        execution = Execution.builder()
+            .id(IdUtils.create())
+            .tenantId("main")
+            .namespace("io.kestra.benchmark")
+            .flowId("benchmark")
+            .flowRevision(1)
+            .state(new State())
+            .build();
+
+        counter = metricRegistry.counter(MetricRegistry.METRIC_EXECUTOR_EXECUTION_POPPED_COUNT, MetricRegistry.METRIC_EXECUTOR_EXECUTION_POPPED_COUNT_DESCRIPTION, metricRegistry.tags(execution));
+    }
+
+    @Benchmark
+    public void register() {
+        Counter.builder(MetricRegistry.METRIC_EXECUTOR_EXECUTION_POPPED_COUNT)
+            .description(MetricRegistry.METRIC_EXECUTOR_EXECUTION_POPPED_COUNT_DESCRIPTION)
+            .tags(metricRegistry.tags(execution))
+            .register(meterRegistry)
+            .increment();
+    }
+
+    @Benchmark
+    public void cached() {
+        metricRegistry
+            .counter(MetricRegistry.METRIC_EXECUTOR_EXECUTION_POPPED_COUNT, MetricRegistry.METRIC_EXECUTOR_EXECUTION_POPPED_COUNT_DESCRIPTION, metricRegistry.tags(execution))
+            .increment();
+    }
+
+    @Benchmark
+    public void preBound() {
+        counter.increment();
+    }
+}
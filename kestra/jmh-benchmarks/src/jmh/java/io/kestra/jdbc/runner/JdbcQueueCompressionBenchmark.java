@@ -0,0 +1,88 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.executions.Variables;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.IdUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the cost of encoding and decoding an execution message as plain JSON and as a compressed envelope
+ * with {@link JdbcQueueCompression}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class JdbcQueueCompressionBenchmark {
+    @Param({"10", "1000"})
+    private int taskRuns;
+
+    @Param({"1", "6"})
+    private int level;
+
+    private JdbcQueueCompression compression;
+    private Execution execution;
+    private String plain;
+    private String compressed;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        JdbcQueueCompression.Configuration configuration = new JdbcQueueCompression.Configuration();
+        configuration.enabled = true;
+        configuration.threshold = 0;
+        configuration.level = level;
+        compression = new JdbcQueueCompression(configuration);
+
+        execution = Execution.builder()
+            .id(IdUtils.create())
+            .tenantId("main")
+            .namespace("io.kestra.benchmark")
+            .flowId("benchmark")
+            .flowRevision(1)
+            .state(new State())
+            .taskRunList(IntStream.range(0, taskRuns)
+                .mapToObj(i -> TaskRun.builder()
+                    .id(IdUtils.create())
+                    .tenantId("main")
+                    .namespace("io.kestra.benchmark")
+                    .flowId("benchmark")
+                    .taskId("task-" + i)
+                    .state(new State().withState(State.Type.RUNNING).withState(State.Type.SUCCESS))
+                    .outputs(Variables.inMemory(Map.of("value", "output of the task " + i, "values", List.of(i, i + 1, i + 2))))
+                    .build()
+                )
+                .toList()
+            )
+            .build();
+
+        plain = new String(JdbcQueue.MAPPER.writeValueAsBytes(execution));
+        compressed = new String(compression.compress(JdbcQueue.MAPPER.writeValueAsBytes(execution)));
+    }
+
+    @Benchmark
+    public byte[] encodePlain() throws IOException {
+        return JdbcQueue.MAPPER.writeValueAsBytes(execution);
+    }
+
+    @Benchmark
+    public byte[] encodeCompressed() throws IOException {
+        return compression.compress(JdbcQueue.MAPPER.writeValueAsBytes(execution));
+    }
+
+    @Benchmark
+    public Execution decodePlain() throws IOException {
+        return JdbcQueue.MAPPER.readValue(compression.decompress(plain), Execution.class);
+    }
+
+    @Benchmark
+    public Execution decodeCompressed() throws IOException {
+        return JdbcQueue.MAPPER.readValue(compression.decompress(compressed), Execution.class);
+    }
+}
@@ -0,0 +1,86 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTableConfig;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the batch of upserts with the COPY path of {@link PostgresRepository#persistBatch(List)} when indexing logs.
+ * <p>
+ * Needs a Postgres database with the Kestra schema, configured with the {@code postgres.url}, {@code postgres.username}
+ * and {@code postgres.password} system properties (defaults to the unit tests database).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PostgresPersistBatchBenchmark {
+    private static final String EXECUTION_ID = "postgres-persist-batch-benchmark";
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    @Param({"UPSERT", "COPY"})
+    private String mode;
+
+    private Connection connection;
+    private DSLContext dslContext;
+    private PostgresRepository<LogEntry> repository;
+    private List<LogEntry> logs;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(
+            System.getProperty("postgres.url", "jdbc:postgresql://localhost:5432/kestra_unit"),
+            System.getProperty("postgres.username", "kestra"),
+            System.getProperty("postgres.password", "k3str4")
+        );
+        dslContext = DSL.using(connection, SQLDialect.POSTGRES);
+
+        repository = new PostgresRepository<>(new JdbcTableConfig("logs", LogEntry.class, "logs"), new JooqDSLContextWrapper(dslContext));
+        repository.setCopyThreshold(mode.equals("COPY") ? 1 : 0);
+    }
+
+    @Setup(Level.Invocation)
+    public void logs() {
+        logs = IntStream.range(0, batchSize)
+            .mapToObj(i -> LogEntry.builder()
+                .tenantId("main")
+                .namespace("io.kestra.benchmark")
+                .flowId("benchmark")
+                .taskId("task")
+                .executionId(EXECUTION_ID)
+                .taskRunId(IdUtils.create())
+                .attemptNumber(0)
+                .timestamp(Instant.now())
+                .level(org.slf4j.event.Level.INFO)
+                .thread("main")
+                .message("A log message with some words to index, number " + i)
+                .build()
+            )
+            .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        dslContext.execute("DELETE FROM logs WHERE execution_id = ?", EXECUTION_ID);
+        connection.close();
+    }
+
+    @Benchmark
+    public int persistBatch() {
+        return repository.persistBatch(logs);
+    }
+}
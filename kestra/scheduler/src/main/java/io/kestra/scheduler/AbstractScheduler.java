@@ -30,6 +30,8 @@ import io.kestra.core.server.ServiceStateChangeEvent;
 import io.kestra.core.server.ServiceType;
 import io.kestra.core.services.*;
 import io.kestra.core.utils.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.core.util.CollectionUtils;
@@ -75,6 +77,9 @@ public abstract class AbstractScheduler implements Scheduler {
     private final RunContextFactory runContextFactory;
     private final RunContextInitializer runContextInitializer;
     private final MetricRegistry metricRegistry;
+    private final Counter loopCounter;
+    private final Counter evaluateCounter;
+    private final Timer evaluationLoopTimer;
     private final ConditionService conditionService;
     private final PluginDefaultService pluginDefaultService;
     private final WorkerGroupService workerGroupService;
@@ -126,6 +131,9 @@ public abstract class AbstractScheduler implements Scheduler {
         this.runContextFactory = applicationContext.getBean(RunContextFactory.class);
         this.runContextInitializer = applicationContext.getBean(RunContextInitializer.class);
         this.metricRegistry = applicationContext.getBean(MetricRegistry.class);
+        this.loopCounter = metricRegistry.counter(MetricRegistry.METRIC_SCHEDULER_LOOP_COUNT, MetricRegistry.METRIC_SCHEDULER_LOOP_COUNT_DESCRIPTION);
+        this.evaluateCounter = metricRegistry.counter(MetricRegistry.METRIC_SCHEDULER_EVALUATE_COUNT, MetricRegistry.METRIC_SCHEDULER_EVALUATE_COUNT_DESCRIPTION);
+        this.evaluationLoopTimer = metricRegistry.timer(MetricRegistry.METRIC_SCHEDULER_EVALUATION_LOOP_DURATION, MetricRegistry.METRIC_SCHEDULER_EVALUATION_LOOP_DURATION_DESCRIPTION);
         this.conditionService = applicationContext.getBean(ConditionService.class);
         this.pluginDefaultService = applicationContext.getBean(PluginDefaultService.class);
         this.workerGroupService = applicationContext.getBean(WorkerGroupService.class);
@@ -627,9 +635,7 @@ public abstract class AbstractScheduler implements Scheduler {
 
             List<FlowWithTriggers> schedulable = this.computeSchedulable(flows, triggerContextsToEvaluate, scheduleContext);
 
-            metricRegistry
-                .counter(MetricRegistry.METRIC_SCHEDULER_LOOP_COUNT, MetricRegistry.METRIC_SCHEDULER_LOOP_COUNT_DESCRIPTION)
-                .increment();
+            loopCounter.increment();
 
             if (log.isTraceEnabled()) {
                 log.trace(
@@ -669,9 +675,7 @@ public abstract class AbstractScheduler implements Scheduler {
                 );
             }
 
-            metricRegistry
-                .counter(MetricRegistry.METRIC_SCHEDULER_EVALUATE_COUNT, MetricRegistry.METRIC_SCHEDULER_EVALUATE_COUNT_DESCRIPTION)
-                .increment(readyForEvaluate.size());
+            evaluateCounter.increment(readyForEvaluate.size());
 
             // submit ready one to the worker
             readyForEvaluate
@@ -747,9 +751,7 @@ public abstract class AbstractScheduler implements Scheduler {
                     }
                 });
         });
-        metricRegistry
-            .timer(MetricRegistry.METRIC_SCHEDULER_EVALUATION_LOOP_DURATION, MetricRegistry.METRIC_SCHEDULER_EVALUATION_LOOP_DURATION_DESCRIPTION)
-            .record(Duration.between(now, ZonedDateTime.now()));
+        evaluationLoopTimer.record(Duration.between(now, ZonedDateTime.now()));
     }
 
     private List<FlowWithSource> getFlowsWithDefaults() {
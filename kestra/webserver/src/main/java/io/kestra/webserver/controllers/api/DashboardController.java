@@ -28,9 +28,11 @@ import io.kestra.webserver.utils.TimeLineSearch;
 import io.micronaut.core.annotation.Introspected;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.*;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.annotation.ExecuteOn;
@@ -44,10 +46,9 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
@@ -361,6 +362,24 @@ public class DashboardController {
         throw new IllegalArgumentException("Only data charts can be generated.");
     }
 
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Flux<Map<String, Object>> streamChartData(FetchChartDataQuery fetchChartDataQuery) {
+        if (!(fetchChartDataQuery.chart() instanceof Table table)) {
+            throw new IllegalArgumentException("Only Table data charts can be exported.");
+        }
+
+        DataFilter<?, ?> dataChartDatas = table.getData();
+        dataChartDatas.updateWhereWithGlobalFilters(fetchChartDataQuery.filters(), fetchChartDataQuery.startDate(), fetchChartDataQuery.endDate());
+
+        return this.dashboardRepository.stream(
+            fetchChartDataQuery.tenantId(),
+            table,
+            fetchChartDataQuery.startDate(),
+            fetchChartDataQuery.endDate(),
+            fetchChartDataQuery.pageable()
+        );
+    }
+
     @ExecuteOn(TaskExecutors.IO)
     @Post(uri = "validate/chart", consumes = MediaType.APPLICATION_YAML)
     @Operation(tags = {"Dashboards"}, summary = "Validate a chart from yaml source")
@@ -388,48 +407,34 @@ public class DashboardController {
     }
 
     @ExecuteOn(TaskExecutors.IO)
-    @Post(uri = "{id}/charts/{chartId}/export/to-csv", produces = MediaType.APPLICATION_OCTET_STREAM)
-    @Operation(tags = {"Dashboards"}, summary = "Export a dashboard chart data to CSV")
-    public HttpResponse<byte[]> exportDashboardChartDataToCSV(
+    @Post(uri = "{id}/charts/{chartId}/export/to-csv", produces = MediaType.TEXT_CSV)
+    @Operation(tags = {"Dashboards"}, summary = "Export a dashboard chart data as a streamed CSV file")
+    public MutableHttpResponse<Flux<String>> exportDashboardChartDataToCSV(
         @Parameter(description = "The dashboard id") @PathVariable String id,
         @Parameter(description = "The chart id") @PathVariable String chartId,
         @RequestBody(description = "The filters to apply, some can override chart definition like labels & namespace") @Body ChartFiltersOverrides globalFilter
-    ) throws IOException {
+    ) {
         var fetchChartDataQuery = buildDashboardChardDataQuery(id, chartId, globalFilter);
         if (fetchChartDataQuery == null) {
             return null;
         }
-        if (!(fetchChartDataQuery.chart instanceof Table)) {
-            throw new IllegalArgumentException("Only Table data charts can be exported.");
-        }
-        var fetchedData = fetchChartData(fetchChartDataQuery);
-
-        var byteArrayOutputStream = new ByteArrayOutputStream();
-        var outputStreamWriter = new OutputStreamWriter(byteArrayOutputStream);
-        CSVUtils.toCSV(outputStreamWriter, fetchedData.getResults());
 
         var filename = "%s_%s_export.csv".formatted(id, chartId);
-        return HttpResponse.ok(byteArrayOutputStream.toByteArray()).header("Content-Disposition", "attachment; filename=\"%s\"".formatted(filename));
+        return HttpResponse.ok(CSVUtils.toCSVFlux(streamChartData(fetchChartDataQuery)))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"%s\"".formatted(filename));
     }
 
     @ExecuteOn(TaskExecutors.IO)
-    @Post(uri = "charts/export/to-csv", produces = MediaType.APPLICATION_OCTET_STREAM)
-    @Operation(tags = {"Dashboards"}, summary = "Export a table chart data to CSV")
-    public HttpResponse<byte[]> exportChartToCsv(
+    @Post(uri = "charts/export/to-csv", produces = MediaType.TEXT_CSV)
+    @Operation(tags = {"Dashboards"}, summary = "Export a table chart data as a streamed CSV file")
+    public MutableHttpResponse<Flux<String>> exportChartToCsv(
         @Parameter(description = "The chart") @Body @Valid PreviewRequest previewRequest
-    ) throws IOException {
+    ) {
         var fetchChartDataQuery = buildChartPreviewDataQuery(previewRequest);
-        if (!(fetchChartDataQuery.chart instanceof Table)) {
-            throw new IllegalArgumentException("Only Table data charts can be exported.");
-        }
-        var fetchedData = fetchChartData(fetchChartDataQuery);
-
-        var byteArrayOutputStream = new ByteArrayOutputStream();
-        var outputStreamWriter = new OutputStreamWriter(byteArrayOutputStream);
-        CSVUtils.toCSV(outputStreamWriter, fetchedData.getResults());
 
         var filename = "%s_%s_export.csv".formatted("default-dashboard", fetchChartDataQuery.chart().getId());
-        return HttpResponse.ok(byteArrayOutputStream.toByteArray()).header("Content-Disposition", "attachment; filename=\"%s\"".formatted(filename));
+        return HttpResponse.ok(CSVUtils.toCSVFlux(streamChartData(fetchChartDataQuery)))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"%s\"".formatted(filename));
     }
 
     @Introspected
@@ -298,7 +298,7 @@ public class ExecutionController {
 
                 return flow
                     .map(throwFunction(value ->
-                        graphService.flowGraph(value, subflows, execution).forExecution()
+                        graphService.executionGraph(value, subflows, execution)
                     ))
                     .orElse(null);
             }))
@@ -733,10 +733,10 @@ public class ExecutionController {
                         .map(ContextPropagators::getTextMapPropagator)
                         .ifPresent(propagator -> propagator.inject(Context.current(), executionWithInputs, ExecutionTextMapSetter.INSTANCE));
 
-                    executionQueue.emit(executionWithInputs);
-                    eventPublisher.publishEvent(new CrudEvent<>(executionWithInputs, CrudEventType.CREATE));
-
                     if (!wait || executionWithInputs.getState().isFailed()) {
+                        executionQueue.emit(executionWithInputs);
+                        eventPublisher.publishEvent(new CrudEvent<>(executionWithInputs, CrudEventType.CREATE));
+
                         return Mono.just(ExecutionResponse.fromExecution(
                             executionWithInputs,
                             executionUrl(executionWithInputs)
@@ -746,12 +746,21 @@ public class ExecutionController {
                     String subscriberId = UUID.randomUUID().toString();
                     // Use Flux to wait for completion using the streaming service
                     return Flux.<Event<Execution>>create(emitter -> {
+                            // register before emitting the execution, so an execution terminating quickly can't be missed
                             streamingService.registerSubscriber(
                                 executionWithInputs.getId(),
                                 subscriberId,
                                 emitter,
                                 flow
                             );
+
+                            try {
+                                executionQueue.emit(executionWithInputs);
+                            } catch (QueueException e) {
+                                emitter.error(e);
+                                return;
+                            }
+                            eventPublisher.publishEvent(new CrudEvent<>(executionWithInputs, CrudEventType.CREATE));
                         })
                         .last()
                         .map(Event::getData)
@@ -6,10 +6,9 @@ import io.kestra.core.exceptions.ResourceExpiredException;
 import io.kestra.core.models.QueryFilter;
 import io.kestra.core.models.kv.KVType;
 import io.kestra.core.models.namespaces.NamespaceInterface;
-import io.kestra.core.repositories.KvMetadataRepositoryInterface;
 import io.kestra.core.serializers.JacksonMapper;
-import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.storages.kv.*;
+import io.kestra.core.services.KVStoreService;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.webserver.converters.QueryFilterFormat;
 import io.kestra.webserver.responses.PagedResults;
@@ -38,13 +37,10 @@ import java.util.*;
 @Controller("/api/v1/{tenant}")
 public class KVController {
     @Inject
-    private KvMetadataRepositoryInterface kvMetadataRepository;
-
-    @Inject
-    private StorageInterface storageInterface;
+    protected TenantService tenantService;
 
     @Inject
-    protected TenantService tenantService;
+    private KVStoreService kvStoreService;
 
     private String sortMapper(String key) {
         if (key != null && key.equals("key")) {
@@ -215,7 +211,7 @@ public class KVController {
     }
 
     protected KVStore globalKvStore() {
-        return new InternalKVStore(tenantService.resolveTenant(), null, storageInterface, kvMetadataRepository);
+        return kvStoreService.kvStore(tenantService.resolveTenant(), null);
     }
 
     /**
@@ -225,7 +221,7 @@ public class KVController {
      * @return a new {@link KVStore}.
      */
     protected KVStore kvStore(final String namespace) {
-        return new InternalKVStore(tenantService.resolveTenant(), namespace, storageInterface, kvMetadataRepository);
+        return kvStoreService.kvStore(tenantService.resolveTenant(), namespace);
     }
 
     public record KvDetail(
@@ -145,6 +145,7 @@ public class NamespaceSecretController<META extends ApiSecretMeta> {
                 .tags(body.getTags() != null ? body.getTags() : Map.of())
                 .build();
             namespaceSecretRepository.get().save(secret);
+            secretService.invalidate(tenantId, namespace, keyUpper);
             return HttpResponse.noContent();
         } catch (GeneralSecurityException e) {
             return HttpResponse.serverError("Failed to encrypt secret");
@@ -183,6 +184,7 @@ public class NamespaceSecretController<META extends ApiSecretMeta> {
                 .tags(tags != null ? tags : Map.of())
                 .build();
             namespaceSecretRepository.get().save(secret);
+            secretService.invalidate(tenantId, namespace, keyUpper);
             return HttpResponse.noContent();
         } catch (GeneralSecurityException e) {
             return HttpResponse.serverError("Failed to encrypt secret");
@@ -201,6 +203,7 @@ public class NamespaceSecretController<META extends ApiSecretMeta> {
         }
         String tenantId = tenantService.resolveTenant();
         namespaceSecretRepository.get().delete(tenantId, namespace, key.toUpperCase());
+        secretService.invalidate(tenantId, namespace, key);
         return HttpResponse.noContent();
     }
 }
@@ -1,10 +1,13 @@
 package io.kestra.webserver.utils;
 
+import de.siegmar.fastcsv.writer.CsvWriter;
 import io.kestra.core.exceptions.KestraRuntimeException;
 import reactor.core.publisher.Flux;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -27,32 +30,41 @@ public class CSVUtils {
         }
     }
 
-    public static Flux<String> toCSVFlux(Flux<Map<String, Object>> records) {
-        return records.switchOnFirst((signal, flux) -> {
+    /**
+     * Same as {@link #toCSV(Writer, List)} but writes the lines one by one as they are emitted,
+     * so a large export doesn't need to be loaded in memory.
+     */
+    public static Flux<String> toCSVFlux(Flux<Map<String, Object>> lines) {
+        return lines.switchOnFirst((signal, flux) -> {
             if (!signal.hasValue()) {
-                return Flux.empty();
+                // empty or failed
+                return flux.cast(String.class);
             }
-            Map<String, Object> first = signal.get();
-            // Create the header from the keys of the first record
-            String header = String.join(",", first.keySet()) + "\n";
-            Flux<String> headerFlux = Flux.just(header);
-            // Content of the CSV
-            Flux<String> rowsFlux = flux.map(record ->
-                record.values().stream()
-                    .map(v -> v != null ? v.toString() : "")
-                    .map(CSVUtils::escapeCsv)
-                    .reduce((a, b) -> a + "," + b)
-                    .orElse("") + "\n"
-            );
-            return headerFlux.concatWith(rowsFlux);
+
+            StringWriter buffer = new StringWriter();
+            CsvWriter csvWriter = CsvWriter.builder().build(buffer);
+
+            return Flux.<Collection<?>>concat(
+                    Flux.just(signal.get().keySet()),
+                    flux.map(Map::values)
+                )
+                .map(values -> toCSVRecord(csvWriter, buffer, values));
         });
     }
 
-    private static String escapeCsv(String value) {
-        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
-            value = value.replace("\"", "\"\"");
-            return "\"" + value + "\"";
+    private static String toCSVRecord(CsvWriter csvWriter, StringWriter buffer, Collection<?> values) {
+        try {
+            csvWriter.writeRecord(values.stream()
+                .map(value -> value != null ? value.toString() : "")
+                .toList());
+            csvWriter.flush();
+        } catch (IOException e) {
+            throw new KestraRuntimeException("could not convert to CSV", e);
         }
-        return value;
+
+        String record = buffer.toString();
+        buffer.getBuffer().setLength(0);
+
+        return record;
     }
-}
\ No newline at end of file
+}
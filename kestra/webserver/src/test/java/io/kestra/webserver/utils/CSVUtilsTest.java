@@ -1,6 +1,7 @@
 package io.kestra.webserver.utils;
 
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStreamWriter;
@@ -100,5 +101,28 @@ class CSVUtilsTest {
         assertThat(byteArrayOutputStream.toString()).isEqualTo("a-header,b-header\r\na-value-1,b-value-1\r\na-value-2,b-value-2\r\n");
     }
 
+    @Test
+    void ok_flux_sameAsCSV() {
+        List<Map<String, Object>> input = List.of(
+            new LinkedHashMap<>() {{
+                put("a-header", "a-value-1");
+                put("b-header", "b,value\"1");
+            }},
+            new LinkedHashMap<>() {{
+                put("a-header", null);
+                put("b-header", 42);
+            }}
+        );
+
+        var byteArrayOutputStream = new ByteArrayOutputStream();
+        var outputStreamWriter = new OutputStreamWriter(byteArrayOutputStream);
+
+        toCSV(outputStreamWriter, input);
+
+        String streamed = String.join("", CSVUtils.toCSVFlux(Flux.fromIterable(input)).collectList().block());
+        assertThat(streamed).isEqualTo(byteArrayOutputStream.toString());
+        assertThat(CSVUtils.toCSVFlux(Flux.empty()).collectList().block()).isEmpty();
+    }
+
     // TODO test in prod if missing data is actually a problem or not (next executions sometimes not having 'nextExec' field)
 }
\ No newline at end of file
@@ -163,6 +163,10 @@ public class DefaultWorker implements Worker {
 
     @Getter
     private final Integer numThreads;
+    // only set in virtual-thread mode, where the concurrency is not bounded by the executor service
+    private final WorkerJobConcurrencyLimiter concurrencyLimiter;
+    private final WorkerVirtualThreadsConfiguration virtualThreadsConfiguration;
+    private VirtualThreadPinningMonitor pinningMonitor;
     private final AtomicInteger pendingJobCount = new AtomicInteger(0);
     private final AtomicInteger runningJobCount = new AtomicInteger(0);
 
@@ -179,6 +183,7 @@ public class DefaultWorker implements Worker {
      * @param workerId       The worker service ID.
      * @param numThreads     The worker num threads.
      * @param workerGroupKey The worker group (EE).
+     * @param virtualThreadsConfiguration The virtual-thread execution mode configuration.
      */
     @Inject
     public DefaultWorker(
@@ -187,14 +192,25 @@ public class DefaultWorker implements Worker {
         @Nullable @Parameter String workerGroupKey,
         ApplicationEventPublisher<ServiceStateChangeEvent> eventPublisher,
         WorkerGroupService workerGroupService,
-        ExecutorsUtils executorsUtils
+        ExecutorsUtils executorsUtils,
+        WorkerVirtualThreadsConfiguration virtualThreadsConfiguration
     ) {
         this.id = workerId;
         this.numThreads = numThreads;
         this.workerGroupKey = workerGroupKey;
         this.workerGroup = workerGroupService.resolveGroupFromKey(workerGroupKey);
         this.eventPublisher = eventPublisher;
-        this.executorService = executorsUtils.maxCachedThreadPool(numThreads, EXECUTOR_NAME);
+        this.virtualThreadsConfiguration = virtualThreadsConfiguration;
+        if (virtualThreadsConfiguration.isEnabled()) {
+            this.executorService = executorsUtils.virtualThreadPerTaskExecutor(EXECUTOR_NAME);
+            this.concurrencyLimiter = new WorkerJobConcurrencyLimiter(
+                Optional.ofNullable(virtualThreadsConfiguration.getMaxConcurrency()).orElse(numThreads),
+                virtualThreadsConfiguration.getTypeConcurrency()
+            );
+        } else {
+            this.executorService = executorsUtils.maxCachedThreadPool(numThreads, EXECUTOR_NAME);
+            this.concurrencyLimiter = null;
+        }
         this.setState(ServiceState.CREATED);
     }
 
@@ -208,6 +224,10 @@ public class DefaultWorker implements Worker {
             this.metricRegistry.gauge(MetricRegistry.METRIC_WORKER_JOB_PENDING_COUNT, MetricRegistry.METRIC_WORKER_JOB_PENDING_COUNT_DESCRIPTION, pendingJobCount, tags);
             this.metricRegistry.gauge(MetricRegistry.METRIC_WORKER_JOB_RUNNING_COUNT, MetricRegistry.METRIC_WORKER_JOB_RUNNING_COUNT_DESCRIPTION, runningJobCount, tags);
 
+            if (concurrencyLimiter != null) {
+                this.metricRegistry.gauge(MetricRegistry.METRIC_WORKER_JOB_PERMITS_AVAILABLE_COUNT, MetricRegistry.METRIC_WORKER_JOB_PERMITS_AVAILABLE_COUNT_DESCRIPTION, concurrencyLimiter.getAvailablePermits(), tags);
+            }
+
             this.tracer = tracerFactory.getTracer(DefaultWorker.class, "WORKER");
         }
     }
@@ -275,6 +295,16 @@ public class DefaultWorker implements Worker {
             either -> {
                 pendingJobCount.incrementAndGet();
                 executorService.execute(() -> {
+                    // in virtual-thread mode, the job stays pending until a permit is available
+                    WorkerJobConcurrencyLimiter.Permit permit;
+                    try {
+                        permit = concurrencyLimiter == null || either.isRight() ? null : concurrencyLimiter.acquire(either.getLeft());
+                    } catch (InterruptedException e) {
+                        pendingJobCount.decrementAndGet();
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+
                     pendingJobCount.decrementAndGet();
                     runningJobCount.incrementAndGet();
 
@@ -293,6 +323,9 @@ public class DefaultWorker implements Worker {
                         }
                     } finally {
                         runningJobCount.decrementAndGet();
+                        if (permit != null) {
+                            permit.close();
+                        }
                     }
                 });
             }
@@ -316,7 +349,17 @@ public class DefaultWorker implements Worker {
             setState(ServiceState.RUNNING);
         }
 
-        if (workerGroupKey != null) {
+        if (concurrencyLimiter != null) {
+            String[] tags = this.workerGroup == null ? new String[0] : new String[]{MetricRegistry.TAG_WORKER_GROUP, this.workerGroup};
+            this.pinningMonitor = new VirtualThreadPinningMonitor(metricRegistry, virtualThreadsConfiguration.getPinnedThreshold(), tags);
+            this.pinningMonitor.start();
+
+            if (workerGroupKey != null) {
+                log.info("Worker started in virtual-thread mode with {} permit(s) in group '{}'", concurrencyLimiter.getAvailablePermits(), workerGroupKey);
+            } else {
+                log.info("Worker started in virtual-thread mode with {} permit(s)", concurrencyLimiter.getAvailablePermits());
+            }
+        } else if (workerGroupKey != null) {
             log.info("Worker started with {} thread(s) in group '{}'", numThreads, workerGroupKey);
         } else {
             log.info("Worker started with {} thread(s)", numThreads);
@@ -1059,6 +1102,10 @@ public class DefaultWorker implements Worker {
             terminatedGracefully = false;
         }
 
+        if (pinningMonitor != null) {
+            pinningMonitor.close();
+        }
+
         ServiceState state = terminatedGracefully ? TERMINATED_GRACEFULLY : TERMINATED_FORCED;
         setState(state);
 
@@ -1182,6 +1229,9 @@ public class DefaultWorker implements Worker {
         // close all queues and shutdown now
         this.receiveCancellations.forEach(Runnable::run);
         this.executorService.shutdownNow();
+        if (pinningMonitor != null) {
+            pinningMonitor.close();
+        }
     }
 
     public List<WorkerJob> getWorkerThreadTasks() {
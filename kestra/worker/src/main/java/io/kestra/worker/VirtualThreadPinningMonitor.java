@@ -0,0 +1,43 @@
+package io.kestra.worker;
+
+import io.kestra.core.metrics.MetricRegistry;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * Reports the virtual threads pinned to their carrier thread, as a pinned virtual thread blocks
+ * its carrier and reduces the concurrency of the virtual-thread execution mode of the {@link DefaultWorker}.
+ * <p>
+ * Pinning events are consumed from the JDK Flight Recorder {@code jdk.VirtualThreadPinned} event.
+ */
+@Slf4j
+final class VirtualThreadPinningMonitor implements AutoCloseable {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final RecordingStream recordingStream;
+
+    VirtualThreadPinningMonitor(MetricRegistry metricRegistry, Duration threshold, String... tags) {
+        this.recordingStream = new RecordingStream();
+        this.recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        this.recordingStream.onEvent(PINNED_EVENT, event -> {
+            metricRegistry
+                .timer(MetricRegistry.METRIC_WORKER_VIRTUAL_THREAD_PINNED_DURATION, MetricRegistry.METRIC_WORKER_VIRTUAL_THREAD_PINNED_DURATION_DESCRIPTION, tags)
+                .record(event.getDuration());
+
+            if (log.isDebugEnabled()) {
+                log.debug("Virtual thread pinned for {}ms: {}", event.getDuration().toMillis(), event.getStackTrace());
+            }
+        });
+    }
+
+    void start() {
+        this.recordingStream.startAsync();
+    }
+
+    @Override
+    public void close() {
+        this.recordingStream.close();
+    }
+}
@@ -0,0 +1,80 @@
+package io.kestra.worker;
+
+import io.kestra.core.runners.WorkerJob;
+import io.kestra.core.runners.WorkerTask;
+import io.kestra.core.runners.WorkerTrigger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of worker jobs running concurrently, globally and by task or trigger type.
+ * <p>
+ * Used by the virtual-thread execution mode of the {@link DefaultWorker} where the number of threads is not bounded.
+ */
+final class WorkerJobConcurrencyLimiter {
+    private final Semaphore global;
+    private final Map<String, Semaphore> byType = new HashMap<>();
+    private final AtomicInteger availablePermits;
+
+    WorkerJobConcurrencyLimiter(int maxConcurrency, Map<String, Integer> typeConcurrency) {
+        this.global = new Semaphore(maxConcurrency, true);
+        this.availablePermits = new AtomicInteger(maxConcurrency);
+        typeConcurrency.forEach((type, limit) -> byType.put(type, new Semaphore(limit, true)));
+    }
+
+    /**
+     * Blocks until the given job is allowed to run.
+     *
+     * @param workerJob the job to run.
+     * @return a permit to be closed when the job ends.
+     * @throws InterruptedException if the current thread is interrupted while waiting.
+     */
+    Permit acquire(WorkerJob workerJob) throws InterruptedException {
+        Semaphore typeSemaphore = byType.get(type(workerJob));
+        if (typeSemaphore != null) {
+            typeSemaphore.acquire();
+        }
+
+        try {
+            global.acquire();
+        } catch (InterruptedException e) {
+            if (typeSemaphore != null) {
+                typeSemaphore.release();
+            }
+            throw e;
+        }
+        availablePermits.decrementAndGet();
+
+        return () -> {
+            availablePermits.incrementAndGet();
+            global.release();
+            if (typeSemaphore != null) {
+                typeSemaphore.release();
+            }
+        };
+    }
+
+    /**
+     * @return the number of jobs that can still be started, suitable to be registered as a gauge.
+     */
+    AtomicInteger getAvailablePermits() {
+        return availablePermits;
+    }
+
+    private static String type(WorkerJob workerJob) {
+        if (workerJob instanceof WorkerTask workerTask) {
+            return workerTask.getTask().getType();
+        } else if (workerJob instanceof WorkerTrigger workerTrigger) {
+            return workerTrigger.getTrigger().getType();
+        }
+        return null;
+    }
+
+    interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
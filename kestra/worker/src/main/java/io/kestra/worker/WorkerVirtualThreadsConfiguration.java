@@ -0,0 +1,34 @@
+package io.kestra.worker;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration of the virtual-thread execution mode of the {@link DefaultWorker}.
+ * <p>
+ * In this mode, each worker job runs on its own virtual thread and the concurrency is governed
+ * by semaphores instead of the size of a thread pool.
+ */
+@ConfigurationProperties("kestra.worker.virtual-threads")
+@Getter
+public class WorkerVirtualThreadsConfiguration {
+    boolean enabled = false;
+
+    /**
+     * The maximum number of jobs running concurrently on the worker, defaults to the worker number of threads when not set.
+     */
+    Integer maxConcurrency;
+
+    /**
+     * The maximum number of jobs running concurrently on the worker by task or trigger type.
+     */
+    Map<String, Integer> typeConcurrency = Map.of();
+
+    /**
+     * The minimum duration for a virtual thread pinned to its carrier thread to be reported.
+     */
+    Duration pinnedThreshold = Duration.ofMillis(20);
+}
@@ -0,0 +1,88 @@
+package io.kestra.worker;
+
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.WorkerTask;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.core.flow.Sleep;
+import io.kestra.plugin.core.log.Log;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WorkerJobConcurrencyLimiterTest {
+
+    @Test
+    void shouldLimitGlobalConcurrency() throws Exception {
+        WorkerJobConcurrencyLimiter limiter = new WorkerJobConcurrencyLimiter(1, Map.of());
+
+        WorkerJobConcurrencyLimiter.Permit permit = limiter.acquire(workerTask(log()));
+        assertThat(limiter.getAvailablePermits().get()).isZero();
+
+        CompletableFuture<WorkerJobConcurrencyLimiter.Permit> waiting = acquireAsync(limiter, workerTask(log()));
+        assertThrows(TimeoutException.class, () -> waiting.get(100, TimeUnit.MILLISECONDS));
+
+        permit.close();
+        waiting.get(5, TimeUnit.SECONDS).close();
+        assertThat(limiter.getAvailablePermits().get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLimitConcurrencyByType() throws Exception {
+        WorkerJobConcurrencyLimiter limiter = new WorkerJobConcurrencyLimiter(10, Map.of(Sleep.class.getName(), 1));
+
+        WorkerJobConcurrencyLimiter.Permit sleepPermit = limiter.acquire(workerTask(sleep()));
+
+        // other types are not limited
+        limiter.acquire(workerTask(log())).close();
+
+        CompletableFuture<WorkerJobConcurrencyLimiter.Permit> waiting = acquireAsync(limiter, workerTask(sleep()));
+        assertThrows(TimeoutException.class, () -> waiting.get(100, TimeUnit.MILLISECONDS));
+
+        sleepPermit.close();
+        waiting.get(5, TimeUnit.SECONDS).close();
+        assertThat(limiter.getAvailablePermits().get()).isEqualTo(10);
+    }
+
+    private static CompletableFuture<WorkerJobConcurrencyLimiter.Permit> acquireAsync(WorkerJobConcurrencyLimiter limiter, WorkerTask workerTask) {
+        CompletableFuture<WorkerJobConcurrencyLimiter.Permit> future = new CompletableFuture<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                future.complete(limiter.acquire(workerTask));
+            } catch (InterruptedException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private static Task log() {
+        return Log.builder().id("log").type(Log.class.getName()).message("hello").build();
+    }
+
+    private static Task sleep() {
+        return Sleep.builder().id("sleep").type(Sleep.class.getName()).build();
+    }
+
+    private static WorkerTask workerTask(Task task) {
+        return WorkerTask.builder()
+            .task(task)
+            .taskRun(TaskRun.builder()
+                .id(IdUtils.create())
+                .namespace("io.kestra.tests")
+                .flowId("flow")
+                .executionId(IdUtils.create())
+                .taskId(task.getId())
+                .state(new State())
+                .build()
+            )
+            .build();
+    }
+}